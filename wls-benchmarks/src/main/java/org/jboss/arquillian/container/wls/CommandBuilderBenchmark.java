@@ -0,0 +1,68 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the construction of the weblogic.Deployer command line through
+ * {@link CommandBuilder#buildDeployCommand()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CommandBuilderBenchmark {
+
+    private CommandBuilder builder;
+
+    @Setup
+    public void createBuilder() {
+        builder = new CommandBuilder()
+            .setClassPath("/opt/oracle/wlserver/server/lib/weblogic.jar")
+            .setAdminUrl("t3://localhost:7001")
+            .setAdminUserName("weblogic")
+            .setAdminPassword("welcome1")
+            .setDeploymentName("test")
+            .setTargets("AdminServer")
+            .setDeploymentArchivePath("/tmp/arquillian/test.war")
+            .setUseCustomTrust(true)
+            .setCustomTrustStore("/opt/oracle/trust.jks")
+            .setTrustStorePassword("changeit")
+            .setIgnoreHostNameVerification(true)
+            .setUseURandom(true);
+    }
+
+    @Benchmark
+    public List<String> buildDeployCommand() {
+        return builder.buildDeployCommand();
+    }
+}
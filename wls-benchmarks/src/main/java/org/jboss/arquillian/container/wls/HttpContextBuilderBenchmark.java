@@ -0,0 +1,80 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.arquillian.container.spi.client.protocol.metadata.HTTPContext;
+import org.jboss.arquillian.container.wls.fake.FakeWebLogicDomain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the traversal of the Domain Runtime MBean Server by {@link HttpContextBuilder}, against an in-process
+ * {@link FakeWebLogicDomain}. Since the MBean server is local, this measures the cost of the traversal on the
+ * client, and not the latency of the round-trips to the admin server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class HttpContextBuilderBenchmark {
+
+    private static final String DEPLOYMENT_NAME = "test";
+
+    /**
+     * The number of servers the application is deployed to. Multiple servers form a cluster.
+     */
+    @Param({"1", "4"})
+    private int servers;
+
+    @Param({"1", "20"})
+    private int servlets;
+
+    private FakeWebLogicDomain domain;
+    private CommonWebLogicConfiguration configuration;
+
+    @Setup
+    public void createDomain() throws Exception {
+        String[] servletNames = new String[servlets];
+        for (int i = 0; i < servlets; i++) {
+            servletNames[i] = "servlet-" + i;
+        }
+        domain = new FakeWebLogicDomain(servers).setServletNames(servletNames);
+        domain.deploy(DEPLOYMENT_NAME);
+        configuration = new CommonWebLogicConfiguration();
+        configuration.setTarget(domain.getTarget());
+    }
+
+    @Benchmark
+    public List<HTTPContext> createContexts() throws Exception {
+        return new HttpContextBuilder(DEPLOYMENT_NAME, configuration, domain.getMBeanServer(),
+            domain.getDomainRuntimeService()).createContexts();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.asset.FileAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the export of an archive to disk through {@link ShrinkWrapUtil#toFile(org.jboss.shrinkwrap.api.Archive,
+ * boolean)}, as a zip file or as an exploded directory, for a small archive and for a 200 MB archive. The contents of
+ * the archive are held either in memory or in files, since file-backed assets are linked instead of copied when the
+ * archive is exploded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class ShrinkWrapUtilBenchmark {
+
+    private static final int CHUNK_SIZE = 1024 * 1024;
+
+    /**
+     * The size of the archive in megabytes.
+     */
+    @Param({"1", "200"})
+    private int archiveSize;
+
+    @Param({"memory", "file"})
+    private String assetSource;
+
+    private WebArchive archive;
+    private File assetDirectory;
+    private File export;
+
+    @Setup(Level.Trial)
+    public void createArchive() throws IOException {
+        assetDirectory = File.createTempFile("arquillian-benchmark", "assets");
+        assetDirectory.delete();
+        assetDirectory.mkdirs();
+
+        // Random contents do not compress, so the size of the export is that of the archive.
+        Random random = new Random(archiveSize);
+        archive = ShrinkWrap.create(WebArchive.class, "benchmark.war");
+        for (int i = 0; i < archiveSize; i++) {
+            byte[] chunk = new byte[CHUNK_SIZE];
+            random.nextBytes(chunk);
+            String path = "WEB-INF/lib/chunk-" + i + ".bin";
+            if (assetSource.equals("file")) {
+                File file = new File(assetDirectory, "chunk-" + i + ".bin");
+                write(chunk, file);
+                archive.add(new FileAsset(file), path);
+            } else {
+                archive.add(new ByteArrayAsset(chunk), path);
+            }
+        }
+        for (int i = 0; i < 50; i++) {
+            archive.add(new ByteArrayAsset(("<html><body>page " + i + "</body></html>").getBytes("UTF-8")),
+                "page-" + i + ".html");
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteExport() {
+        if (export != null) {
+            delete(export.getParentFile());
+            export = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteAssets() {
+        delete(assetDirectory);
+    }
+
+    @Benchmark
+    public File exportZip() {
+        export = ShrinkWrapUtil.toFile(archive, false);
+        return export;
+    }
+
+    @Benchmark
+    public File exportExploded() {
+        export = ShrinkWrapUtil.toFile(archive, true);
+        return export;
+    }
+
+    private static void write(byte[] contents, File file) throws IOException {
+        OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(contents);
+        } finally {
+            out.close();
+        }
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
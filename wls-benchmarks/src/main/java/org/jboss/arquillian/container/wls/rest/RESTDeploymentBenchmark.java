@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls.rest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javax.ws.rs.client.Client;
+
+import org.jboss.arquillian.container.spi.client.container.DeploymentException;
+import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
+import org.jboss.arquillian.container.wls.CommonWebLogicConfiguration;
+import org.jboss.arquillian.container.wls.fake.FakeWebLogicDomain;
+import org.jboss.arquillian.container.wls.fake.FakeWebLogicServer;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput and latency of deploying and undeploying an application through the REST management API,
+ * against a {@link FakeWebLogicServer} that delays every request by a fixed latency. The difference from the latency
+ * of the requests is the overhead of the adapter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RESTDeploymentBenchmark {
+
+    private static final Logger LOGGER = Logger.getLogger(RESTDeploymentBenchmark.class.getName());
+
+    /**
+     * The time in milliseconds by which the stand-in server delays every request.
+     */
+    @Param({"0", "20"})
+    private long requestLatency;
+
+    private FakeWebLogicServer server;
+    private CommonWebLogicConfiguration configuration;
+    private Client client;
+    private WebArchive archive;
+
+    @Setup
+    public void startServer() throws Exception {
+        server = new FakeWebLogicServer(new FakeWebLogicDomain(1)).setRequestLatency(requestLatency);
+        server.start();
+
+        configuration = new CommonWebLogicConfiguration();
+        configuration.setAdminUrl(server.getAdminUrl());
+        configuration.setAdminUserName("weblogic");
+        configuration.setAdminPassword("welcome1");
+        configuration.setTarget(server.getDomain().getTarget());
+        client = RESTUtils.getClient(configuration, LOGGER);
+
+        archive = ShrinkWrap.create(WebArchive.class, "test.war")
+            .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @TearDown
+    public void stopServer() {
+        RESTUtils.closeProgressPurger(configuration);
+        client.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public ProtocolMetaData deployAndUndeploy() throws DeploymentException {
+        ProtocolMetaData metadata = RESTUtils.deploy(client, configuration, LOGGER, archive);
+        RESTUtils.undeploy(client, configuration, archive);
+        return metadata;
+    }
+}
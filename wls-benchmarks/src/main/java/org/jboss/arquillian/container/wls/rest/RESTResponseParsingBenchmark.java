@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls.rest;
+
+import java.io.StringReader;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+
+import org.jboss.arquillian.container.spi.client.protocol.metadata.HTTPContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the parsing of the responses of the REST management API, as performed by
+ * {@link RESTUtils#isServerRunning(javax.ws.rs.client.Client, org.jboss.arquillian.container.wls.CommonWebLogicConfiguration)}
+ * for the server monitoring resource, and by {@link RESTUtils#deploy} for the application resource. The responses are
+ * read from memory, so that the cost of the HTTP exchange is excluded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RESTResponseParsingBenchmark {
+
+    /**
+     * The number of servlets of the deployed application.
+     */
+    @Param({"1", "50"})
+    private int servlets;
+
+    private String serverResponse;
+    private String applicationResponse;
+    private URL adminUrl;
+
+    @Setup
+    public void createResponses() throws Exception {
+        adminUrl = new URL("http://localhost:7001");
+
+        serverResponse = Json.createObjectBuilder()
+            .add("body", Json.createObjectBuilder()
+                .add("item", Json.createObjectBuilder()
+                    .add("name", "AdminServer")
+                    .add("state", "running")
+                    .add("health", "HEALTH_OK")
+                    .add("clusterName", "")
+                    .add("currentMachine", "")
+                    .add("weblogicVersion", "WebLogic Server 12.1.3.0.0")
+                    .add("openSocketsCurrentCount", 2)
+                    .add("heapSizeCurrent", 536870912)
+                    .add("heapFreeCurrent", 221163944)
+                    .add("javaVersion", "1.7.0_80")
+                    .add("osName", "Linux")
+                    .add("osVersion", "3.10.0")
+                    .add("jvmProcessorLoad", 0.05)))
+            .add("messages", Json.createArrayBuilder())
+            .build().toString();
+
+        JsonArrayBuilder servletsBuilder = Json.createArrayBuilder();
+        for (int i = 0; i < servlets; i++) {
+            servletsBuilder.add(Json.createObjectBuilder()
+                .add("servletName", "servlet-" + i)
+                .add("contextPath", "/test"));
+        }
+        applicationResponse = Json.createObjectBuilder()
+            .add("item", Json.createObjectBuilder()
+                .add("name", "test")
+                .add("type", "application")
+                .add("state", "active")
+                .add("targets", Json.createArrayBuilder().add("AdminServer"))
+                .add("servlets", servletsBuilder))
+            .build().toString();
+    }
+
+    @Benchmark
+    public boolean parseServerState() {
+        return RESTUtils.isRunning(read(serverResponse));
+    }
+
+    @Benchmark
+    public HTTPContext parseApplication() {
+        return RESTUtils.createHTTPContext(adminUrl, read(applicationResponse));
+    }
+
+    private static JsonObject read(String response) {
+        JsonReader reader = Json.createReader(new StringReader(response));
+        try {
+            return reader.readObject();
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,452 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ArchivePath;
+import org.jboss.shrinkwrap.api.Node;
+import org.jboss.shrinkwrap.api.asset.ArchiveAsset;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.exporter.ExplodedExporter;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+
+/**
+ * An on-disk cache of exported archives, shared by all containers in the JVM.
+ * <p>
+ * Exports are keyed by a hash of the contents of the archive, so that an archive that is identical to a previously
+ * exported one is not exported again. The cache directory is shared across JVMs, and is indexed on first use.
+ * Entries that have not been used for longer than the maximum age are evicted, followed by the least recently used
+ * entries until the cache fits within the maximum size.
+ * <p>
+ * Changes to the cache directory are serialized across JVMs through a lock file, in the manner of a
+ * {@link LeaseDirectory}. An export is in use from the time it is returned until it is released through
+ * {@link #release(File)}. Every JVM holds a shared lock on the lock file of the exports it uses, so that no JVM evicts an
+ * export in use by another; the lock is released by the operating system if the JVM terminates. The staging directories
+ * of exports in progress are only deleted once they are older than {@link #STAGING_GRACE_MILLIS}, as they may belong to
+ * another JVM.
+ */
+final class ArchiveExportCache {
+
+    private static final Logger logger = Logger.getLogger(ArchiveExportCache.class.getName());
+
+    static final long STAGING_GRACE_MILLIS = 60 * 60 * 1000L;
+
+    private static final String LOCK_FILE = "cache.lock";
+    private static final String STAGING_INFIX = ".tmp-";
+    private static final String IN_USE_SUFFIX = ".inuse";
+
+    private static final ArchiveExportCache INSTANCE = new ArchiveExportCache(
+        new File(System.getProperty("java.io.tmpdir"), "arquillian-wls-export-cache"));
+
+    private final File cacheDirectory;
+
+    /**
+     * The cached exports, in the order of their last use.
+     */
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true);
+
+    /**
+     * The exports in use by this JVM, by key.
+     */
+    private final Map<String, InUse> inUse = new HashMap<String, InUse>();
+
+    private boolean indexed = false;
+
+    ArchiveExportCache(File cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    static ArchiveExportCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the exported form of the archive, exporting it only if an identical archive is not present in the cache.
+     *
+     * @param archive
+     *     Archive to export
+     * @param exploded
+     *     Specifies, whether to explode the archive
+     * @param maxSize
+     *     The maximum size of the cache in bytes
+     * @param maxAge
+     *     The maximum duration in milliseconds for which an unused export is retained
+     *
+     * @return The exported file or directory. The name of the file is the name of the archive.
+     */
+    File export(Archive<?> archive, boolean exploded, long maxSize, long maxAge) throws IOException {
+        String key = computeKey(archive, exploded);
+
+        synchronized (this) {
+            FileLock lock = lock();
+            try {
+                indexCacheDirectory();
+                CacheEntry entry = entries.get(key);
+                if (entry != null && entry.file.exists()) {
+                    acquire(key);
+                    entry.touch();
+                    logger.log(Level.FINE, "Reusing the cached export of {0} from {1}",
+                        new Object[] {archive.getName(), entry.file});
+                    evict(maxSize, maxAge);
+                    return entry.file;
+                }
+            } finally {
+                unlock(lock);
+            }
+        }
+
+        // Export outside the lock, so that distinct archives may be exported concurrently.
+        File staging = new File(cacheDirectory, key + STAGING_INFIX + UUID.randomUUID());
+        staging.mkdirs();
+        if (exploded) {
+            archive.as(ExplodedExporter.class).exportExploded(staging, archive.getName());
+        } else {
+            archive.as(ZipExporter.class).exportTo(new File(staging, archive.getName()), true);
+        }
+
+        synchronized (this) {
+            FileLock lock = lock();
+            try {
+                File entryDirectory = new File(cacheDirectory, key);
+                if (!entryDirectory.exists() && !staging.renameTo(entryDirectory)) {
+                    delete(staging);
+                    throw new IOException("Failed to move the exported archive to " + entryDirectory);
+                }
+                // Another thread or JVM may have exported an identical archive in the meantime.
+                delete(staging);
+
+                CacheEntry entry = new CacheEntry(entryDirectory, new File(entryDirectory, archive.getName()));
+                acquire(key);
+                entry.touch();
+                entries.put(key, entry);
+                evict(maxSize, maxAge);
+                return entry.file;
+            } finally {
+                unlock(lock);
+            }
+        }
+    }
+
+    /**
+     * Releases an export returned by {@link #export(Archive, boolean, long, long)}, which may then be evicted. Files that
+     * are not exports of this cache are ignored.
+     *
+     * @param file
+     *     The exported file or directory
+     */
+    synchronized void release(File file) {
+        File entryDirectory = file.getAbsoluteFile().getParentFile();
+        if (entryDirectory == null || !cacheDirectory.getAbsoluteFile().equals(entryDirectory.getParentFile())) {
+            return;
+        }
+        InUse use = inUse.get(entryDirectory.getName());
+        if (use == null) {
+            return;
+        }
+        if (--use.count == 0) {
+            inUse.remove(entryDirectory.getName());
+            try {
+                unlock(use.lock);
+            } catch (IOException ioEx) {
+                logger.log(Level.FINE, "Failed to release the lock of the export " + file, ioEx);
+            }
+        }
+    }
+
+    /**
+     * @return The number of exports in use by this JVM.
+     */
+    synchronized int getInUseCount() {
+        return inUse.size();
+    }
+
+    /**
+     * Computes a hash of the archive, covering the path and contents of every node in the archive.
+     */
+    static String computeKey(Archive<?> archive, boolean exploded) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(archive.getName().getBytes("UTF-8"));
+            digest.update((byte) (exploded ? 1 : 0));
+            updateDigest(digest, archive);
+
+            StringBuilder key = new StringBuilder();
+            for (byte b : digest.digest()) {
+                key.append(String.format("%02x", b));
+            }
+            return key.toString();
+        } catch (IOException ioEx) {
+            throw ioEx;
+        } catch (Exception ex) {
+            throw new IOException("Failed to compute the hash of " + archive.getName(), ex);
+        }
+    }
+
+    private static void updateDigest(MessageDigest digest, Archive<?> archive) throws IOException {
+        Map<ArchivePath, Node> content = archive.getContent();
+        List<ArchivePath> paths = new ArrayList<ArchivePath>(content.keySet());
+        Collections.sort(paths);
+
+        byte[] buffer = new byte[8192];
+        for (ArchivePath path : paths) {
+            digest.update(path.get().getBytes("UTF-8"));
+            digest.update((byte) 0);
+            Asset asset = content.get(path).getAsset();
+            if (asset instanceof ArchiveAsset) {
+                // The zipped form of a nested archive contains timestamps, so we'll hash its contents instead.
+                updateDigest(digest, ((ArchiveAsset) asset).getArchive());
+            } else if (asset != null) {
+                InputStream stream = asset.openStream();
+                try {
+                    int read;
+                    while ((read = stream.read(buffer)) != -1) {
+                        digest.update(buffer, 0, read);
+                    }
+                } finally {
+                    stream.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds the index from the cache directory, which may have been populated by earlier JVMs.
+     */
+    private void indexCacheDirectory() {
+        if (indexed) {
+            return;
+        }
+        indexed = true;
+        File[] directories = cacheDirectory.listFiles();
+        if (directories == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Arrays.sort(directories, new Comparator<File>() {
+            public int compare(File first, File second) {
+                long difference = first.lastModified() - second.lastModified();
+                return difference < 0 ? -1 : (difference > 0 ? 1 : 0);
+            }
+        });
+        for (File directory : directories) {
+            if (!directory.isDirectory()) {
+                // The lock files of the cache and of its entries.
+                continue;
+            }
+            if (directory.getName().contains(STAGING_INFIX)) {
+                // Leftovers of an interrupted export, unless another JVM is still exporting.
+                if (now - directory.lastModified() > STAGING_GRACE_MILLIS) {
+                    delete(directory);
+                }
+                continue;
+            }
+            File[] files = directory.listFiles();
+            if (files == null || files.length != 1) {
+                // Entries are moved into place whole while the cache is locked, so this is not an export.
+                continue;
+            }
+            entries.put(directory.getName(), new CacheEntry(directory, files[0]));
+        }
+    }
+
+    /**
+     * Evicts the expired entries, and then the least recently used ones until the cache fits within the maximum size.
+     * Entries in use by any JVM are retained.
+     */
+    private void evict(long maxSize, long maxAge) {
+        long now = System.currentTimeMillis();
+        long totalSize = 0;
+        for (Iterator<Map.Entry<String, CacheEntry>> iterator = entries.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<String, CacheEntry> entry = iterator.next();
+            if (!entry.getValue().directory.exists()) {
+                // Evicted by another JVM.
+                iterator.remove();
+            } else if (now - entry.getValue().lastAccess > maxAge && evict(entry.getKey(), entry.getValue())) {
+                logger.log(Level.FINE, "Evicted the expired export {0}", entry.getValue().file);
+                iterator.remove();
+            } else {
+                totalSize += entry.getValue().size;
+            }
+        }
+
+        // The iteration order is from the least recently used entry to the most recently used one.
+        for (Iterator<Map.Entry<String, CacheEntry>> iterator = entries.entrySet().iterator();
+            iterator.hasNext() && totalSize > maxSize; ) {
+            Map.Entry<String, CacheEntry> entry = iterator.next();
+            if (evict(entry.getKey(), entry.getValue())) {
+                logger.log(Level.FINE, "Evicted the least recently used export {0}", entry.getValue().file);
+                totalSize -= entry.getValue().size;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Deletes an entry, unless it is in use by this or another JVM.
+     *
+     * @return true if the entry was deleted.
+     */
+    private boolean evict(String key, CacheEntry entry) {
+        if (inUse.containsKey(key)) {
+            return false;
+        }
+        File inUseFile = new File(cacheDirectory, key + IN_USE_SUFFIX);
+        try {
+            RandomAccessFile lockFile = new RandomAccessFile(inUseFile, "rw");
+            try {
+                FileLock lock;
+                try {
+                    lock = lockFile.getChannel().tryLock();
+                } catch (OverlappingFileLockException overlappingEx) {
+                    // Held by another instance of the cache in this JVM.
+                    return false;
+                }
+                if (lock == null) {
+                    return false;
+                }
+                // Other JVMs only start using an entry while the cache is locked, so the entry may be deleted now.
+                delete(entry.directory);
+                inUseFile.delete();
+                return true;
+            } finally {
+                lockFile.close();
+            }
+        } catch (IOException ioEx) {
+            logger.log(Level.FINE, "Failed to determine whether the export " + entry.file + " is in use", ioEx);
+            return false;
+        }
+    }
+
+    /**
+     * Marks an entry as in use by this JVM.
+     */
+    private void acquire(String key) throws IOException {
+        InUse use = inUse.get(key);
+        if (use == null) {
+            RandomAccessFile lockFile = new RandomAccessFile(new File(cacheDirectory, key + IN_USE_SUFFIX), "rw");
+            try {
+                use = new InUse(lockFile.getChannel().lock(0, Long.MAX_VALUE, true));
+            } catch (IOException ioEx) {
+                lockFile.close();
+                throw ioEx;
+            }
+            inUse.put(key, use);
+        }
+        use.count++;
+    }
+
+    /**
+     * Acquires the lock of the cache directory, waiting for other JVMs to release it.
+     */
+    private FileLock lock() throws IOException {
+        cacheDirectory.mkdirs();
+        RandomAccessFile lockFile = new RandomAccessFile(new File(cacheDirectory, LOCK_FILE), "rw");
+        try {
+            return lockFile.getChannel().lock();
+        } catch (IOException ioEx) {
+            lockFile.close();
+            throw ioEx;
+        }
+    }
+
+    private static void unlock(FileLock lock) throws IOException {
+        try {
+            lock.release();
+        } finally {
+            lock.channel().close();
+        }
+    }
+
+    private static long sizeOf(File file) {
+        if (file.isDirectory()) {
+            long size = 0;
+            File[] children = file.listFiles();
+            if (children != null) {
+                for (File child : children) {
+                    size += sizeOf(child);
+                }
+            }
+            return size;
+        }
+        return file.length();
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    /**
+     * The use of an entry by this JVM: the number of times it is in use, and the shared lock held on its lock file.
+     */
+    private static class InUse {
+        private final FileLock lock;
+        private int count = 0;
+
+        InUse(FileLock lock) {
+            this.lock = lock;
+        }
+    }
+
+    /**
+     * A cached export. The directory is named after the key of the archive, and contains the exported file.
+     */
+    private static class CacheEntry {
+        private final File directory;
+        private final File file;
+        private final long size;
+        private long lastAccess;
+
+        CacheEntry(File directory, File file) {
+            this.directory = directory;
+            this.file = file;
+            this.size = sizeOf(file);
+            this.lastAccess = directory.lastModified();
+        }
+
+        void touch() {
+            lastAccess = System.currentTimeMillis();
+            // Record the access on disk, so that other JVMs evict entries in the same order.
+            directory.setLastModified(lastAccess);
+        }
+    }
+}
@@ -127,45 +127,88 @@ public class CommandBuilder {
      * to be used to launch weblogic.Deployer for deploying an app.
      */
     public List<String> buildDeployCommand() {
-        List<String> cmd = new ArrayList<String>();
-        // Use the same Java Home as the one used by Arquillian to launch weblogic.Deployer.
-        // This will avoid confusion over the cacerts file if used as the SSL Trust Store.
-        cmd.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
-        cmd.add("-classpath");
-        cmd.add(classPath);
-        if (useDemoTrust) {
-            cmd.add("-Dweblogic.security.TrustKeyStore=DemoTrust");
-        }
-        if (useCustomTrust) {
-            cmd.add("-Dweblogic.security.TrustKeyStore=CustomTrust");
-            cmd.add("-Dweblogic.security.CustomTrustKeyStoreFileName=" + customTrustStore);
-            cmd.add("-Dweblogic.security.TrustKeystoreType=jks");
-            if (trustStorePassword != null && !trustStorePassword.equals("")) {
-                cmd.add("-Dweblogic.security.CustomTrustKeyStorePassPhrase=" + trustStorePassword);
-            }
-        }
-        if (useJavaStandardTrust) {
-            cmd.add("-Dweblogic.security.TrustKeyStore=JavaStandardTrust");
-            if (trustStorePassword != null && !trustStorePassword.equals("")) {
-                cmd.add("-Dweblogic.security.JavaStandardTrustKeyStorePassPhrase=" + trustStorePassword);
-            }
-        }
-        if (ignoreHostNameVerification) {
-            cmd.add("-Dweblogic.security.SSL.ignoreHostnameVerification=true");
-        }
-        if (hostnameVerifierClass != null && !hostnameVerifierClass.equals("")) {
-            cmd.add("-Dweblogic.security.SSL.hostnameVerifier=" + hostnameVerifierClass);
+        List<String> cmd = buildJavaCommand(classPath);
+        cmd.add("weblogic.Deployer");
+        cmd.addAll(buildDeployArguments());
+        return cmd;
+    }
+
+    /**
+     * Constructs the commandline to be used for launching weblogic.Deployer
+     * to undeploy an app.
+     *
+     * @return A {@link List} of {@link String} that contains the commandline
+     * to be used to launch weblogic.Deployer for undeploying an app.
+     */
+    public List<String> buildUndeployCommand() {
+        List<String> cmd = buildJavaCommand(classPath);
+        cmd.add("weblogic.Deployer");
+        cmd.addAll(buildUndeployArguments());
+        return cmd;
+    }
+
+    /**
+     * Constructs the commandline to be used for launching weblogic.Deployer
+     * to redeploy an app.
+     *
+     * @return A {@link List} of {@link String} that contains the commandline
+     * to be used to launch weblogic.Deployer for redeploying an app.
+     */
+    public List<String> buildRedeployCommand() {
+        List<String> cmd = buildJavaCommand(classPath);
+        cmd.add("weblogic.Deployer");
+        cmd.addAll(buildRedeployArguments());
+        return cmd;
+    }
+
+    /**
+     * Constructs the commandline to be used for launching a {@link DeployerDaemon}, that runs weblogic.Deployer
+     * commands in a single long-lived JVM.
+     *
+     * @param daemonClassPath
+     *     The classpath entry containing the {@link DeployerDaemon} class.
+     *
+     * @return A {@link List} of {@link String} that contains the commandline to be used to launch the daemon.
+     */
+    public List<String> buildDaemonCommand(String daemonClassPath) {
+        List<String> cmd = buildJavaCommand(classPath + File.pathSeparator + daemonClassPath);
+        // The daemon traps System.exit through a SecurityManager. Java 12 to 23 only permit one to be installed at
+        // runtime when this is specified, while earlier versions would treat "allow" as the name of a class.
+        if (getJavaVersion() >= 12) {
+            cmd.add("-Djava.security.manager=allow");
         }
-        if (useURandom) {
-            cmd.add("-Djava.security.egd=file:/dev/./urandom");
+        cmd.add(DeployerDaemon.class.getName());
+        return cmd;
+    }
+
+    /**
+     * @return true if the JVM used to launch weblogic.Deployer can run a {@link DeployerDaemon}, which requires a
+     * SecurityManager that can no longer be installed from Java 24 onwards.
+     */
+    public static boolean isDeployerDaemonSupported() {
+        return getJavaVersion() < 24;
+    }
+
+    /**
+     * @return The major version of the JVM used to launch weblogic.Deployer, like 8 for "1.8" or 17 for "17".
+     */
+    static int getJavaVersion() {
+        String version = System.getProperty("java.specification.version");
+        if (version.startsWith("1.")) {
+            version = version.substring(2);
         }
-        cmd.add("weblogic.Deployer");
-        cmd.add("-adminurl");
-        cmd.add(adminUrl);
-        cmd.add("-username");
-        cmd.add(adminUserName);
-        cmd.add("-password");
-        cmd.add(adminPassword);
+        int dot = version.indexOf('.');
+        return Integer.parseInt(dot == -1 ? version : version.substring(0, dot));
+    }
+
+    /**
+     * Constructs the arguments to be passed to weblogic.Deployer to deploy an app.
+     *
+     * @return A {@link List} of {@link String} that contains the weblogic.Deployer arguments for deploying an app.
+     */
+    public List<String> buildDeployArguments() {
+        List<String> cmd = new ArrayList<String>();
+        addConnectionArguments(cmd);
         cmd.add("-deploy");
         cmd.add("-name");
         cmd.add(deploymentName);
@@ -179,19 +222,49 @@ public class CommandBuilder {
     }
 
     /**
-     * Constructs the commandline to be used for launching weblogic.Deployer
-     * to undeploy an app.
+     * Constructs the arguments to be passed to weblogic.Deployer to redeploy an app.
      *
-     * @return A {@link List} of {@link String} that contains the commandline
-     * to be used to launch weblogic.Deployer for undeploying an app.
+     * @return A {@link List} of {@link String} that contains the weblogic.Deployer arguments for redeploying an app.
      */
-    public List<String> buildUndeployCommand() {
+    public List<String> buildRedeployArguments() {
+        List<String> cmd = new ArrayList<String>();
+        addConnectionArguments(cmd);
+        cmd.add("-redeploy");
+        cmd.add("-name");
+        cmd.add(deploymentName);
+        cmd.add("-source");
+        cmd.add(deploymentArchivePath);
+        cmd.add("-targets");
+        cmd.add(targets);
+        cmd.add("-upload");
+        cmd.add("-debug");
+        return cmd;
+    }
+
+    /**
+     * Constructs the arguments to be passed to weblogic.Deployer to undeploy an app.
+     *
+     * @return A {@link List} of {@link String} that contains the weblogic.Deployer arguments for undeploying an app.
+     */
+    public List<String> buildUndeployArguments() {
+        List<String> cmd = new ArrayList<String>();
+        addConnectionArguments(cmd);
+        cmd.add("-undeploy");
+        cmd.add("-name");
+        cmd.add(deploymentName);
+        cmd.add("-targets");
+        cmd.add(targets);
+        cmd.add("-debug");
+        return cmd;
+    }
+
+    private List<String> buildJavaCommand(String javaClassPath) {
         List<String> cmd = new ArrayList<String>();
         // Use the same Java Home as the one used by Arquillian to launch weblogic.Deployer.
         // This will avoid confusion over the cacerts file if used as the SSL Trust Store.
         cmd.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
         cmd.add("-classpath");
-        cmd.add(classPath);
+        cmd.add(javaClassPath);
         if (useDemoTrust) {
             cmd.add("-Dweblogic.security.TrustKeyStore=DemoTrust");
         }
@@ -218,19 +291,15 @@ public class CommandBuilder {
         if (useURandom) {
             cmd.add("-Djava.security.egd=file:/dev/./urandom");
         }
-        cmd.add("weblogic.Deployer");
+        return cmd;
+    }
+
+    private void addConnectionArguments(List<String> cmd) {
         cmd.add("-adminurl");
         cmd.add(adminUrl);
         cmd.add("-username");
         cmd.add(adminUserName);
         cmd.add("-password");
         cmd.add(adminPassword);
-        cmd.add("-undeploy");
-        cmd.add("-name");
-        cmd.add(deploymentName);
-        cmd.add("-targets");
-        cmd.add(targets);
-        cmd.add("-debug");
-        return cmd;
     }
 }
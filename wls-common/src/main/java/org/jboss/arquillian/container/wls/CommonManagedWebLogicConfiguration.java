@@ -30,6 +30,10 @@ public class CommonManagedWebLogicConfiguration extends CommonWebLogicConfigurat
     private static final String DEFAULT_LINUX_STARTUP_SCRIPT = "./bin/startWebLogic.sh";
     private static final String DEFAULT_WIN_SHUTDOWN_SCRIPT = "bin\\\\stopWebLogic.cmd";
     private static final String DEFAULT_LINUX_SHUTDOWN_SCRIPT = "./bin/stopWebLogic.sh";
+    private static final String DEFAULT_WIN_MANAGED_STARTUP_SCRIPT = "bin\\\\startManagedWebLogic.cmd";
+    private static final String DEFAULT_LINUX_MANAGED_STARTUP_SCRIPT = "./bin/startManagedWebLogic.sh";
+    private static final String DEFAULT_WIN_MANAGED_SHUTDOWN_SCRIPT = "bin\\\\stopManagedWebLogic.cmd";
+    private static final String DEFAULT_LINUX_MANAGED_SHUTDOWN_SCRIPT = "./bin/stopManagedWebLogic.sh";
 
     private String middlewareHome = System.getenv("MW_HOME");
     private String domainDirectory;
@@ -39,6 +43,11 @@ public class CommonManagedWebLogicConfiguration extends CommonWebLogicConfigurat
     private boolean allowConnectingToRunningServer = false;
     private String startServerScript;
     private String stopServerScript;
+    private boolean startClusterMembers = false;
+    private String startManagedServerScript;
+    private String stopManagedServerScript;
+    private boolean keepWarm = false;
+    private int keepWarmIdleTimeout = 300;
 
     public CommonManagedWebLogicConfiguration() {
         super();
@@ -76,6 +85,28 @@ public class CommonManagedWebLogicConfiguration extends CommonWebLogicConfigurat
                 stopServerScript = DEFAULT_LINUX_SHUTDOWN_SCRIPT;
             }
         }
+        if (startManagedServerScript != null && startManagedServerScript.length() > 0) {
+            Validate.isValidFile(startManagedServerScript, "The startManagedServerScript resolved to "
+                + startManagedServerScript + " and could not be located. Verify the property in arquillian.xml");
+        } else {
+            String os = System.getProperty("os.name").toLowerCase();
+            if (os.startsWith("windows")) {
+                startManagedServerScript = DEFAULT_WIN_MANAGED_STARTUP_SCRIPT;
+            } else {
+                startManagedServerScript = DEFAULT_LINUX_MANAGED_STARTUP_SCRIPT;
+            }
+        }
+        if (stopManagedServerScript != null && stopManagedServerScript.length() > 0) {
+            Validate.isValidFile(stopManagedServerScript, "The stopManagedServerScript resolved to "
+                + stopManagedServerScript + " and could not be located. Verify the property in arquillian.xml");
+        } else {
+            String os = System.getProperty("os.name").toLowerCase();
+            if (os.startsWith("windows")) {
+                stopManagedServerScript = DEFAULT_WIN_MANAGED_SHUTDOWN_SCRIPT;
+            } else {
+                stopManagedServerScript = DEFAULT_LINUX_MANAGED_SHUTDOWN_SCRIPT;
+            }
+        }
         super.validate();
     }
 
@@ -182,4 +213,73 @@ public class CommonManagedWebLogicConfiguration extends CommonWebLogicConfigurat
     public void setStopServerScript(String stopServerScript) {
         this.stopServerScript = stopServerScript;
     }
+
+    public boolean isStartClusterMembers() {
+        return startClusterMembers;
+    }
+
+    /**
+     * @param startClusterMembers
+     *     Whether the members of the target cluster should be started along with the admin server, and stopped
+     *     along with it. The members are looked up in the configuration of the domain. (default = false)
+     */
+    public void setStartClusterMembers(boolean startClusterMembers) {
+        this.startClusterMembers = startClusterMembers;
+    }
+
+    public String getStartManagedServerScript() {
+        return startManagedServerScript;
+    }
+
+    /**
+     * @param startManagedServerScript
+     *     The script used to start the members of the target cluster. The name of the server and the admin URL
+     *     are passed as arguments. Defaults to the startManagedWebLogic script in the bin sub-directory of the
+     *     domain home.
+     */
+    public void setStartManagedServerScript(String startManagedServerScript) {
+        this.startManagedServerScript = startManagedServerScript;
+    }
+
+    public String getStopManagedServerScript() {
+        return stopManagedServerScript;
+    }
+
+    /**
+     * @param stopManagedServerScript
+     *     The script used to stop the members of the target cluster. The name of the server and the admin URL
+     *     are passed as arguments. Defaults to the stopManagedWebLogic script in the bin sub-directory of the
+     *     domain home.
+     */
+    public void setStopManagedServerScript(String stopManagedServerScript) {
+        this.stopManagedServerScript = stopManagedServerScript;
+    }
+
+    public boolean isKeepWarm() {
+        return keepWarm;
+    }
+
+    /**
+     * @param keepWarm
+     *     Whether the server started by Arquillian should be shared with the managed containers of other JVMs
+     *     that use the same domain, instead of being stopped when the container is stopped. The server is stopped
+     *     when the last container using it has been stopped for longer than the keepWarmIdleTimeout.
+     *     (default = false)
+     */
+    public void setKeepWarm(boolean keepWarm) {
+        this.keepWarm = keepWarm;
+    }
+
+    public int getKeepWarmIdleTimeout() {
+        return keepWarmIdleTimeout;
+    }
+
+    /**
+     * @param keepWarmIdleTimeout
+     *     The duration in seconds for which a warm server is kept running after the last container using it has
+     *     been stopped. A value of zero stops the server along with the last container. (default = 300)
+     */
+    public void setKeepWarmIdleTimeout(int keepWarmIdleTimeout) {
+        this.keepWarmIdleTimeout = keepWarmIdleTimeout;
+    }
 }
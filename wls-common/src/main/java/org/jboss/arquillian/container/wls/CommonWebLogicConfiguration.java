@@ -83,10 +83,38 @@ public class CommonWebLogicConfiguration implements ContainerConfiguration {
 
     private boolean deployExplodedArchive;
 
+    private boolean incrementalRedeploy = false;
+
+    private boolean inProcessDeployment = false;
+
+    private boolean useDeployerDaemon = false;
+
+    private int deploymentConcurrency = 1;
+
+    private int jmxConnectionPoolSize = 4;
+
+    private String httpContextSelection = HTTPContextSelectionStrategies.FIRST;
+
+    private boolean cacheArchiveExports = false;
+
+    private int archiveExportCacheMaxSize = 512;
+
+    private int archiveExportCacheMaxAge = 3600;
+
     private boolean restMessageLogging = false;
 
     private boolean restEntityLogging = false;
 
+    private int restMaxConnections = 20;
+
+    private boolean restStreamingUpload = false;
+
+    private int restIdleConnectionTimeout = 30;
+
+    private int deploymentProgressPurgeThreshold = 10;
+
+    private int deploymentProgressPurgeIdleTimeout = 30;
+
     public void validate() throws ConfigurationException {
         // Verify the mandatory properties
         if (wlsHome != null && wlsHome.length() > 0) {
@@ -194,6 +222,7 @@ public class CommonWebLogicConfiguration implements ContainerConfiguration {
             "The jmxHost is empty. Verify the adminUrl, adminListenAddress and jmxHost properties in arquillian.xml");
         Validate.isInRange(jmxPort, 0, 65535,
             "The jmxPort is invalid. Verify the adminUrl, adminListenPort and jmxPort properties in arquillian.xml");
+        HTTPContextSelectionStrategies.create(httpContextSelection);
     }
 
     public String getAdminUrl() {
@@ -495,6 +524,172 @@ public class CommonWebLogicConfiguration implements ContainerConfiguration {
         this.deployExplodedArchive = deployExplodedArchive;
     }
 
+    public boolean isIncrementalRedeploy() {
+        return incrementalRedeploy;
+    }
+
+    /**
+     * @param incrementalRedeploy
+     *     Specifies whether exploded archives should be staged incrementally, and redeployed when deployed again under
+     *     the same name, instead of being undeployed and deployed anew (default = false). Only applies when
+     *     deployExplodedArchive is enabled, and deployments are performed through weblogic.Deployer or the
+     *     Deployment Manager. Undeployments are deferred until the next deployment or the container is stopped.
+     */
+    public void setIncrementalRedeploy(boolean incrementalRedeploy) {
+        this.incrementalRedeploy = incrementalRedeploy;
+    }
+
+    public boolean isInProcessDeployment() {
+        return inProcessDeployment;
+    }
+
+    /**
+     * @param inProcessDeployment
+     *     Specifies whether deployments should be performed in-process through the Deployment Manager of the Domain
+     *     Runtime MBean Server, instead of forking a weblogic.Deployer process for every deployment (default = false).
+     *     The deployment archive must be accessible to the admin server. If the Deployment Manager is unavailable,
+     *     weblogic.Deployer is used.
+     */
+    public void setInProcessDeployment(boolean inProcessDeployment) {
+        this.inProcessDeployment = inProcessDeployment;
+    }
+
+    public boolean isUseDeployerDaemon() {
+        return useDeployerDaemon;
+    }
+
+    /**
+     * @param useDeployerDaemon
+     *     Specifies whether weblogic.Deployer should be run in a single long-lived JVM that is started along with the
+     *     container, instead of forking a new JVM for every deployment (default = false). The daemon requires Java 23
+     *     or earlier, as it relies on a SecurityManager; on later versions, weblogic.Deployer is forked.
+     */
+    public void setUseDeployerDaemon(boolean useDeployerDaemon) {
+        this.useDeployerDaemon = useDeployerDaemon;
+    }
+
+    public boolean isRestStreamingUpload() {
+        return restStreamingUpload;
+    }
+
+    /**
+     * @param restStreamingUpload
+     *     Specifies whether archives deployed through the REST management API should be streamed into a chunked
+     *     request body as they are exported, instead of being staged in a temporary file (default = false). The
+     *     archive export cache is not used for streamed uploads.
+     */
+    public void setRestStreamingUpload(boolean restStreamingUpload) {
+        this.restStreamingUpload = restStreamingUpload;
+    }
+
+    public int getDeploymentProgressPurgeThreshold() {
+        return deploymentProgressPurgeThreshold;
+    }
+
+    /**
+     * @param deploymentProgressPurgeThreshold
+     *     The number of deployments after which the completed deployment progress objects are purged from the admin
+     *     server (default = 10). WebLogic Server refuses deployments once too many progress objects are retained.
+     */
+    public void setDeploymentProgressPurgeThreshold(int deploymentProgressPurgeThreshold) {
+        this.deploymentProgressPurgeThreshold = deploymentProgressPurgeThreshold;
+    }
+
+    public int getDeploymentProgressPurgeIdleTimeout() {
+        return deploymentProgressPurgeIdleTimeout;
+    }
+
+    /**
+     * @param deploymentProgressPurgeIdleTimeout
+     *     The number of seconds after the last deployment operation after which the completed deployment progress
+     *     objects are purged in the background, even if fewer than <code>deploymentProgressPurgeThreshold</code>
+     *     operations have completed (default = 30). A value of 0 disables the idle purge.
+     */
+    public void setDeploymentProgressPurgeIdleTimeout(int deploymentProgressPurgeIdleTimeout) {
+        this.deploymentProgressPurgeIdleTimeout = deploymentProgressPurgeIdleTimeout;
+    }
+
+    public int getDeploymentConcurrency() {
+        return deploymentConcurrency;
+    }
+
+    /**
+     * @param deploymentConcurrency
+     *     The maximum number of archives of a test class that are deployed at the same time (default = 1). Values
+     *     greater than 1 enable concurrent deployment of test classes with multiple deployments, provided that no
+     *     deployment order is specified.
+     */
+    public void setDeploymentConcurrency(int deploymentConcurrency) {
+        this.deploymentConcurrency = deploymentConcurrency;
+    }
+
+    public int getJmxConnectionPoolSize() {
+        return jmxConnectionPoolSize;
+    }
+
+    /**
+     * @param jmxConnectionPoolSize
+     *     The maximum number of connections to the Domain Runtime MBean Server that are held open at the same time
+     *     (default = 4). Connections are opened on demand, so that a single connection is used unless MBean
+     *     queries are issued concurrently.
+     */
+    public void setJmxConnectionPoolSize(int jmxConnectionPoolSize) {
+        this.jmxConnectionPoolSize = jmxConnectionPoolSize;
+    }
+
+    public String getHttpContextSelection() {
+        return httpContextSelection;
+    }
+
+    /**
+     * @param httpContextSelection
+     *     The strategy that selects the cluster member through which tests reach a deployment (default = first). The
+     *     value is either first, round-robin, least-recently-used, random, health-weighted, or the name of a class
+     *     implementing {@link HTTPContextSelectionStrategy}.
+     */
+    public void setHttpContextSelection(String httpContextSelection) {
+        this.httpContextSelection = httpContextSelection;
+    }
+
+    public boolean isCacheArchiveExports() {
+        return cacheArchiveExports;
+    }
+
+    /**
+     * @param cacheArchiveExports
+     *     Specifies whether exported archives should be cached on disk, and reused when an identical archive is
+     *     deployed again (default = false).
+     */
+    public void setCacheArchiveExports(boolean cacheArchiveExports) {
+        this.cacheArchiveExports = cacheArchiveExports;
+    }
+
+    public int getArchiveExportCacheMaxSize() {
+        return archiveExportCacheMaxSize;
+    }
+
+    /**
+     * @param archiveExportCacheMaxSize
+     *     The size in megabytes beyond which the least recently used exports are evicted from the archive export
+     *     cache (default = 512).
+     */
+    public void setArchiveExportCacheMaxSize(int archiveExportCacheMaxSize) {
+        this.archiveExportCacheMaxSize = archiveExportCacheMaxSize;
+    }
+
+    public int getArchiveExportCacheMaxAge() {
+        return archiveExportCacheMaxAge;
+    }
+
+    /**
+     * @param archiveExportCacheMaxAge
+     *     The duration in seconds after which an unused export is evicted from the archive export cache
+     *     (default = 3600).
+     */
+    public void setArchiveExportCacheMaxAge(int archiveExportCacheMaxAge) {
+        this.archiveExportCacheMaxAge = archiveExportCacheMaxAge;
+    }
+
     /**
      * @param restMessageLogging
      *     The value of the logRESTMessages configuration property.
@@ -524,4 +719,29 @@ public class CommonWebLogicConfiguration implements ContainerConfiguration {
     public boolean isLogRESTEntities() {
         return restEntityLogging;
     }
+
+    public int getRestMaxConnections() {
+        return restMaxConnections;
+    }
+
+    /**
+     * @param restMaxConnections
+     *     The maximum number of pooled connections used by the REST client to communicate with the admin server
+     *     (default = 20).
+     */
+    public void setRestMaxConnections(int restMaxConnections) {
+        this.restMaxConnections = restMaxConnections;
+    }
+
+    public int getRestIdleConnectionTimeout() {
+        return restIdleConnectionTimeout;
+    }
+
+    /**
+     * @param restIdleConnectionTimeout
+     *     The duration in number of seconds after which idle pooled REST connections are closed (default = 30).
+     */
+    public void setRestIdleConnectionTimeout(int restIdleConnectionTimeout) {
+        this.restIdleConnectionTimeout = restIdleConnectionTimeout;
+    }
 }
@@ -0,0 +1,380 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.arquillian.container.spi.client.container.DeploymentException;
+import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
+import org.jboss.shrinkwrap.api.Archive;
+
+/**
+ * Deploys archives through a pipeline of two stages, ahead of the calls made by Arquillian to deploy them one after
+ * another.
+ * <p>
+ * An archive is first exported locally, and then activated: transferred to the server, activated, verified, and
+ * described by its protocol metadata. Exports are performed in the order of submission by a single thread, and
+ * activations by a bounded pool of threads, so that an archive is exported while the archives before it are being
+ * activated, even when activations are performed one at a time.
+ * <p>
+ * The archives of a test class are submitted together through {@link #submit(List, Deployment)}, when Arquillian is
+ * about to deploy the managed deployments of the test class. Every subsequent call to
+ * {@link #deploy(Archive, Deployment)} waits for the result of the corresponding archive, so that the total time taken
+ * approaches that of the slowest archive. Archives that were not submitted are deployed in the calling thread. An
+ * archive may also be submitted on its own through {@link #submit(Archive, Deployment)}, to obtain its result
+ * asynchronously.
+ * <p>
+ * When the pipeline is closed before every submitted archive was obtained, archives whose activation has not started
+ * are skipped, activations in flight are allowed to complete for a bounded time, and the applications deployed for
+ * archives that were never obtained are undeployed, so that no deployment outlives the container. The same is done
+ * through {@link #discardPending()} once Arquillian has undeployed the deployments of a test class, since the archives
+ * after a failed deployment are never obtained, and would otherwise remain deployed under their names.
+ */
+public class ConcurrentDeployer {
+
+    private static final Logger logger = Logger.getLogger(ConcurrentDeployer.class.getName());
+
+    /**
+     * The default number of seconds that {@link #close()} waits for activations in flight.
+     */
+    public static final long DEFAULT_CLOSE_TIMEOUT = 300;
+
+    private final int maxConcurrency;
+
+    private final long closeTimeoutMillis;
+
+    private final Map<Archive<?>, PendingDeployment> pendingDeployments =
+        new IdentityHashMap<Archive<?>, PendingDeployment>();
+
+    private ExecutorService exportExecutor;
+
+    private ExecutorService activationExecutor;
+
+    private AtomicBoolean closed;
+
+    /**
+     * The stages that deploy a single archive.
+     *
+     * @param <E>
+     *     The type of the exported archive
+     */
+    public interface Deployment<E> {
+
+        /**
+         * Exports the archive locally, ahead of its activation.
+         *
+         * @return The exported archive, or <code>null</code> if the archive is exported during its activation.
+         */
+        E export(Archive<?> archive) throws DeploymentException;
+
+        /**
+         * Transfers the exported archive to the server, activates it, and verifies the deployment.
+         *
+         * @return The metadata for the deployed application
+         */
+        ProtocolMetaData activate(Archive<?> archive, E export) throws DeploymentException;
+
+        /**
+         * Undeploys an archive that was activated, but whose result was never obtained.
+         */
+        void undeploy(Archive<?> archive) throws DeploymentException;
+    }
+
+    /**
+     * The result of a submitted archive that has not been obtained yet, along with the stages that deployed it.
+     */
+    private static class PendingDeployment {
+
+        private final Future<ProtocolMetaData> result;
+
+        private final Deployment<?> deployment;
+
+        /**
+         * Set when the result is no longer needed, so that the stages that have not started are skipped.
+         */
+        private final AtomicBoolean discarded;
+
+        PendingDeployment(Future<ProtocolMetaData> result, Deployment<?> deployment, AtomicBoolean discarded) {
+            this.result = result;
+            this.deployment = deployment;
+            this.discarded = discarded;
+        }
+    }
+
+    /**
+     * @param maxConcurrency
+     *     The maximum number of archives to activate at the same time.
+     */
+    public ConcurrentDeployer(int maxConcurrency) {
+        this(maxConcurrency, TimeUnit.SECONDS.toMillis(DEFAULT_CLOSE_TIMEOUT));
+    }
+
+    /**
+     * @param maxConcurrency
+     *     The maximum number of archives to activate at the same time.
+     * @param closeTimeoutMillis
+     *     The maximum number of milliseconds that {@link #close()} waits for activations in flight.
+     */
+    public ConcurrentDeployer(int maxConcurrency, long closeTimeoutMillis) {
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.closeTimeoutMillis = closeTimeoutMillis;
+    }
+
+    /**
+     * @return true if archives will be activated concurrently when submitted; Otherwise, false.
+     */
+    public boolean isEnabled() {
+        return maxConcurrency > 1;
+    }
+
+    /**
+     * Starts deploying the archives in the background, when concurrent deployment is enabled. Otherwise, the archives
+     * are deployed one after another when Arquillian deploys them.
+     *
+     * @param archives
+     *     The archives to deploy. These must not depend on each other.
+     * @param deployment
+     *     The stages to perform for every archive
+     */
+    public synchronized <E> void submit(List<Archive<?>> archives, Deployment<E> deployment) {
+        if (!isEnabled() || archives.size() < 2) {
+            return;
+        }
+        logger.log(Level.FINE, "Deploying {0} archives with at most {1} concurrent activations",
+            new Object[] {archives.size(), maxConcurrency});
+        for (Archive<?> archive : archives) {
+            AtomicBoolean discarded = new AtomicBoolean();
+            pendingDeployments.put(archive,
+                new PendingDeployment(submit(archive, deployment, discarded), deployment, discarded));
+        }
+    }
+
+    /**
+     * Starts deploying an archive in the background.
+     *
+     * @param archive
+     *     The archive to deploy
+     * @param deployment
+     *     The stages to perform for the archive
+     *
+     * @return The result of the deployment
+     */
+    public synchronized <E> Future<ProtocolMetaData> submit(Archive<?> archive, Deployment<E> deployment) {
+        return submit(archive, deployment, new AtomicBoolean());
+    }
+
+    private <E> Future<ProtocolMetaData> submit(final Archive<?> archive, final Deployment<E> deployment,
+        final AtomicBoolean discarded) {
+        if (exportExecutor == null) {
+            exportExecutor = Executors.newSingleThreadExecutor(createThreadFactory("arquillian-wls-exporter-"));
+            activationExecutor =
+                Executors.newFixedThreadPool(maxConcurrency, createThreadFactory("arquillian-wls-deployer-"));
+            closed = new AtomicBoolean();
+        }
+        // Captured by the stages, so that closing this pipeline does not affect a pipeline started later.
+        final AtomicBoolean pipelineClosed = closed;
+        final Future<E> export = exportExecutor.submit(new Callable<E>() {
+            public E call() throws Exception {
+                checkNotSkipped(archive, pipelineClosed, discarded);
+                return deployment.export(archive);
+            }
+        });
+        return activationExecutor.submit(new Callable<ProtocolMetaData>() {
+            public ProtocolMetaData call() throws Exception {
+                E exported;
+                try {
+                    exported = export.get();
+                } catch (ExecutionException executionEx) {
+                    throw unwrap(archive, executionEx);
+                }
+                checkNotSkipped(archive, pipelineClosed, discarded);
+                return deployment.activate(archive, exported);
+            }
+        });
+    }
+
+    /**
+     * Obtains the result of an archive submitted earlier, waiting for its deployment to complete. If the archive was not
+     * submitted, it is deployed in the calling thread.
+     *
+     * @param archive
+     *     The archive to deploy
+     * @param deployment
+     *     The stages to perform if the archive was not submitted
+     *
+     * @return The metadata for the deployed application
+     *
+     * @throws DeploymentException
+     *     When the deployment of the archive failed.
+     */
+    public <E> ProtocolMetaData deploy(Archive<?> archive, Deployment<E> deployment) throws DeploymentException {
+        PendingDeployment pendingDeployment;
+        synchronized (this) {
+            pendingDeployment = pendingDeployments.remove(archive);
+        }
+        if (pendingDeployment == null) {
+            return deployment.activate(archive, deployment.export(archive));
+        }
+        return await(archive, pendingDeployment.result);
+    }
+
+    /**
+     * Waits for the result of a deployment submitted through {@link #submit(Archive, Deployment)}.
+     *
+     * @param archive
+     *     The archive that was submitted
+     * @param pendingDeployment
+     *     The result of the deployment
+     *
+     * @return The metadata for the deployed application
+     *
+     * @throws DeploymentException
+     *     When the deployment of the archive failed.
+     */
+    public static ProtocolMetaData await(Archive<?> archive, Future<ProtocolMetaData> pendingDeployment)
+        throws DeploymentException {
+        try {
+            return pendingDeployment.get();
+        } catch (InterruptedException interruptEx) {
+            Thread.currentThread().interrupt();
+            throw new DeploymentException("Interrupted while waiting for the deployment of " + archive.getName(),
+                interruptEx);
+        } catch (ExecutionException executionEx) {
+            Exception cause = unwrap(archive, executionEx);
+            if (cause instanceof DeploymentException) {
+                throw (DeploymentException) cause;
+            }
+            throw (RuntimeException) cause;
+        }
+    }
+
+    /**
+     * Discards the submitted archives whose results were not obtained. Archives whose activation has not started are
+     * skipped, and activations in flight are awaited for at most the close timeout. The applications of the archives
+     * that were deployed nevertheless are then undeployed. The pipeline remains open.
+     */
+    public synchronized void discardPending() {
+        if (pendingDeployments.isEmpty()) {
+            return;
+        }
+        for (PendingDeployment pendingDeployment : pendingDeployments.values()) {
+            pendingDeployment.discarded.set(true);
+        }
+        undeployPending();
+    }
+
+    /**
+     * Stops the pipeline. Archives whose activation has not started are skipped, and activations in flight are awaited
+     * for at most the close timeout, without being interrupted. The applications of submitted archives whose results
+     * were not obtained are then undeployed. Archives submitted later start a new pipeline.
+     */
+    public synchronized void close() {
+        if (exportExecutor == null) {
+            return;
+        }
+        closed.set(true);
+        exportExecutor.shutdown();
+        activationExecutor.shutdown();
+        undeployPending();
+        exportExecutor = null;
+        activationExecutor = null;
+        closed = null;
+    }
+
+    /**
+     * Waits for the pending deployments for at most the close timeout, and undeploys those that succeeded.
+     */
+    private void undeployPending() {
+        long deadline = System.currentTimeMillis() + closeTimeoutMillis;
+        for (Map.Entry<Archive<?>, PendingDeployment> entry : pendingDeployments.entrySet()) {
+            Archive<?> archive = entry.getKey();
+            PendingDeployment pendingDeployment = entry.getValue();
+            try {
+                pendingDeployment.result.get(Math.max(0, deadline - System.currentTimeMillis()),
+                    TimeUnit.MILLISECONDS);
+            } catch (ExecutionException executionEx) {
+                // The archive was skipped, or failed to deploy; there is nothing to undeploy.
+                continue;
+            } catch (TimeoutException timeoutEx) {
+                logger.log(Level.WARNING, "Timed out waiting for the deployment of {0}. It may remain deployed.",
+                    archive.getName());
+                continue;
+            } catch (InterruptedException interruptEx) {
+                Thread.currentThread().interrupt();
+                logger.log(Level.WARNING,
+                    "Interrupted while waiting for the deployment of {0}. It may remain deployed.", archive.getName());
+                continue;
+            }
+            try {
+                logger.log(Level.INFO, "Undeploying {0}, which was deployed but never used.", archive.getName());
+                pendingDeployment.deployment.undeploy(archive);
+            } catch (Exception ex) {
+                logger.log(Level.WARNING, "Failed to undeploy " + archive.getName(), ex);
+            }
+        }
+        pendingDeployments.clear();
+    }
+
+    private static void checkNotSkipped(Archive<?> archive, AtomicBoolean pipelineClosed, AtomicBoolean discarded)
+        throws DeploymentException {
+        if (pipelineClosed.get()) {
+            throw new DeploymentException("The deployment of " + archive.getName()
+                + " was skipped, as the container is stopping.");
+        } else if (discarded.get()) {
+            throw new DeploymentException("The deployment of " + archive.getName()
+                + " was skipped, as it is no longer needed.");
+        }
+    }
+
+    /**
+     * @return The cause of a failed stage, as either a {@link DeploymentException} or a {@link RuntimeException}.
+     */
+    private static Exception unwrap(Archive<?> archive, ExecutionException executionEx) {
+        Throwable cause = executionEx.getCause();
+        if (cause instanceof DeploymentException || cause instanceof RuntimeException) {
+            return (Exception) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new DeploymentException("Failed to deploy " + archive.getName(), cause);
+    }
+
+    private static ThreadFactory createThreadFactory(final String namePrefix) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.arquillian.container.spi.Container;
+import org.jboss.arquillian.container.spi.ContainerRegistry;
+import org.jboss.arquillian.container.spi.client.container.DeployableContainer;
+import org.jboss.arquillian.container.spi.client.deployment.Deployment;
+import org.jboss.arquillian.container.spi.client.deployment.DeploymentDescription;
+import org.jboss.arquillian.container.spi.client.deployment.DeploymentScenario;
+import org.jboss.arquillian.container.spi.client.deployment.TargetDescription;
+import org.jboss.arquillian.container.spi.event.DeployManagedDeployments;
+import org.jboss.arquillian.container.spi.event.UnDeployManagedDeployments;
+import org.jboss.arquillian.core.api.Instance;
+import org.jboss.arquillian.core.api.annotation.Inject;
+import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.shrinkwrap.api.Archive;
+
+/**
+ * Hands the managed deployments of a test class to a {@link ConcurrentlyDeployableContainer}, before Arquillian
+ * deploys them one after another.
+ * <p>
+ * Deployments are handed over only when a started container has more than one of them, and when no explicit
+ * deployment order has been specified, since ordered deployments may depend on each other. When the deployments of the
+ * test class are undeployed, the containers discard the deployments that were handed over but never obtained, such as
+ * those following a failed deployment, so that they do not remain deployed for the rest of the test suite.
+ */
+public class ConcurrentDeploymentObserver {
+
+    private static final Logger logger = Logger.getLogger(ConcurrentDeploymentObserver.class.getName());
+
+    @Inject
+    private Instance<DeploymentScenario> deploymentScenario;
+
+    @Inject
+    private Instance<ContainerRegistry> containerRegistry;
+
+    public void deployConcurrently(@Observes(precedence = 100) DeployManagedDeployments event) {
+        DeploymentScenario scenario = deploymentScenario.get();
+        ContainerRegistry registry = containerRegistry.get();
+        if (scenario == null || registry == null) {
+            return;
+        }
+
+        Map<TargetDescription, List<DeploymentDescription>> deploymentsByTarget =
+            new LinkedHashMap<TargetDescription, List<DeploymentDescription>>();
+        for (Deployment deployment : scenario.managedDeploymentsInDeployOrder()) {
+            DeploymentDescription description = deployment.getDescription();
+            if (description.isArchiveDeployment()) {
+                List<DeploymentDescription> descriptions = deploymentsByTarget.get(description.getTarget());
+                if (descriptions == null) {
+                    descriptions = new ArrayList<DeploymentDescription>();
+                    deploymentsByTarget.put(description.getTarget(), descriptions);
+                }
+                descriptions.add(description);
+            }
+        }
+
+        for (Map.Entry<TargetDescription, List<DeploymentDescription>> entry : deploymentsByTarget.entrySet()) {
+            List<DeploymentDescription> descriptions = entry.getValue();
+            if (descriptions.size() < 2) {
+                continue;
+            }
+            Container container = registry.getContainer(entry.getKey());
+            if (container == null || container.getState() != Container.State.STARTED) {
+                continue;
+            }
+            DeployableContainer<?> deployableContainer = container.getDeployableContainer();
+            if (!(deployableContainer instanceof ConcurrentlyDeployableContainer)) {
+                continue;
+            }
+
+            List<Archive<?>> archives = new ArrayList<Archive<?>>();
+            for (DeploymentDescription description : descriptions) {
+                if (description.getOrder() != descriptions.get(0).getOrder()) {
+                    logger.log(Level.FINE, "The deployments for {0} are ordered. They will be deployed sequentially.",
+                        container.getName());
+                    archives = null;
+                    break;
+                }
+                // Arquillian deploys the testable archive, when one is available.
+                archives.add(description.getTestableArchive() != null ? description.getTestableArchive()
+                    : description.getArchive());
+            }
+            if (archives != null) {
+                ((ConcurrentlyDeployableContainer) deployableContainer).deployConcurrently(archives);
+            }
+        }
+    }
+
+    public void discardConcurrentDeployments(@Observes UnDeployManagedDeployments event) {
+        ContainerRegistry registry = containerRegistry.get();
+        if (registry == null) {
+            return;
+        }
+        for (Container container : registry.getContainers()) {
+            DeployableContainer<?> deployableContainer = container.getDeployableContainer();
+            if (container.getState() == Container.State.STARTED
+                && deployableContainer instanceof ConcurrentlyDeployableContainer) {
+                ((ConcurrentlyDeployableContainer) deployableContainer).discardConcurrentDeployments();
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.util.List;
+import java.util.concurrent.Future;
+
+import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
+import org.jboss.shrinkwrap.api.Archive;
+
+/**
+ * Implemented by containers that can deploy multiple archives concurrently.
+ * @see ConcurrentDeploymentObserver
+ */
+public interface ConcurrentlyDeployableContainer {
+
+    /**
+     * Starts deploying the archives in the background. The result of every archive is obtained when Arquillian
+     * subsequently deploys the archive.
+     *
+     * @param archives
+     *     The archives to deploy, in the order in which Arquillian will deploy them.
+     */
+    void deployConcurrently(List<Archive<?>> archives);
+
+    /**
+     * Undeploys the archives started through {@link #deployConcurrently(List)} whose results were never obtained,
+     * typically because the deployment of an earlier archive of the test class failed.
+     */
+    void discardConcurrentDeployments();
+
+    /**
+     * Starts deploying an archive in the background, without blocking the calling thread.
+     *
+     * @param archive
+     *     The archive to deploy
+     *
+     * @return The result of the deployment, which fails with a
+     * {@link org.jboss.arquillian.container.spi.client.container.DeploymentException} when the deployment fails.
+     */
+    Future<ProtocolMetaData> deployAsync(Archive<?> archive);
+}
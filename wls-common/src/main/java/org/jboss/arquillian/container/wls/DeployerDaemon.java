@@ -0,0 +1,229 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.security.Permission;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A long-lived helper process that runs weblogic.Deployer commands on behalf of {@link WebLogicDeployerClient}.
+ * <p>
+ * The daemon is launched once per container start, with weblogic.jar on its classpath. It reads one command per line
+ * from its standard input, where every argument for weblogic.Deployer is escaped and terminated by a tab, so that
+ * empty arguments and arguments containing tabs or line breaks are preserved. The output of every command is written
+ * back to the standard output as lines prefixed with {@link #OUTPUT_PREFIX}, followed by a single line with
+ * {@link #END_PREFIX} and the exit status of the command. Since weblogic.Deployer terminates the JVM on completion,
+ * calls to {@link System#exit(int)} are trapped through a SecurityManager and reported as the exit status. The daemon
+ * therefore runs only on Java 23 and earlier; see {@link CommandBuilder#isDeployerDaemonSupported()}.
+ * <p>
+ * This class runs outside Arquillian, and must therefore depend only on the JDK and weblogic.jar.
+ */
+public final class DeployerDaemon {
+
+    static final String READY = "READY";
+    static final String QUIT = "QUIT";
+    static final String OUTPUT_PREFIX = "OUT ";
+    static final String END_PREFIX = "END ";
+    static final char ARGUMENT_TERMINATOR = '\t';
+
+    private DeployerDaemon() {
+    }
+
+    @SuppressWarnings("removal")
+    public static void main(String[] args) throws Exception {
+        PrintStream protocolOut = new PrintStream(System.out, true, "UTF-8");
+        PrintStream originalErr = System.err;
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, "UTF-8"));
+
+        Method deployerMain = Class.forName("weblogic.Deployer").getMethod("main", String[].class);
+        ExitTrappingSecurityManager securityManager = new ExitTrappingSecurityManager();
+        System.setSecurityManager(securityManager);
+        protocolOut.println(READY);
+
+        String line;
+        while ((line = in.readLine()) != null && !line.equals(QUIT)) {
+            String[] deployerArgs;
+            try {
+                deployerArgs = decodeArguments(line);
+            } catch (IllegalArgumentException invalidEx) {
+                protocolOut.println(OUTPUT_PREFIX + invalidEx.getMessage());
+                protocolOut.println(END_PREFIX + 1);
+                continue;
+            }
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            PrintStream capture = new PrintStream(buffer, true, "UTF-8");
+            int exitStatus = 0;
+            System.setOut(capture);
+            System.setErr(capture);
+            try {
+                deployerMain.invoke(null, (Object) deployerArgs);
+            } catch (InvocationTargetException invocationEx) {
+                Throwable cause = invocationEx.getCause();
+                if (cause instanceof ExitTrappedException) {
+                    exitStatus = ((ExitTrappedException) cause).getStatus();
+                } else {
+                    exitStatus = 1;
+                    cause.printStackTrace(capture);
+                }
+            } finally {
+                System.setOut(protocolOut);
+                System.setErr(originalErr);
+            }
+
+            capture.flush();
+            BufferedReader output = new BufferedReader(new InputStreamReader(
+                new ByteArrayInputStream(buffer.toByteArray()), "UTF-8"));
+            String outputLine;
+            while ((outputLine = output.readLine()) != null) {
+                protocolOut.println(OUTPUT_PREFIX + outputLine);
+            }
+            protocolOut.println(END_PREFIX + exitStatus);
+        }
+
+        securityManager.allowExit();
+        System.exit(0);
+    }
+
+    /**
+     * Encodes the arguments of a command as a single line, that is decoded by {@link #decodeArguments(String)}.
+     */
+    static String encodeArguments(List<String> arguments) {
+        StringBuilder line = new StringBuilder();
+        for (String argument : arguments) {
+            for (int i = 0; i < argument.length(); i++) {
+                char c = argument.charAt(i);
+                switch (c) {
+                    case '\\':
+                        line.append("\\\\");
+                        break;
+                    case '\t':
+                        line.append("\\t");
+                        break;
+                    case '\n':
+                        line.append("\\n");
+                        break;
+                    case '\r':
+                        line.append("\\r");
+                        break;
+                    default:
+                        line.append(c);
+                }
+            }
+            line.append(ARGUMENT_TERMINATOR);
+        }
+        return line.toString();
+    }
+
+    /**
+     * Decodes the arguments of a command encoded by {@link #encodeArguments(List)}.
+     *
+     * @throws IllegalArgumentException
+     *     When the line is not a valid encoding.
+     */
+    static String[] decodeArguments(String line) {
+        List<String> arguments = new ArrayList<String>();
+        StringBuilder argument = new StringBuilder();
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == ARGUMENT_TERMINATOR) {
+                arguments.add(argument.toString());
+                argument.setLength(0);
+            } else if (c == '\\') {
+                if (++i == line.length()) {
+                    throw new IllegalArgumentException("Incomplete escape sequence in " + line);
+                }
+                char escaped = line.charAt(i);
+                switch (escaped) {
+                    case '\\':
+                        argument.append('\\');
+                        break;
+                    case 't':
+                        argument.append('\t');
+                        break;
+                    case 'n':
+                        argument.append('\n');
+                        break;
+                    case 'r':
+                        argument.append('\r');
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Invalid escape sequence \\" + escaped + " in " + line);
+                }
+            } else {
+                argument.append(c);
+            }
+        }
+        if (argument.length() > 0) {
+            throw new IllegalArgumentException("Unterminated argument in " + line);
+        }
+        return arguments.toArray(new String[arguments.size()]);
+    }
+
+    /**
+     * Thrown in place of terminating the JVM, when weblogic.Deployer invokes {@link System#exit(int)}.
+     */
+    private static class ExitTrappedException extends SecurityException {
+        private static final long serialVersionUID = 1L;
+
+        private final int status;
+
+        ExitTrappedException(int status) {
+            super("System.exit(" + status + ") was trapped");
+            this.status = status;
+        }
+
+        int getStatus() {
+            return status;
+        }
+    }
+
+    /**
+     * Permits all operations, except for termination of the JVM by weblogic.Deployer.
+     */
+    @SuppressWarnings("removal")
+    private static class ExitTrappingSecurityManager extends SecurityManager {
+
+        private volatile boolean exitAllowed = false;
+
+        void allowExit() {
+            exitAllowed = true;
+        }
+
+        @Override
+        public void checkPermission(Permission perm) {
+        }
+
+        @Override
+        public void checkPermission(Permission perm, Object context) {
+        }
+
+        @Override
+        public void checkExit(int status) {
+            if (!exitAllowed) {
+                throw new ExitTrappedException(status);
+            }
+        }
+    }
+}
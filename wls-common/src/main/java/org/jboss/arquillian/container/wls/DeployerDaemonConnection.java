@@ -0,0 +1,184 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The command channel to a {@link DeployerDaemon} process. The daemon is started when the connection is opened, and
+ * runs until the connection is closed. Commands are sent over the standard input of the daemon, and the results are
+ * read from its standard output.
+ * <p>
+ * The daemon must report that it is ready within {@link #STARTUP_TIMEOUT_MILLIS}, or it is terminated.
+ */
+class DeployerDaemonConnection {
+
+    private static final Logger logger = Logger.getLogger(DeployerDaemonConnection.class.getName());
+
+    static final long STARTUP_TIMEOUT_MILLIS = 60000L;
+
+    private Process daemon;
+    private BufferedReader reader;
+    private Writer writer;
+
+    /**
+     * Launches the daemon process and waits for it to become ready.
+     *
+     * @param builder
+     *     The command builder containing the JVM settings for weblogic.Deployer.
+     *
+     * @throws IOException
+     *     When the daemon could not be launched, is not supported by the JVM, or was not ready in time.
+     */
+    public void open(CommandBuilder builder) throws IOException {
+        if (!CommandBuilder.isDeployerDaemonSupported()) {
+            throw new IOException("The weblogic.Deployer daemon requires a SecurityManager, which cannot be installed "
+                + "on Java " + CommandBuilder.getJavaVersion());
+        }
+        String daemonClassPath;
+        try {
+            daemonClassPath = new File(DeployerDaemon.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                .getAbsolutePath();
+        } catch (Exception ex) {
+            throw new IOException("Failed to locate the classpath entry for " + DeployerDaemon.class.getName(), ex);
+        }
+
+        ProcessBuilder processBuilder = new ProcessBuilder(builder.buildDaemonCommand(daemonClassPath));
+        processBuilder.redirectErrorStream(true);
+        daemon = processBuilder.start();
+        reader = new BufferedReader(new InputStreamReader(daemon.getInputStream(), "UTF-8"));
+        writer = new OutputStreamWriter(daemon.getOutputStream(), "UTF-8");
+
+        // Terminating the daemon ends the stream, and thereby a read that would otherwise block indefinitely. Either the
+        // reader or the watchdog settles the startup, whichever comes first.
+        final Process starting = daemon;
+        final AtomicBoolean settled = new AtomicBoolean(false);
+        Thread watchdog = new Thread(new Runnable() {
+            public void run() {
+                try {
+                    Thread.sleep(STARTUP_TIMEOUT_MILLIS);
+                } catch (InterruptedException interruptEx) {
+                    return;
+                }
+                if (settled.compareAndSet(false, true)) {
+                    starting.destroy();
+                }
+            }
+        }, "arquillian-wls-deployer-daemon-watchdog");
+        watchdog.setDaemon(true);
+        watchdog.start();
+        boolean timedOut;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.equals(DeployerDaemon.READY)) {
+                    break;
+                }
+                logger.log(Level.FINE, line);
+            }
+            timedOut = !settled.compareAndSet(false, true);
+            if (line != null && !timedOut) {
+                logger.log(Level.INFO, "Started the weblogic.Deployer daemon.");
+                return;
+            }
+        } catch (IOException ioEx) {
+            timedOut = !settled.compareAndSet(false, true);
+            if (!timedOut) {
+                close();
+                throw ioEx;
+            }
+        } finally {
+            watchdog.interrupt();
+        }
+        close();
+        if (timedOut) {
+            throw new IOException("The weblogic.Deployer daemon was not ready within " + STARTUP_TIMEOUT_MILLIS
+                + " ms.");
+        }
+        throw new IOException("The weblogic.Deployer daemon terminated before it was ready.");
+    }
+
+    /**
+     * Runs weblogic.Deployer with the specified arguments in the daemon.
+     *
+     * @param deployerArgs
+     *     The arguments for weblogic.Deployer
+     *
+     * @return The result of the command
+     *
+     * @throws IOException
+     *     When the daemon could not be communicated with, or has terminated.
+     */
+    public synchronized DeployerResult execute(List<String> deployerArgs) throws IOException {
+        if (daemon == null) {
+            throw new IOException("The weblogic.Deployer daemon is not running.");
+        }
+
+        writer.write(DeployerDaemon.encodeArguments(deployerArgs));
+        writer.write('\n');
+        writer.flush();
+
+        StringBuilder output = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.startsWith(DeployerDaemon.END_PREFIX)) {
+                int exitStatus = Integer.parseInt(line.substring(DeployerDaemon.END_PREFIX.length()).trim());
+                return new DeployerResult(exitStatus, output.toString());
+            } else if (line.startsWith(DeployerDaemon.OUTPUT_PREFIX)) {
+                line = line.substring(DeployerDaemon.OUTPUT_PREFIX.length());
+            }
+            logger.log(Level.FINE, line);
+            output.append(line);
+            output.append('\n');
+        }
+
+        close();
+        throw new IOException("The weblogic.Deployer daemon terminated unexpectedly. The output was:\n" + output);
+    }
+
+    /**
+     * Asks the daemon to terminate, and releases the resources held by this connection.
+     */
+    public synchronized void close() {
+        if (daemon == null) {
+            return;
+        }
+        try {
+            writer.write(DeployerDaemon.QUIT);
+            writer.write('\n');
+            writer.flush();
+            daemon.waitFor();
+        } catch (IOException ioEx) {
+            // The daemon has probably terminated already.
+            logger.log(Level.FINEST, "Failed to send the quit command to the weblogic.Deployer daemon.", ioEx);
+        } catch (InterruptedException interruptEx) {
+            Thread.currentThread().interrupt();
+        } finally {
+            daemon.destroy();
+            daemon = null;
+        }
+    }
+}
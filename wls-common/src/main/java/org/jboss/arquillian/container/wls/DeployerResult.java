@@ -0,0 +1,80 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * The outcome of a weblogic.Deployer command, whether executed in a forked process or by a {@link DeployerDaemon}.
+ */
+public class DeployerResult {
+
+    /**
+     * Matches lines carrying a message ID of weblogic.Deployer, like "[Deployer:149001]...", or of WebLogic Server, like
+     * "&lt;BEA-149205&gt;...". Lines that merely contain words like "Error" are not reported, as they are also found in
+     * application names and descriptors.
+     */
+    private static final Pattern ERROR_PATTERN = Pattern.compile(".*(\\[Deployer:\\d{6}\\]|\\bBEA-\\d{6}\\b).*");
+
+    private final int exitStatus;
+    private final String output;
+    private final List<String> errors;
+
+    public DeployerResult(int exitStatus, String output) {
+        this.exitStatus = exitStatus;
+        this.output = output;
+        this.errors = parseErrors(output);
+    }
+
+    /**
+     * @return The exit status of weblogic.Deployer
+     */
+    public int getExitStatus() {
+        return exitStatus;
+    }
+
+    /**
+     * @return The complete output of weblogic.Deployer
+     */
+    public String getOutput() {
+        return output;
+    }
+
+    /**
+     * @return The lines of the output that report errors.
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public boolean isSuccessful() {
+        return exitStatus == 0;
+    }
+
+    private static List<String> parseErrors(String output) {
+        List<String> errors = new ArrayList<String>();
+        for (String line : output.split("\n")) {
+            if (ERROR_PATTERN.matcher(line).matches()) {
+                errors.add(line.trim());
+            }
+        }
+        return Collections.unmodifiableList(errors);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Purges the completed deployment progress objects of the admin server in batches, off the deployment path.
+ * <p>
+ * WebLogic Server retains a progress object for every deployment operation, and refuses further deployments once too
+ * many of them are retained. Instead of removing the progress object of every operation as soon as it completes, the
+ * completed operations are counted, and all completed progress objects are purged in the background, either once the
+ * count reaches a threshold, or once no operation has completed for an idle timeout. Operations that completed since
+ * the last purge are purged when the purger is closed.
+ */
+public class DeploymentProgressPurger {
+
+    private static final Logger logger = Logger.getLogger(DeploymentProgressPurger.class.getName());
+
+    /**
+     * The operation that purges all completed deployment progress objects.
+     */
+    public interface Purge {
+        void purge() throws Exception;
+    }
+
+    private final int threshold;
+    private final long idleTimeoutMillis;
+    private final Purge purge;
+    private final ScheduledThreadPoolExecutor executor;
+
+    private int completedOperations = 0;
+    private ScheduledFuture<?> scheduledPurge;
+    private boolean closed = false;
+
+    /**
+     * @param threshold
+     *     The number of completed operations after which the progress objects are purged
+     * @param idleTimeoutMillis
+     *     The time after the last completed operation after which the progress objects are purged, or zero to purge
+     *     them only once the threshold is reached
+     * @param purge
+     *     The operation that purges the progress objects
+     */
+    public DeploymentProgressPurger(int threshold, long idleTimeoutMillis, Purge purge) {
+        this.threshold = Math.max(1, threshold);
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.purge = purge;
+        this.executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "arquillian-wls-progress-purger");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Records the completion of a deployment operation, and schedules the purge of the progress objects.
+     */
+    public synchronized void operationCompleted() {
+        if (closed) {
+            return;
+        }
+        completedOperations++;
+        if (scheduledPurge != null) {
+            scheduledPurge.cancel(false);
+            scheduledPurge = null;
+        }
+        if (completedOperations >= threshold) {
+            schedulePurge(0);
+        } else if (idleTimeoutMillis > 0) {
+            schedulePurge(idleTimeoutMillis);
+        }
+    }
+
+    /**
+     * Stops the background purges, and purges the progress objects of the operations that completed since the last
+     * purge.
+     */
+    public void close() {
+        boolean pending;
+        synchronized (this) {
+            closed = true;
+            pending = completedOperations > 0;
+            completedOperations = 0;
+            if (scheduledPurge != null) {
+                scheduledPurge.cancel(false);
+                scheduledPurge = null;
+            }
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException interruptEx) {
+            Thread.currentThread().interrupt();
+        }
+        if (pending) {
+            purge();
+        }
+    }
+
+    /**
+     * Schedules a purge. The caller holds the lock of this purger, so that the task knows its own future when it runs.
+     */
+    private void schedulePurge(long delayMillis) {
+        PurgeTask task = new PurgeTask();
+        task.future = executor.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        scheduledPurge = task.future;
+    }
+
+    private void purge() {
+        try {
+            long start = System.currentTimeMillis();
+            purge.purge();
+            logger.log(Level.FINE, "Purged the completed deployment progress objects in {0} ms.",
+                System.currentTimeMillis() - start);
+        } catch (Exception ex) {
+            logger.log(Level.WARNING, "Failed to purge deployment progress object(s).", ex);
+        }
+    }
+
+    /**
+     * A scheduled purge, which clears the scheduled purge only if it has not been replaced by a newer one in the
+     * meantime.
+     */
+    private class PurgeTask implements Runnable {
+        private ScheduledFuture<?> future;
+
+        public void run() {
+            synchronized (DeploymentProgressPurger.this) {
+                if (scheduledPurge == future) {
+                    scheduledPurge = null;
+                }
+                if (completedOperations == 0) {
+                    return;
+                }
+                completedOperations = 0;
+            }
+            purge();
+        }
+    }
+}
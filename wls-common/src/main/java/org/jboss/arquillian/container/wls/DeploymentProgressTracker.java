@@ -0,0 +1,146 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.MBeanServerConnection;
+import javax.management.Notification;
+import javax.management.NotificationListener;
+import javax.management.ObjectName;
+
+/**
+ * Tracks a DeploymentProgressObject in the Domain Runtime MBean Server until the deployment
+ * operation it represents has completed or failed.
+ * <p>
+ * The tracker subscribes to notifications emitted by the progress MBean, and re-reads the <code>State</code>
+ * attribute as soon as a notification arrives. Not every WebLogic release emits notifications from
+ * DeploymentProgressObjects, so the tracker also polls the attribute at exponentially increasing intervals,
+ * starting at a few milliseconds. Short operations are therefore detected almost immediately, while long running
+ * operations do not flood the admin server with requests.
+ */
+class DeploymentProgressTracker {
+
+    private static final Logger logger = Logger.getLogger(DeploymentProgressTracker.class.getName());
+
+    static final String STATE_COMPLETED = "STATE_COMPLETED";
+    static final String STATE_FAILED = "STATE_FAILED";
+    static final String STATE_UNKNOWN = "STATE_UNKNOWN";
+
+    private static final long INITIAL_POLL_INTERVAL_MILLIS = 5L;
+    private static final long MAX_POLL_INTERVAL_MILLIS = 1000L;
+
+    private final MBeanServerConnection connection;
+    private final ObjectName progressObject;
+    private final Object monitor = new Object();
+    private boolean notified;
+    private long completionLatency = -1L;
+
+    public DeploymentProgressTracker(MBeanServerConnection connection, ObjectName progressObject) {
+        this.connection = connection;
+        this.progressObject = progressObject;
+    }
+
+    /**
+     * Waits for the deployment operation to complete or fail.
+     *
+     * @param timeToWaitInSecs
+     *     The duration after which the wait is abandoned.
+     *
+     * @return The final state of the progress object. This is <code>STATE_UNKNOWN</code> if the operation did not
+     * complete in the specified duration.
+     *
+     * @throws Exception
+     *     When a failure is encountered when reading the state of the progress object.
+     */
+    public String waitForCompletion(int timeToWaitInSecs) throws Exception {
+        long start = System.currentTimeMillis();
+        long deadline = start + timeToWaitInSecs * 1000L;
+        long pollInterval = INITIAL_POLL_INTERVAL_MILLIS;
+        NotificationListener listener = subscribe();
+        try {
+            while (true) {
+                String state = (String) connection.getAttribute(progressObject, "State");
+                if (STATE_COMPLETED.equals(state) || STATE_FAILED.equals(state)) {
+                    completionLatency = System.currentTimeMillis() - start;
+                    logger.log(Level.FINE, "Deployment operation {0} reached {1} in {2} ms",
+                        new Object[] {progressObject, state, completionLatency});
+                    return state;
+                }
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return STATE_UNKNOWN;
+                }
+                awaitNotification(Math.min(pollInterval, remaining));
+                pollInterval = Math.min(pollInterval * 2, MAX_POLL_INTERVAL_MILLIS);
+            }
+        } finally {
+            unsubscribe(listener);
+        }
+    }
+
+    /**
+     * @return The time in milliseconds taken by the tracked operation to complete or fail, as observed by this
+     * tracker. This is -1 if the operation has not been observed to complete.
+     */
+    public long getCompletionLatency() {
+        return completionLatency;
+    }
+
+    private NotificationListener subscribe() {
+        NotificationListener listener = new NotificationListener() {
+            public void handleNotification(Notification notification, Object handback) {
+                synchronized (monitor) {
+                    notified = true;
+                    monitor.notifyAll();
+                }
+            }
+        };
+        try {
+            connection.addNotificationListener(progressObject, listener, null, null);
+            return listener;
+        } catch (Exception ex) {
+            // The progress object does not broadcast notifications, or the protocol does not support them.
+            // We'll rely on polling alone.
+            logger.log(Level.FINE, "Notifications are unavailable for " + progressObject + ". Falling back to polling.",
+                ex);
+            return null;
+        }
+    }
+
+    private void unsubscribe(NotificationListener listener) {
+        if (listener == null) {
+            return;
+        }
+        try {
+            connection.removeNotificationListener(progressObject, listener);
+        } catch (Exception ex) {
+            // The progress object may already have been removed by the server.
+            logger.log(Level.FINEST, "Failed to remove the notification listener from " + progressObject, ex);
+        }
+    }
+
+    private void awaitNotification(long timeoutMillis) throws InterruptedException {
+        synchronized (monitor) {
+            if (!notified) {
+                monitor.wait(timeoutMillis);
+            }
+            notified = false;
+        }
+    }
+}
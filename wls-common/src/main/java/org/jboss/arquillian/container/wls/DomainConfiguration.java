@@ -0,0 +1,123 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * The servers and clusters of a WebLogic domain, as read from the config.xml file in the domain directory.
+ * <p>
+ * The configuration is read from the file instead of the admin server, so that the members of a cluster are known
+ * before the admin server has started, and can be booted alongside it.
+ */
+class DomainConfiguration {
+
+    private static final String CONFIG_FILE = "config" + File.separator + "config.xml";
+
+    private final String adminServerName;
+    private final List<String[]> servers;
+
+    private DomainConfiguration(String adminServerName, List<String[]> servers) {
+        this.adminServerName = adminServerName;
+        this.servers = servers;
+    }
+
+    /**
+     * Reads the configuration of the domain.
+     *
+     * @param domainDirectory
+     *     The domain directory
+     *
+     * @return The configuration of the domain
+     *
+     * @throws Exception
+     *     When the config.xml file cannot be read.
+     */
+    static DomainConfiguration read(String domainDirectory) throws Exception {
+        File configFile = new File(domainDirectory, CONFIG_FILE);
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(configFile);
+        Element domain = document.getDocumentElement();
+
+        String adminServerName = null;
+        List<String[]> servers = new ArrayList<String[]>();
+        NodeList children = domain.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            Node child = children.item(i);
+            if (child.getNodeType() != Node.ELEMENT_NODE) {
+                continue;
+            }
+            String elementName = localName(child);
+            if ("admin-server-name".equals(elementName)) {
+                adminServerName = child.getTextContent().trim();
+            } else if ("server".equals(elementName)) {
+                servers.add(new String[] {getChildText(child, "name"), getChildText(child, "cluster")});
+            }
+        }
+        return new DomainConfiguration(adminServerName, servers);
+    }
+
+    /**
+     * @return The name of the admin server, or <code>null</code> if it is not specified in the configuration.
+     */
+    String getAdminServerName() {
+        return adminServerName;
+    }
+
+    /**
+     * Returns the members of a cluster.
+     *
+     * @param clusterName
+     *     The name of the cluster
+     *
+     * @return The names of the servers in the cluster, which is empty if there is no such cluster.
+     */
+    List<String> getClusterMembers(String clusterName) {
+        List<String> members = new ArrayList<String>();
+        for (String[] server : servers) {
+            if (clusterName.equals(server[1])) {
+                members.add(server[0]);
+            }
+        }
+        return members;
+    }
+
+    private static String getChildText(Node parent, String elementName) {
+        NodeList children = parent.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            Node child = children.item(i);
+            if (child.getNodeType() == Node.ELEMENT_NODE && elementName.equals(localName(child))) {
+                return child.getTextContent().trim();
+            }
+        }
+        return null;
+    }
+
+    private static String localName(Node node) {
+        String name = node.getNodeName();
+        int prefixEnd = name.indexOf(':');
+        return prefixEnd == -1 ? name : name.substring(prefixEnd + 1);
+    }
+}
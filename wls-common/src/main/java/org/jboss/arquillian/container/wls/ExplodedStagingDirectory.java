@@ -0,0 +1,331 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ArchivePath;
+import org.jboss.shrinkwrap.api.Node;
+import org.jboss.shrinkwrap.api.asset.ArchiveAsset;
+import org.jboss.shrinkwrap.api.asset.Asset;
+
+/**
+ * A directory in which archives are exploded, and kept across deployments, so that an archive that is deployed again
+ * is staged by writing only the entries that have changed.
+ * <p>
+ * The content hash of every staged entry is recorded in a manifest alongside the exploded archive. When the archive is
+ * staged again, the entries are hashed and compared with the manifest; new and changed entries are written, and entries
+ * that are no longer present are removed. Nested archives are exploded in place, as done by the ExplodedExporter, and
+ * file-backed entries are written through the {@link LinkingExplodedExporter}.
+ * <p>
+ * Since the exploded archive is the deployed application, an archive is staged in a numbered slot of the staging
+ * directory that is locked by the staging JVM until the application is undeployed, so that concurrent JVMs deploying
+ * from the same staging directory do not overwrite each other. Each JVM uses the first slot that it can lock, which is
+ * typically the one it used in its previous run. The name of the application deployed from a slot is recorded
+ * alongside the exploded archive, so that the application can be reclaimed when the JVM that deployed it terminated
+ * before undeploying it.
+ */
+class ExplodedStagingDirectory {
+
+    private static final Logger logger = Logger.getLogger(ExplodedStagingDirectory.class.getName());
+
+    private static final String MANIFEST_SUFFIX = ".manifest";
+    private static final String LOCK_SUFFIX = ".lock";
+    private static final String DEPLOYMENT_SUFFIX = ".deployment";
+    private static final String DIRECTORY_HASH = "-";
+
+    private final File root;
+
+    /**
+     * The locks on the slots held by this instance, by the name of the staged archive.
+     */
+    private final Map<String, Slot> slots = new HashMap<String, Slot>();
+
+    /**
+     * @param root
+     *     The directory in which the archives are exploded
+     */
+    ExplodedStagingDirectory(File root) {
+        this.root = root;
+    }
+
+    /**
+     * Explodes an archive into the staging directory, writing only the entries that differ from the earlier staging of
+     * an archive with the same name.
+     *
+     * @param archive
+     *     The archive to stage
+     *
+     * @return The exploded archive
+     */
+    File stage(Archive<?> archive) throws IOException {
+        File slot = acquire(archive.getName());
+        File exploded = new File(slot, archive.getName());
+        File manifestFile = new File(slot, archive.getName() + MANIFEST_SUFFIX);
+        Properties previous = new Properties();
+        if (exploded.isDirectory() && manifestFile.isFile()) {
+            InputStream stream = new FileInputStream(manifestFile);
+            try {
+                previous.load(stream);
+            } finally {
+                stream.close();
+            }
+        }
+        // The manifest is removed while staging, so that an interrupted staging is not mistaken for a complete one.
+        manifestFile.delete();
+        exploded.mkdirs();
+
+        long start = System.currentTimeMillis();
+        Properties current = new Properties();
+        int[] written = new int[1];
+        stage(archive, "", exploded, previous, current, written);
+
+        int removed = 0;
+        for (String path : previous.stringPropertyNames()) {
+            if (!current.containsKey(path) && delete(new File(exploded, path))) {
+                removed++;
+            }
+        }
+
+        OutputStream stream = new FileOutputStream(manifestFile);
+        try {
+            current.store(stream, "Staged entries of " + archive.getName());
+        } finally {
+            stream.close();
+        }
+        logger.log(Level.FINE, "Staged {0} in {1} ms: {2} of {3} entries written, {4} removed.",
+            new Object[] {archive.getName(), System.currentTimeMillis() - start, written[0], current.size(), removed});
+        return exploded;
+    }
+
+    /**
+     * Records the name of the application that is about to be deployed from a staged archive.
+     *
+     * @param archiveName
+     *     The name of the staged archive
+     * @param deploymentName
+     *     The name of the application
+     */
+    synchronized void recordDeployment(String archiveName, String deploymentName) throws IOException {
+        Properties deployment = new Properties();
+        deployment.setProperty("name", deploymentName);
+        OutputStream stream = new FileOutputStream(new File(acquire(archiveName), archiveName + DEPLOYMENT_SUFFIX));
+        try {
+            deployment.store(stream, "Application deployed from " + archiveName);
+        } finally {
+            stream.close();
+        }
+    }
+
+    /**
+     * Releases the slot of a staged archive once its application is no longer deployed. The staged archive is kept, to
+     * be staged incrementally the next time.
+     *
+     * @param archiveName
+     *     The name of the staged archive
+     */
+    synchronized void release(String archiveName) {
+        Slot slot = slots.remove(archiveName);
+        if (slot == null) {
+            return;
+        }
+        new File(slot.directory, archiveName + DEPLOYMENT_SUFFIX).delete();
+        try {
+            slot.lock.release();
+            slot.lock.channel().close();
+        } catch (IOException ioEx) {
+            logger.log(Level.FINE, "Failed to release the staging slot " + slot.directory, ioEx);
+        }
+    }
+
+    /**
+     * Locks the slots containing applications that were deployed by JVMs that terminated without undeploying them.
+     * The slots are held by this instance, until they are released once the applications are undeployed.
+     *
+     * @return The names of the applications, by the name of their staged archive
+     */
+    synchronized Map<String, String> reclaimStaleDeployments() throws IOException {
+        Map<String, String> stale = new LinkedHashMap<String, String>();
+        File[] slotDirectories = root.listFiles();
+        if (slotDirectories == null) {
+            return stale;
+        }
+        for (File slot : slotDirectories) {
+            File[] files = slot.listFiles();
+            if (files == null) {
+                continue;
+            }
+            for (File file : files) {
+                if (!file.getName().endsWith(DEPLOYMENT_SUFFIX)) {
+                    continue;
+                }
+                String archiveName = file.getName().substring(0, file.getName().length() - DEPLOYMENT_SUFFIX.length());
+                if (slots.containsKey(archiveName)) {
+                    continue;
+                }
+                FileLock lock = tryLock(slot, archiveName);
+                if (lock == null) {
+                    // The application is still in use by the JVM that deployed it.
+                    continue;
+                }
+                Properties deployment = new Properties();
+                InputStream stream = new FileInputStream(file);
+                try {
+                    deployment.load(stream);
+                } finally {
+                    stream.close();
+                }
+                slots.put(archiveName, new Slot(slot, lock));
+                stale.put(archiveName, deployment.getProperty("name"));
+            }
+        }
+        return stale;
+    }
+
+    /**
+     * @return The slot held for the archive, locking the first slot available if none is held yet.
+     */
+    private synchronized File acquire(String archiveName) throws IOException {
+        Slot held = slots.get(archiveName);
+        if (held != null) {
+            return held.directory;
+        }
+        for (int index = 0; ; index++) {
+            File slot = new File(root, String.valueOf(index));
+            FileLock lock = tryLock(slot, archiveName);
+            if (lock != null) {
+                slots.put(archiveName, new Slot(slot, lock));
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * @return The lock of the archive in the slot, or <code>null</code> if it is held by another JVM or instance.
+     */
+    private static FileLock tryLock(File slot, String archiveName) throws IOException {
+        slot.mkdirs();
+        RandomAccessFile lockFile = new RandomAccessFile(new File(slot, archiveName + LOCK_SUFFIX), "rw");
+        FileLock lock = null;
+        try {
+            lock = lockFile.getChannel().tryLock();
+        } catch (OverlappingFileLockException overlappingEx) {
+            // Held by another instance in this JVM.
+        } finally {
+            if (lock == null) {
+                lockFile.close();
+            }
+        }
+        return lock;
+    }
+
+    private void stage(Archive<?> archive, String prefix, File exploded, Properties previous, Properties current,
+        int[] written) throws IOException {
+        for (Map.Entry<ArchivePath, Node> entry : archive.getContent().entrySet()) {
+            String path = prefix + entry.getKey().get().substring(1);
+            Asset asset = entry.getValue().getAsset();
+            File file = new File(exploded, path);
+            if (asset == null) {
+                current.setProperty(path, DIRECTORY_HASH);
+                if (file.isFile()) {
+                    file.delete();
+                }
+                file.mkdirs();
+            } else if (asset instanceof ArchiveAsset) {
+                Archive<?> nested = ((ArchiveAsset) asset).getArchive();
+                String nestedPath = path.substring(0, path.lastIndexOf('/') + 1) + nested.getName();
+                current.setProperty(nestedPath, DIRECTORY_HASH);
+                new File(exploded, nestedPath).mkdirs();
+                stage(nested, nestedPath + "/", exploded, previous, current, written);
+            } else {
+                String hash = hash(asset);
+                current.setProperty(path, hash);
+                if (!hash.equals(previous.getProperty(path)) || !file.isFile()) {
+                    if (file.isDirectory()) {
+                        delete(file);
+                    }
+                    LinkingExplodedExporter.write(asset, file);
+                    written[0]++;
+                }
+            }
+        }
+    }
+
+    private static String hash(Asset asset) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException algorithmEx) {
+            throw new IllegalStateException(algorithmEx);
+        }
+        InputStream stream = new DigestInputStream(asset.openStream(), digest);
+        try {
+            byte[] buffer = new byte[8192];
+            while (stream.read(buffer) != -1) {
+                // The digest is updated as the stream is read.
+            }
+        } finally {
+            stream.close();
+        }
+        StringBuilder hash = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hash.append(String.format("%02x", b));
+        }
+        return hash.toString();
+    }
+
+    private static boolean delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        return file.delete();
+    }
+
+    /**
+     * A slot of the staging directory, locked for a staged archive.
+     */
+    private static class Slot {
+        private final File directory;
+        private final FileLock lock;
+
+        Slot(File directory, FileLock lock) {
+            this.directory = directory;
+            this.lock = lock;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.arquillian.container.spi.client.protocol.metadata.HTTPContext;
+import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
+
+/**
+ * The built-in {@link HTTPContextSelectionStrategy} implementations, and the means to apply a strategy to the contexts
+ * of a deployment.
+ */
+public final class HTTPContextSelectionStrategies {
+
+    public static final String FIRST = "first";
+    public static final String ROUND_ROBIN = "round-robin";
+    public static final String LEAST_RECENTLY_USED = "least-recently-used";
+    public static final String RANDOM = "random";
+    public static final String HEALTH_WEIGHTED = "health-weighted";
+
+    /**
+     * The values of the weblogic.health.HealthState states.
+     */
+    static final int HEALTH_OK = 0;
+    static final int HEALTH_WARN = 1;
+    static final int HEALTH_CRITICAL = 2;
+    static final int HEALTH_FAILED = 3;
+    static final int HEALTH_OVERLOADED = 4;
+
+    private HTTPContextSelectionStrategies() {
+    }
+
+    /**
+     * Creates a strategy.
+     *
+     * @param name
+     *     The name of a built-in strategy, or the name of a class implementing {@link HTTPContextSelectionStrategy}
+     *     with a public no-argument constructor
+     *
+     * @return A new instance of the strategy
+     *
+     * @throws IllegalArgumentException
+     *     When the strategy cannot be created.
+     */
+    public static HTTPContextSelectionStrategy create(String name) {
+        if (name == null || name.equals("") || FIRST.equals(name)) {
+            return new First();
+        } else if (ROUND_ROBIN.equals(name)) {
+            return new RoundRobin();
+        } else if (LEAST_RECENTLY_USED.equals(name)) {
+            return new LeastRecentlyUsed();
+        } else if (RANDOM.equals(name)) {
+            return new Random();
+        } else if (HEALTH_WEIGHTED.equals(name)) {
+            return new HealthWeighted();
+        }
+        try {
+            Class<?> strategyClass = Class.forName(name, true, HTTPContextSelectionStrategies.class.getClassLoader());
+            return (HTTPContextSelectionStrategy) strategyClass.getDeclaredConstructor().newInstance();
+        } catch (InvocationTargetException ite) {
+            throw invalidStrategy(ite.getCause());
+        } catch (Exception ex) {
+            throw invalidStrategy(ex);
+        }
+    }
+
+    private static IllegalArgumentException invalidStrategy(Throwable cause) {
+        return new IllegalArgumentException("The httpContextSelection is invalid. It must be either " + FIRST + ", "
+            + ROUND_ROBIN + ", " + LEAST_RECENTLY_USED + ", " + RANDOM + ", " + HEALTH_WEIGHTED
+            + " or the name of a class implementing " + HTTPContextSelectionStrategy.class.getName(), cause);
+    }
+
+    /**
+     * Creates the protocol metadata of a deployment, with the selected context ahead of the other contexts.
+     *
+     * @param strategy
+     *     The strategy that selects the context
+     * @param contexts
+     *     The contexts of the running servers, in the order reported by the server
+     * @param healthStates
+     *     The health states of the servers, keyed by the name of their context
+     *
+     * @return The protocol metadata
+     */
+    public static ProtocolMetaData toProtocolMetaData(HTTPContextSelectionStrategy strategy, List<HTTPContext> contexts,
+        Map<String, Integer> healthStates) {
+        ProtocolMetaData metaData = new ProtocolMetaData();
+        if (contexts.isEmpty()) {
+            return metaData;
+        }
+        HTTPContext selected = contexts.size() == 1 ? contexts.get(0) : strategy.select(
+            Collections.unmodifiableList(contexts), Collections.unmodifiableMap(healthStates));
+        metaData.addContext(selected);
+        for (HTTPContext context : contexts) {
+            if (context != selected) {
+                metaData.addContext(context);
+            }
+        }
+        return metaData;
+    }
+
+    /**
+     * Identifies the server of a context across deployments.
+     */
+    private static String getServerKey(HTTPContext context) {
+        return context.getHost() + ":" + context.getPort();
+    }
+
+    /**
+     * Selects the first running server, as reported by the server. This is the default strategy.
+     */
+    private static class First implements HTTPContextSelectionStrategy {
+        public HTTPContext select(List<HTTPContext> contexts, Map<String, Integer> healthStates) {
+            return contexts.get(0);
+        }
+    }
+
+    /**
+     * Selects the running servers in turn.
+     */
+    private static class RoundRobin implements HTTPContextSelectionStrategy {
+        private final AtomicLong counter = new AtomicLong();
+
+        public HTTPContext select(List<HTTPContext> contexts, Map<String, Integer> healthStates) {
+            return contexts.get((int) (counter.getAndIncrement() % contexts.size()));
+        }
+    }
+
+    /**
+     * Selects the running server that was selected the longest time ago, preferring servers that were never selected.
+     */
+    private static class LeastRecentlyUsed implements HTTPContextSelectionStrategy {
+        private final Map<String, Long> lastSelections = new HashMap<String, Long>();
+        private long selections = 0;
+
+        public synchronized HTTPContext select(List<HTTPContext> contexts, Map<String, Integer> healthStates) {
+            HTTPContext selected = null;
+            long selectedAt = Long.MAX_VALUE;
+            for (HTTPContext context : contexts) {
+                Long lastSelection = lastSelections.get(getServerKey(context));
+                long at = lastSelection == null ? -1L : lastSelection;
+                if (at < selectedAt) {
+                    selected = context;
+                    selectedAt = at;
+                }
+            }
+            lastSelections.put(getServerKey(selected), selections++);
+            return selected;
+        }
+    }
+
+    /**
+     * Selects a running server at random.
+     */
+    private static class Random implements HTTPContextSelectionStrategy {
+        public HTTPContext select(List<HTTPContext> contexts, Map<String, Integer> healthStates) {
+            return contexts.get(ThreadLocalRandom.current().nextInt(contexts.size()));
+        }
+    }
+
+    /**
+     * Selects a running server at random, with healthy servers being more likely to be selected than degraded ones.
+     * Failed servers are never selected, unless all servers have failed. Servers of unknown health are treated as
+     * healthy.
+     */
+    private static class HealthWeighted implements HTTPContextSelectionStrategy {
+        public HTTPContext select(List<HTTPContext> contexts, Map<String, Integer> healthStates) {
+            List<Integer> weights = new ArrayList<Integer>(contexts.size());
+            int totalWeight = 0;
+            for (HTTPContext context : contexts) {
+                int weight = getWeight(healthStates.get(context.getName()));
+                weights.add(weight);
+                totalWeight += weight;
+            }
+            if (totalWeight == 0) {
+                return contexts.get(0);
+            }
+            int point = ThreadLocalRandom.current().nextInt(totalWeight);
+            for (int i = 0; i < contexts.size(); i++) {
+                point -= weights.get(i);
+                if (point < 0) {
+                    return contexts.get(i);
+                }
+            }
+            return contexts.get(contexts.size() - 1);
+        }
+
+        private static int getWeight(Integer healthState) {
+            if (healthState == null) {
+                return 8;
+            }
+            switch (healthState) {
+                case HEALTH_OK:
+                    return 8;
+                case HEALTH_WARN:
+                    return 4;
+                case HEALTH_OVERLOADED:
+                    return 2;
+                case HEALTH_CRITICAL:
+                    return 1;
+                case HEALTH_FAILED:
+                default:
+                    return 0;
+            }
+        }
+    }
+}
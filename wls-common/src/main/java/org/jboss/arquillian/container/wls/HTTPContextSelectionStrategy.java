@@ -0,0 +1,46 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.arquillian.container.spi.client.protocol.metadata.HTTPContext;
+
+/**
+ * Selects the {@link HTTPContext} through which Arquillian reaches a deployment, among the contexts of the running
+ * servers of the target.
+ * <p>
+ * Arquillian uses the first context of the protocol metadata, so the selected context is published ahead of the others.
+ * A strategy is used for all the deployments of a container, and may therefore spread the deployments across the
+ * members of a cluster. Implementations must be thread-safe, since deployments may be made concurrently.
+ */
+public interface HTTPContextSelectionStrategy {
+
+    /**
+     * Selects the context of a deployment.
+     *
+     * @param contexts
+     *     The contexts of the running servers, which is never empty
+     * @param healthStates
+     *     The WebLogic health states of the servers, keyed by the name of their context. The states of servers whose
+     *     health is not known are absent.
+     *
+     * @return The selected context, which is one of the supplied contexts
+     */
+    HTTPContext select(List<HTTPContext> contexts, Map<String, Integer> healthStates);
+}
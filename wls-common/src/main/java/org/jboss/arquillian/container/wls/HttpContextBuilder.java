@@ -19,10 +19,27 @@ package org.jboss.arquillian.container.wls;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import javax.management.Attribute;
+import javax.management.AttributeList;
 import javax.management.MBeanServerConnection;
+import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
 
 import org.jboss.arquillian.container.spi.client.container.DeploymentException;
 import org.jboss.arquillian.container.spi.client.protocol.metadata.HTTPContext;
@@ -30,17 +47,35 @@ import org.jboss.arquillian.container.spi.client.protocol.metadata.Servlet;
 
 /**
  * A utility class that encapsulates the logic for creation of a {@link HTTPContext} instance.
+ * <p>
+ * Every call made to the MBean server is a remote round-trip, so the builder reads the names and types of MBeans from
+ * their object names wherever possible, fetches multiple attributes of an MBean in a single call, and locates the
+ * servlets of a deployment through a single query. The number of round-trips made is recorded, and can be obtained
+ * through {@link #getRoundTripCount()}.
+ * <p>
+ * A context is created for every running server of the target, so that tests may address every member of a cluster.
+ * The contexts of multiple servers are populated concurrently, since the MBean server connection is thread-safe. The
+ * contexts are named after their servers, and the health states of the servers are recorded, so that a
+ * {@link HTTPContextSelectionStrategy} can select among them.
  *
  * @author Vineet Reynolds
  */
 class HttpContextBuilder {
 
+    private static final Logger logger = Logger.getLogger(HttpContextBuilder.class.getName());
+
     private static final String RUNNING = "RUNNING";
 
     /**
-     * The context that is created. This will be returned to the client, once it is completely built.
+     * The contexts that are created, one per running server. These will be returned to the client, once they are
+     * completely built.
      */
-    private HTTPContext httpContext;
+    private List<HTTPContext> httpContexts;
+
+    /**
+     * The health states of the servers of a cluster, keyed by the server name.
+     */
+    private final Map<String, Integer> healthStates = new ConcurrentHashMap<String, Integer>();
 
     /**
      * The deployment for which the context must be built.
@@ -58,6 +93,11 @@ class HttpContextBuilder {
      */
     private ObjectName[] wlServerRuntimes;
 
+    /**
+     * The number of calls made to the MBean server by this builder.
+     */
+    private final AtomicInteger roundTrips = new AtomicInteger();
+
     public HttpContextBuilder(String deploymentName, CommonWebLogicConfiguration configuration,
         MBeanServerConnection connection, ObjectName domainRuntimeService) {
         this.deploymentName = deploymentName;
@@ -66,7 +106,31 @@ class HttpContextBuilder {
         this.domainRuntimeService = domainRuntimeService;
     }
 
-    public HTTPContext createContext() throws Exception {
+    /**
+     * @return The number of calls made to the MBean server by this builder so far.
+     */
+    public int getRoundTripCount() {
+        return roundTrips.get();
+    }
+
+    /**
+     * @return The health states of the servers whose contexts were created, keyed by the server name. The states are
+     * only obtained when the deployment is served by multiple servers, since there is nothing to select otherwise.
+     */
+    public Map<String, Integer> getHealthStates() {
+        return healthStates;
+    }
+
+    /**
+     * Creates the contexts of the deployment, one for each running server of the target, in the order in which the
+     * servers are reported by the Domain Runtime MBean Server.
+     *
+     * @return The contexts of the deployment
+     *
+     * @throws Exception
+     *     When the deployment is not found, or when none of the servers of the target are running.
+     */
+    public List<HTTPContext> createContexts() throws Exception {
         // First, get the deployment in the domain configuration
         // that matches the deployment made by Arquillian.
         ObjectName appDeployment = findMatchingDeployment(deploymentName);
@@ -76,61 +140,131 @@ class HttpContextBuilder {
         }
         // Get the targets for the deployment. For now, there will be a single target
         // This will be either a managed server or a cluster.
-        ObjectName[] targets = (ObjectName[]) connection.getAttribute(appDeployment, "Targets");
+        ObjectName[] targets = (ObjectName[]) getAttribute(appDeployment, "Targets");
         for (ObjectName target : targets) {
-            String targetType = (String) connection.getAttribute(target, "Type");
-            String targetName = (String) connection.getAttribute(target, "Name");
+            String targetType = target.getKeyProperty("Type");
+            String targetName = target.getKeyProperty("Name");
+            if (targetType == null || targetName == null) {
+                Map<String, Object> targetAttributes = getAttributes(target, "Type", "Name");
+                targetType = (String) targetAttributes.get("Type");
+                targetName = (String) targetAttributes.get("Name");
+            }
             if (targetName.equals(configuration.getTarget())) {
                 if (targetType.equals("Server")) {
                     // Get the Server Runtime MBean, that will be used to create the context.
                     wlServerRuntimes = findRunningWLServerRuntimes(targetName);
-                    buildHTTPContext();
+                    buildHTTPContexts();
                 } else if (targetType.equals("Cluster")) {
                     // Get all the Server Runtime MBeans for the servers in the cluster,
                     // that will be used to create the context.
                     String[] clusterMemberNames = findMembersOfCluster(target);
                     wlServerRuntimes = findRunningWLServerRuntimes(clusterMemberNames);
-                    buildHTTPContext();
+                    buildHTTPContexts();
                 }
                 break;
             }
         }
-        if (httpContext == null) {
+        logger.log(Level.FINE, "Obtained the details of the deployment {0} in {1} MBean server round-trips",
+            new Object[] {deploymentName, roundTrips.get()});
+        if (httpContexts == null) {
             throw new DeploymentException(
                 "An unexpected condition was encountered. The HTTPContext could not be created.");
         } else {
-            return httpContext;
+            return httpContexts;
         }
     }
 
     /**
-     * Creates the {@link HTTPContext} instance, with the required preconditions in place.
+     * Creates the {@link HTTPContext} instances of the running servers, with the required preconditions in place.
      *
      * @throws Exception
-     *     When an exception is encountered during creation of the context.
+     *     When an exception is encountered during creation of the contexts.
      */
-    private void buildHTTPContext() throws Exception {
+    private void buildHTTPContexts() throws Exception {
         // If there are no running servers, we'll abort as the test cannot be executed.
         if (wlServerRuntimes.length < 1) {
             throw new DeploymentException("None of the targets are in the RUNNING state.");
-        } else {
-            // For now, we'll use the first server to populate the context.
-            // This may change in a future Arquillian release,
-            // to allow different strategies for testing a clustered deployment.
-            ObjectName wlServerRuntime = wlServerRuntimes[0];
-            String httpUrlAsString = (String) connection.invoke(wlServerRuntime, "getURL",
-                new Object[] {"http"},
-                new String[] {"java.lang.String"}
-            );
-
-            URL serverHttpUrl = new URL(httpUrlAsString);
-            httpContext = new HTTPContext(serverHttpUrl.getHost(), serverHttpUrl.getPort());
-            List<ObjectName> servletRuntimes = findServletRuntimes(wlServerRuntime, deploymentName);
-            for (ObjectName servletRuntime : servletRuntimes) {
-                String servletName = (String) connection.getAttribute(servletRuntime, "ServletName");
-                String servletContextRoot = (String) connection.getAttribute(servletRuntime, "ContextPath");
-                httpContext.add(new Servlet(servletName, servletContextRoot));
+        }
+        httpContexts = new ArrayList<HTTPContext>();
+        if (wlServerRuntimes.length == 1) {
+            httpContexts.add(buildHTTPContext(wlServerRuntimes[0]));
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(wlServerRuntimes.length, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "arquillian-wls-context-builder-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            List<Future<HTTPContext>> contexts = new ArrayList<Future<HTTPContext>>();
+            for (final ObjectName wlServerRuntime : wlServerRuntimes) {
+                contexts.add(executor.submit(new Callable<HTTPContext>() {
+                    public HTTPContext call() throws Exception {
+                        HTTPContext httpContext = buildHTTPContext(wlServerRuntime);
+                        recordHealthState(wlServerRuntime, httpContext.getName());
+                        return httpContext;
+                    }
+                }));
+            }
+            for (Future<HTTPContext> context : contexts) {
+                try {
+                    httpContexts.add(context.get());
+                } catch (ExecutionException executionEx) {
+                    Throwable cause = executionEx.getCause();
+                    throw cause instanceof Exception ? (Exception) cause : executionEx;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Creates the {@link HTTPContext} of a running server, with the listen address and port of the server, and the
+     * servlets of the deployment on the server.
+     */
+    private HTTPContext buildHTTPContext(ObjectName wlServerRuntime) throws Exception {
+        roundTrips.incrementAndGet();
+        String httpUrlAsString = (String) connection.invoke(wlServerRuntime, "getURL",
+            new Object[] {"http"},
+            new String[] {"java.lang.String"}
+        );
+
+        URL serverHttpUrl = new URL(httpUrlAsString);
+        HTTPContext httpContext =
+            new HTTPContext(getName(wlServerRuntime), serverHttpUrl.getHost(), serverHttpUrl.getPort());
+        List<ObjectName> servletRuntimes = findServletRuntimes(wlServerRuntime, deploymentName);
+        for (ObjectName servletRuntime : servletRuntimes) {
+            Map<String, Object> servletAttributes = getAttributes(servletRuntime, "ServletName", "ContextPath");
+            String servletName = (String) servletAttributes.get("ServletName");
+            String servletContextRoot = (String) servletAttributes.get("ContextPath");
+            httpContext.add(new Servlet(servletName, servletContextRoot));
+        }
+        return httpContext;
+    }
+
+    /**
+     * Records the health state of a running server. The weblogic.health.HealthState value is read reflectively, since
+     * it is loaded from the WebLogic client library. A server whose state cannot be read is treated as of unknown
+     * health.
+     */
+    private void recordHealthState(ObjectName wlServerRuntime, String serverName) {
+        try {
+            Object healthState = getAttribute(wlServerRuntime, "HealthState");
+            Object state;
+            if (healthState instanceof CompositeData) {
+                state = ((CompositeData) healthState).get("State");
+            } else {
+                state = healthState.getClass().getMethod("getState").invoke(healthState);
             }
+            healthStates.put(serverName, ((Number) state).intValue());
+        } catch (Exception ex) {
+            logger.log(Level.FINE, "Failed to obtain the health state of the server " + serverName, ex);
         }
     }
 
@@ -147,11 +281,10 @@ class HttpContextBuilder {
      *     When a failure is encountered when browsing the Domain Configuration MBean Server hierarchy.
      */
     private String[] findMembersOfCluster(ObjectName cluster) throws Exception {
-        ObjectName[] servers = (ObjectName[]) connection.getAttribute(cluster, "Servers");
+        ObjectName[] servers = (ObjectName[]) getAttribute(cluster, "Servers");
         List<String> clusterServers = new ArrayList<String>();
         for (ObjectName server : servers) {
-            String serverName = (String) connection.getAttribute(server, "Name");
-            clusterServers.add(serverName);
+            clusterServers.add(getName(server));
         }
 
         return clusterServers.toArray(new String[0]);
@@ -175,12 +308,12 @@ class HttpContextBuilder {
     private ObjectName[] findRunningWLServerRuntimes(String... runtimeNames) throws Exception {
         List<String> runtimeNamesList = Arrays.asList(runtimeNames);
         List<ObjectName> wlServerRuntimeList = new ArrayList<ObjectName>();
-        ObjectName[] wlServerRuntimes = (ObjectName[]) connection.getAttribute(domainRuntimeService, "ServerRuntimes");
+        ObjectName[] wlServerRuntimes = (ObjectName[]) getAttribute(domainRuntimeService, "ServerRuntimes");
 
         for (ObjectName wlServerRuntime : wlServerRuntimes) {
-            String runtimeName = (String) connection.getAttribute(wlServerRuntime, "Name");
-            String runtimeState = (String) connection.getAttribute(wlServerRuntime, "State");
-            if (runtimeNamesList.contains(runtimeName) && runtimeState.equals(RUNNING)) {
+            // Only the state of the servers of interest is fetched.
+            if (runtimeNamesList.contains(getName(wlServerRuntime))
+                && RUNNING.equals(getAttribute(wlServerRuntime, "State"))) {
                 wlServerRuntimeList.add(wlServerRuntime);
             }
         }
@@ -203,18 +336,27 @@ class HttpContextBuilder {
      *     When a failure is encountered when browsing the Domain Runtime MBean Server hierarchy.
      */
     private List<ObjectName> findServletRuntimes(ObjectName wlServerRuntime, String deploymentName) throws Exception {
-        ObjectName[] applicationRuntimes = (ObjectName[]) connection.getAttribute(wlServerRuntime, "ApplicationRuntimes");
+        // Servlet Runtime MBeans are keyed by the names of their server and application runtimes,
+        // so all of them can usually be found in a single query.
+        Set<ObjectName> queriedServletRuntimes = queryServletRuntimes(wlServerRuntime, deploymentName);
+        if (queriedServletRuntimes != null && !queriedServletRuntimes.isEmpty()) {
+            return new ArrayList<ObjectName>(queriedServletRuntimes);
+        }
+
+        // Otherwise, browse the hierarchy from the server runtime downwards.
+        ObjectName[] applicationRuntimes = (ObjectName[]) getAttribute(wlServerRuntime, "ApplicationRuntimes");
         for (ObjectName applicationRuntime : applicationRuntimes) {
-            String applicationName = (String) connection.getAttribute(applicationRuntime, "Name");
+            String applicationName = getName(applicationRuntime);
             if (applicationName.equals(deploymentName)) {
-                ObjectName[] componentRuntimes =
-                    (ObjectName[]) connection.getAttribute(applicationRuntime, "ComponentRuntimes");
+                ObjectName[] componentRuntimes = (ObjectName[]) getAttribute(applicationRuntime, "ComponentRuntimes");
                 List<ObjectName> servletRuntimes = new ArrayList<ObjectName>();
                 for (ObjectName componentRuntime : componentRuntimes) {
-                    String componentType = (String) connection.getAttribute(componentRuntime, "Type");
-                    if (componentType.toString().equals("WebAppComponentRuntime")) {
-                        servletRuntimes.addAll(
-                            Arrays.asList((ObjectName[]) connection.getAttribute(componentRuntime, "Servlets")));
+                    String componentType = componentRuntime.getKeyProperty("Type");
+                    if (componentType == null) {
+                        componentType = (String) getAttribute(componentRuntime, "Type");
+                    }
+                    if (componentType.equals("WebAppComponentRuntime")) {
+                        servletRuntimes.addAll(Arrays.asList((ObjectName[]) getAttribute(componentRuntime, "Servlets")));
                     }
                 }
                 return servletRuntimes;
@@ -245,9 +387,17 @@ class HttpContextBuilder {
      *     When a failure is encountered when browsing the Domain Runtime MBean Server hierarchy.
      */
     public ObjectName findMatchingDeployment(String deploymentName) throws Exception {
+        // Look up the deployment directly by its object name.
+        Set<ObjectName> matchingDeployments = queryAppDeployments(deploymentName);
+        if (matchingDeployments != null && !matchingDeployments.isEmpty()) {
+            return matchingDeployments.iterator().next();
+        }
+
+        // The deployment is either absent, or is registered under an unexpected object name.
+        // Scan all deployments, reading their names from their object names.
         ObjectName[] appDeployments = findAllAppDeployments();
         for (ObjectName appDeployment : appDeployments) {
-            String appDeploymentName = (String) connection.getAttribute(appDeployment, "Name");
+            String appDeploymentName = getName(appDeployment);
             if (appDeploymentName.equals(deploymentName)) {
                 return appDeployment;
             }
@@ -256,6 +406,26 @@ class HttpContextBuilder {
         return null;
     }
 
+    /**
+     * Queries the Application Deployment MBeans with the specified name.
+     *
+     * @return The Application Deployment MBeans, or <code>null</code> if the deployment name cannot be used in a
+     * query.
+     */
+    private Set<ObjectName> queryAppDeployments(String deploymentName) throws Exception {
+        if (!isQueryable(deploymentName)) {
+            return null;
+        }
+        try {
+            ObjectName pattern = new ObjectName(domainRuntimeService.getDomain() + ":Type=AppDeployment,Name="
+                + deploymentName + ",*");
+            roundTrips.incrementAndGet();
+            return connection.queryNames(pattern, null);
+        } catch (MalformedObjectNameException objectNameEx) {
+            return null;
+        }
+    }
+
     /**
      * Obtains all the deployments in a WebLogic domain
      *
@@ -265,7 +435,72 @@ class HttpContextBuilder {
      *     When a failure is encountered when browsing the Domain Runtime MBean Server hierarchy.
      */
     private ObjectName[] findAllAppDeployments() throws Exception {
-        ObjectName domainConfig = (ObjectName) connection.getAttribute(domainRuntimeService, "DomainConfiguration");
-        return (ObjectName[]) connection.getAttribute(domainConfig, "AppDeployments");
+        ObjectName domainConfig = (ObjectName) getAttribute(domainRuntimeService, "DomainConfiguration");
+        return (ObjectName[]) getAttribute(domainConfig, "AppDeployments");
+    }
+
+    /**
+     * Queries the Servlet Runtime MBeans of a deployment on a WebLogic Server instance.
+     *
+     * @return The Servlet Runtime MBeans, or <code>null</code> if the names of the server or the deployment cannot be
+     * used in a query.
+     */
+    private Set<ObjectName> queryServletRuntimes(ObjectName wlServerRuntime, String deploymentName) throws Exception {
+        String serverName = wlServerRuntime.getKeyProperty("Name");
+        if (serverName == null || !isQueryable(serverName) || !isQueryable(deploymentName)) {
+            return null;
+        }
+        try {
+            ObjectName pattern = new ObjectName(wlServerRuntime.getDomain() + ":Type=ServletRuntime,ServerRuntime="
+                + serverName + ",ApplicationRuntime=" + deploymentName + ",*");
+            roundTrips.incrementAndGet();
+            return connection.queryNames(pattern, null);
+        } catch (MalformedObjectNameException objectNameEx) {
+            return null;
+        }
+    }
+
+    /**
+     * @return true if the value can be used as-is as a key property value in an {@link ObjectName} pattern.
+     */
+    private static boolean isQueryable(String value) {
+        for (char c : value.toCharArray()) {
+            if (c == ',' || c == '=' || c == ':' || c == '"' || c == '*' || c == '?' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the name of a WebLogic MBean from its object name, falling back to the Name attribute.
+     */
+    private String getName(ObjectName mbean) throws Exception {
+        String name = mbean.getKeyProperty("Name");
+        return name != null ? name : (String) getAttribute(mbean, "Name");
+    }
+
+    private Object getAttribute(ObjectName mbean, String attribute) throws Exception {
+        roundTrips.incrementAndGet();
+        return connection.getAttribute(mbean, attribute);
+    }
+
+    /**
+     * Fetches multiple attributes of an MBean in a single round-trip. Attributes that could not be read in bulk are
+     * fetched individually, so that the cause of the failure is reported.
+     */
+    private Map<String, Object> getAttributes(ObjectName mbean, String... attributes) throws Exception {
+        roundTrips.incrementAndGet();
+        AttributeList attributeList = connection.getAttributes(mbean, attributes);
+        Map<String, Object> values = new HashMap<String, Object>();
+        for (Object attribute : attributeList) {
+            values.put(((Attribute) attribute).getName(), ((Attribute) attribute).getValue());
+        }
+        for (String attribute : attributes) {
+            if (!values.containsKey(attribute)) {
+                values.put(attribute, getAttribute(mbean, attribute));
+            }
+        }
+        return values;
     }
 }
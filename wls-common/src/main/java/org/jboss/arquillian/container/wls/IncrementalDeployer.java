@@ -0,0 +1,239 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.arquillian.container.spi.client.container.DeploymentException;
+import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
+import org.jboss.shrinkwrap.api.Archive;
+
+/**
+ * Deploys exploded archives incrementally, when the container is configured for incremental redeployment.
+ * <p>
+ * Archives are exploded into a staging directory that is kept across deployments and test runs, so that only the
+ * entries that have changed since the archive was last staged are written. Undeployments are deferred, so that an
+ * application that is deployed again under the same name is redeployed from the updated staging directory, instead of
+ * being undeployed and deployed anew. Deferred undeployments of other applications are carried out before the next
+ * deployment, to avoid conflicts between applications, and when the container is stopped.
+ * <p>
+ * Applications remain recorded in the {@link ExplodedStagingDirectory} until they are undeployed. Applications left
+ * deployed by a run that terminated abruptly are taken over when the deployer is started, as if their undeployment had
+ * been deferred: they are redeployed if deployed again, and undeployed otherwise.
+ * <p>
+ * The staging directory must be accessible to the admin server, as is the case for all exploded deployments.
+ */
+public class IncrementalDeployer {
+
+    private static final Logger logger = Logger.getLogger(IncrementalDeployer.class.getName());
+
+    /**
+     * The operations through which applications are deployed, redeployed and undeployed.
+     */
+    public interface Operations {
+        ProtocolMetaData deploy(String deploymentName, File deploymentArchive) throws DeploymentException;
+
+        ProtocolMetaData redeploy(String deploymentName, File deploymentArchive) throws DeploymentException;
+
+        void undeploy(String deploymentName) throws DeploymentException;
+    }
+
+    private final Operations operations;
+    private final ExplodedStagingDirectory stagingDirectory;
+    private final Set<String> deferredUndeployments = new HashSet<String>();
+
+    /**
+     * The names of the staged archives of the deployed applications, by the name of the application. Guarded by the
+     * deferred undeployments.
+     */
+    private final Map<String, String> stagedArchives = new HashMap<String, String>();
+
+    public IncrementalDeployer(CommonWebLogicConfiguration configuration, Operations operations) {
+        this(new ExplodedStagingDirectory(new File(
+            new File(System.getProperty("java.io.tmpdir"), "arquillian-wls-staging"),
+            hash(configuration.getAdminUrl() + "|" + configuration.getTarget()))), operations);
+    }
+
+    IncrementalDeployer(ExplodedStagingDirectory stagingDirectory, Operations operations) {
+        this.operations = operations;
+        this.stagingDirectory = stagingDirectory;
+    }
+
+    /**
+     * Takes over the applications left deployed by earlier runs that did not undeploy them, deferring their
+     * undeployment.
+     */
+    public void start() {
+        Map<String, String> stale;
+        try {
+            stale = stagingDirectory.reclaimStaleDeployments();
+        } catch (IOException ioEx) {
+            logger.log(Level.WARNING, "Failed to determine the applications left deployed by earlier runs.", ioEx);
+            return;
+        }
+        synchronized (deferredUndeployments) {
+            for (Map.Entry<String, String> entry : stale.entrySet()) {
+                logger.log(Level.INFO, "Taking over {0}, which was left deployed by an earlier run.", entry.getValue());
+                stagedArchives.put(entry.getValue(), entry.getKey());
+                deferredUndeployments.add(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Stages the archive, and deploys it, or redeploys it if its undeployment was deferred.
+     *
+     * @param deploymentName
+     *     The name of the application
+     * @param archive
+     *     The archive to deploy
+     *
+     * @return The metadata for the deployed application
+     *
+     * @throws DeploymentException
+     *     When the archive cannot be staged, or when the deployment fails.
+     */
+    public ProtocolMetaData deploy(String deploymentName, Archive<?> archive) throws DeploymentException {
+        boolean deployed = undeployDeferred(deploymentName);
+
+        File deploymentArchive;
+        try {
+            deploymentArchive = stagingDirectory.stage(archive);
+            stagingDirectory.recordDeployment(archive.getName(), deploymentName);
+        } catch (IOException ioEx) {
+            throw new DeploymentException("Failed to stage the archive " + archive.getName(), ioEx);
+        }
+        String previousArchive;
+        synchronized (deferredUndeployments) {
+            previousArchive = stagedArchives.put(deploymentName, archive.getName());
+        }
+        if (previousArchive != null && !previousArchive.equals(archive.getName())) {
+            stagingDirectory.release(previousArchive);
+        }
+
+        if (deployed) {
+            try {
+                logger.log(Level.FINE, "Redeploying {0} from {1}", new Object[] {deploymentName, deploymentArchive});
+                return operations.redeploy(deploymentName, deploymentArchive);
+            } catch (DeploymentException deploymentEx) {
+                logger.log(Level.WARNING, "Failed to redeploy " + deploymentName + ". Deploying it anew.",
+                    deploymentEx);
+                try {
+                    operations.undeploy(deploymentName);
+                } catch (DeploymentException undeploymentEx) {
+                    logger.log(Level.FINE, "Failed to undeploy " + deploymentName, undeploymentEx);
+                }
+            }
+        }
+        try {
+            return operations.deploy(deploymentName, deploymentArchive);
+        } catch (DeploymentException deploymentEx) {
+            released(deploymentName);
+            throw deploymentEx;
+        }
+    }
+
+    /**
+     * Defers the undeployment of an application until it is deployed again, another application is deployed, or the
+     * container is stopped.
+     *
+     * @param deploymentName
+     *     The name of the application
+     */
+    public void undeploy(String deploymentName) {
+        synchronized (deferredUndeployments) {
+            deferredUndeployments.add(deploymentName);
+        }
+    }
+
+    /**
+     * Carries out all deferred undeployments.
+     *
+     * @throws DeploymentException
+     *     When an application could not be undeployed. The remaining applications are undeployed nevertheless.
+     */
+    public void close() throws DeploymentException {
+        undeployDeferred(null);
+    }
+
+    /**
+     * Carries out the deferred undeployments of all applications other than the one that is about to be deployed.
+     * Concurrent deployments wait for the undeployments to complete, so that an application is not deployed while it
+     * is being undeployed.
+     *
+     * @return true if the undeployment of the application that is about to be deployed was deferred, in which case it
+     * is still deployed
+     */
+    private boolean undeployDeferred(String deploymentName) throws DeploymentException {
+        synchronized (deferredUndeployments) {
+            boolean deployed = deferredUndeployments.remove(deploymentName);
+            List<String> pending = new ArrayList<String>(deferredUndeployments);
+            deferredUndeployments.clear();
+            DeploymentException failure = null;
+            for (String pendingName : pending) {
+                try {
+                    operations.undeploy(pendingName);
+                    released(pendingName);
+                } catch (DeploymentException deploymentEx) {
+                    // The application remains recorded, to be taken over by a later run.
+                    logger.log(Level.WARNING, "Failed to undeploy " + pendingName, deploymentEx);
+                    failure = deploymentEx;
+                }
+            }
+            if (failure != null && deploymentName == null) {
+                throw failure;
+            }
+            return deployed;
+        }
+    }
+
+    /**
+     * Releases the staged archive of an application that is no longer deployed.
+     */
+    private void released(String deploymentName) {
+        String archiveName;
+        synchronized (deferredUndeployments) {
+            archiveName = stagedArchives.remove(deploymentName);
+        }
+        if (archiveName != null) {
+            stagingDirectory.release(archiveName);
+        }
+    }
+
+    private static String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest.digest(value.getBytes("UTF-8"))) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to compute the name of the staging directory.", ex);
+        }
+    }
+}
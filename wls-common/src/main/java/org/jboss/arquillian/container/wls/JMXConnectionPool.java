@@ -0,0 +1,301 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.MBeanServerConnection;
+import javax.management.Notification;
+import javax.management.NotificationListener;
+import javax.management.remote.JMXConnectionNotification;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+/**
+ * A bounded pool of connections to an MBean Server.
+ * <p>
+ * Connections are opened on demand, up to the size of the pool, and are reused in the order of their last use, so that
+ * a single connection suffices when the pool is not used concurrently. A connection is discarded as soon as its
+ * connector reports that it has failed or was closed, or when an operation performed through it fails with an
+ * {@link IOException}. A connection that has been idle for a while is validated before it is handed out, since a
+ * dropped connection is not always reported by the connector. Discarded connections are replaced with new ones on
+ * demand, so that a dropped connection does not fail later operations.
+ */
+class JMXConnectionPool {
+
+    private static final Logger logger = Logger.getLogger(JMXConnectionPool.class.getName());
+
+    static final long VALIDATION_INTERVAL_MILLIS = 5000L;
+
+    private final JMXServiceURL serviceURL;
+    private final Map<String, ?> environment;
+    private final ClassLoader classLoader;
+    private final int maxSize;
+
+    private final LinkedList<PooledConnection> idleConnections = new LinkedList<PooledConnection>();
+    private int size = 0;
+    private boolean closed = false;
+
+    /**
+     * @param serviceURL
+     *     The URL of the MBean Server
+     * @param environment
+     *     The environment of the connectors
+     * @param classLoader
+     *     The context classloader with which connections are opened
+     * @param maxSize
+     *     The maximum number of open connections
+     */
+    JMXConnectionPool(JMXServiceURL serviceURL, Map<String, ?> environment, ClassLoader classLoader, int maxSize) {
+        this.serviceURL = serviceURL;
+        this.environment = environment;
+        this.classLoader = classLoader;
+        this.maxSize = Math.max(1, maxSize);
+    }
+
+    /**
+     * An operation performed through a connection of the pool.
+     */
+    interface ConnectionCallback<T> {
+        T doWithConnection(MBeanServerConnection connection) throws Exception;
+    }
+
+    /**
+     * Opens a connection and adds it to the pool, to verify that the MBean Server can be connected to.
+     */
+    void prime() throws IOException {
+        release(borrow(), null);
+    }
+
+    /**
+     * Performs an operation with a connection of the pool.
+     *
+     * @param callback
+     *     The operation
+     * @param retryOnConnectionFailure
+     *     Whether the operation is to be performed again with another connection, if the connection fails. This is
+     *     meant for operations that do not modify the state of the server.
+     *
+     * @return The result of the operation
+     */
+    <T> T execute(ConnectionCallback<T> callback, boolean retryOnConnectionFailure) throws Exception {
+        PooledConnection pooled = borrow();
+        Throwable failure = null;
+        try {
+            return callback.doWithConnection(pooled.connection);
+        } catch (Exception ex) {
+            failure = ex;
+            if (!retryOnConnectionFailure || !isConnectionFailure(ex)) {
+                throw ex;
+            }
+        } finally {
+            release(pooled, failure);
+        }
+
+        logger.log(Level.INFO, "The connection to the MBean Server failed. Retrying with a new connection.");
+        pooled = borrow();
+        failure = null;
+        try {
+            return callback.doWithConnection(pooled.connection);
+        } catch (Exception ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            release(pooled, failure);
+        }
+    }
+
+    /**
+     * Closes all connections. Connections that are in use are closed when they are returned to the pool.
+     */
+    void close() throws IOException {
+        IOException failure = null;
+        synchronized (this) {
+            closed = true;
+            for (PooledConnection pooled : idleConnections) {
+                try {
+                    pooled.connector.close();
+                } catch (IOException ioEx) {
+                    failure = ioEx;
+                }
+                size--;
+            }
+            idleConnections.clear();
+            notifyAll();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * @return The number of open connections, including those in use.
+     */
+    synchronized int getOpenCount() {
+        return size;
+    }
+
+    /**
+     * @return The number of open connections that are not in use.
+     */
+    synchronized int getIdleCount() {
+        return idleConnections.size();
+    }
+
+    private PooledConnection borrow() throws IOException {
+        PooledConnection pooled = null;
+        synchronized (this) {
+            while (!closed && idleConnections.isEmpty() && size >= maxSize) {
+                try {
+                    wait();
+                } catch (InterruptedException interruptedEx) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for a connection to the MBean Server.");
+                }
+            }
+            if (closed) {
+                throw new IOException("The connection pool has been closed.");
+            }
+            if (!idleConnections.isEmpty()) {
+                pooled = idleConnections.removeFirst();
+            } else {
+                size++;
+            }
+        }
+
+        if (pooled != null) {
+            if (isValid(pooled)) {
+                return pooled;
+            }
+            logger.log(Level.INFO, "The connection to the MBean Server was dropped. Reconnecting.");
+            closeQuietly(pooled);
+        }
+        try {
+            return connect();
+        } catch (IOException ioEx) {
+            synchronized (this) {
+                size--;
+                notifyAll();
+            }
+            throw ioEx;
+        } catch (RuntimeException runtimeEx) {
+            synchronized (this) {
+                size--;
+                notifyAll();
+            }
+            throw runtimeEx;
+        }
+    }
+
+    private void release(PooledConnection pooled, Throwable failure) {
+        boolean discard = pooled.failed || (failure != null && isConnectionFailure(failure));
+        synchronized (this) {
+            if (!discard && !closed) {
+                pooled.lastUsed = System.currentTimeMillis();
+                idleConnections.addFirst(pooled);
+                notifyAll();
+                return;
+            }
+            size--;
+            notifyAll();
+        }
+        closeQuietly(pooled);
+    }
+
+    private boolean isValid(PooledConnection pooled) {
+        if (pooled.failed) {
+            return false;
+        }
+        if (System.currentTimeMillis() - pooled.lastUsed < VALIDATION_INTERVAL_MILLIS) {
+            return true;
+        }
+        try {
+            pooled.connection.getMBeanCount();
+            return true;
+        } catch (IOException ioEx) {
+            return false;
+        }
+    }
+
+    private PooledConnection connect() throws IOException {
+        // The WebLogic JMX provider loads its classes through the context classloader, on every thread.
+        Thread currentThread = Thread.currentThread();
+        ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(classLoader);
+        try {
+            long start = System.currentTimeMillis();
+            JMXConnector connector = JMXConnectorFactory.connect(serviceURL, environment);
+            PooledConnection pooled = new PooledConnection(connector);
+            logger.log(Level.FINE, "Connected to the MBean Server in {0} ms.", System.currentTimeMillis() - start);
+            return pooled;
+        } finally {
+            currentThread.setContextClassLoader(originalClassLoader);
+        }
+    }
+
+    private void closeQuietly(PooledConnection pooled) {
+        try {
+            pooled.connector.close();
+        } catch (Exception ex) {
+            logger.log(Level.FINEST, "Failed to close a connection to the MBean Server.", ex);
+        }
+    }
+
+    /**
+     * Determines whether a failure was caused by the connection, rather than by the operation.
+     */
+    static boolean isConnectionFailure(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A connection of the pool, that tracks the notifications of its connector.
+     */
+    private static class PooledConnection implements NotificationListener {
+        private final JMXConnector connector;
+        private final MBeanServerConnection connection;
+        private volatile boolean failed = false;
+        private long lastUsed;
+
+        PooledConnection(JMXConnector connector) throws IOException {
+            this.connector = connector;
+            this.connection = connector.getMBeanServerConnection();
+            this.lastUsed = System.currentTimeMillis();
+            connector.addConnectionNotificationListener(this, null, null);
+        }
+
+        public void handleNotification(Notification notification, Object handback) {
+            String type = notification.getType();
+            if (JMXConnectionNotification.FAILED.equals(type) || JMXConnectionNotification.CLOSED.equals(type)) {
+                logger.log(Level.FINE, "The connection {0} to the MBean Server reported {1}",
+                    new Object[] {connector, type});
+                failed = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.io.File;
+import java.nio.channels.FileLock;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * A process that stops a warm WebLogic Server instance after it has been idle for the keep-warm timeout.
+ * <p>
+ * The reaper is launched by the last holder to release a {@link ServerLease}, and outlives the JVM of the holder. It
+ * does nothing if the lease has been acquired again, or released again by a later holder, by the time the timeout
+ * elapses. It depends on the JDK alone, since its classpath contains nothing but the container adapter.
+ * <p>
+ * Arguments: the lease directory, the time of the release, the idle timeout in milliseconds, and the shutdown
+ * command. The shutdown command is run in the working directory and environment of the reaper.
+ */
+final class KeepWarmReaper {
+
+    private KeepWarmReaper() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LeaseDirectory leaseDirectory = new LeaseDirectory(new File(args[0]));
+        String released = args[1];
+        long idleTimeout = Long.parseLong(args[2]);
+        List<String> shutdownCommand = Arrays.asList(args).subList(3, args.length);
+
+        Thread.sleep(idleTimeout);
+
+        FileLock lock = leaseDirectory.lock();
+        try {
+            Properties lease = leaseDirectory.read();
+            if (lease == null || !released.equals(lease.getProperty(LeaseDirectory.PROPERTY_RELEASED))) {
+                System.out.println("The lease has been renewed since " + released + ". Leaving the server running.");
+                return;
+            }
+            if (leaseDirectory.countLiveHolders() > 0) {
+                System.out.println("The lease is held again. Leaving the server running.");
+                return;
+            }
+            System.out.println("Stopping the server idle since " + released + " using " + shutdownCommand);
+            ProcessBuilder builder = new ProcessBuilder(shutdownCommand);
+            builder.redirectErrorStream(true);
+            builder.inheritIO();
+            int exitCode = builder.start().waitFor();
+            if (exitCode == 0) {
+                leaseDirectory.delete();
+            } else {
+                System.out.println("The shutdown command failed with the exit code " + exitCode);
+            }
+        } finally {
+            leaseDirectory.unlock(lock);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileLock;
+import java.util.Properties;
+
+/**
+ * The directory shared by the holders of a {@link ServerLease}, and by the {@link KeepWarmReaper} of the lease.
+ * <p>
+ * The directory contains a lock file that serializes changes to the lease across processes, the properties of the
+ * lease, and a file for every holder of the lease. Holders refresh the modification time of their file periodically,
+ * and holders that have not done so within the expiry are considered to have terminated.
+ * <p>
+ * This class is used by the reaper process, and therefore depends on the JDK alone.
+ */
+class LeaseDirectory {
+
+    static final String PROPERTY_DOMAIN_HASH = "domainHash";
+    static final String PROPERTY_ADMIN_URL = "adminUrl";
+    static final String PROPERTY_DOMAIN_DIRECTORY = "domainDirectory";
+    static final String PROPERTY_OWNER_PID = "ownerPid";
+    static final String PROPERTY_RELEASED = "released";
+
+    static final long HOLDER_EXPIRY_MILLIS = 60 * 1000L;
+
+    private static final String LOCK_FILE = "lease.lock";
+    private static final String LEASE_FILE = "server.properties";
+    private static final String HOLDER_PREFIX = "holder-";
+
+    private final File directory;
+
+    LeaseDirectory(File directory) {
+        this.directory = directory;
+    }
+
+    File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Acquires the lock of the lease, waiting for other processes to release it.
+     *
+     * @return The lock, to be released through {@link #unlock(FileLock)}
+     */
+    FileLock lock() throws IOException {
+        directory.mkdirs();
+        RandomAccessFile lockFile = new RandomAccessFile(new File(directory, LOCK_FILE), "rw");
+        try {
+            return lockFile.getChannel().lock();
+        } catch (IOException ioEx) {
+            lockFile.close();
+            throw ioEx;
+        }
+    }
+
+    void unlock(FileLock lock) throws IOException {
+        try {
+            lock.release();
+        } finally {
+            lock.channel().close();
+        }
+    }
+
+    /**
+     * @return The properties of the lease, or <code>null</code> if there is no lease on a server.
+     */
+    Properties read() throws IOException {
+        File leaseFile = new File(directory, LEASE_FILE);
+        if (!leaseFile.exists()) {
+            return null;
+        }
+        Properties lease = new Properties();
+        InputStream stream = new FileInputStream(leaseFile);
+        try {
+            lease.load(stream);
+        } finally {
+            stream.close();
+        }
+        return lease;
+    }
+
+    void write(Properties lease) throws IOException {
+        OutputStream stream = new FileOutputStream(new File(directory, LEASE_FILE));
+        try {
+            lease.store(stream, "Arquillian WebLogic keep-warm lease");
+        } finally {
+            stream.close();
+        }
+    }
+
+    /**
+     * Removes the lease on the server, along with all its holders.
+     */
+    void delete() {
+        deleteHolders(false);
+        new File(directory, LEASE_FILE).delete();
+    }
+
+    File createHolder(String processId) throws IOException {
+        return File.createTempFile(HOLDER_PREFIX + processId + "-", "", directory);
+    }
+
+    /**
+     * Counts the holders of the lease, removing the holders that have expired.
+     *
+     * @return The number of live holders
+     */
+    int countLiveHolders() {
+        return deleteHolders(true);
+    }
+
+    private int deleteHolders(boolean expiredOnly) {
+        int live = 0;
+        long now = System.currentTimeMillis();
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (!file.getName().startsWith(HOLDER_PREFIX)) {
+                    continue;
+                }
+                if (!expiredOnly || now - file.lastModified() > HOLDER_EXPIRY_MILLIS) {
+                    file.delete();
+                } else {
+                    live++;
+                }
+            }
+        }
+        return live;
+    }
+}
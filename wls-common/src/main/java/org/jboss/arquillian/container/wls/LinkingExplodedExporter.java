@@ -0,0 +1,178 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ArchivePath;
+import org.jboss.shrinkwrap.api.Node;
+import org.jboss.shrinkwrap.api.asset.ArchiveAsset;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.ClassAsset;
+import org.jboss.shrinkwrap.api.asset.ClassLoaderAsset;
+import org.jboss.shrinkwrap.api.asset.FileAsset;
+import org.jboss.shrinkwrap.api.asset.UrlAsset;
+
+/**
+ * Explodes archives with the same layout as the ExplodedExporter, while materializing file-backed assets without
+ * copying their content where possible.
+ * <p>
+ * Assets that are backed by a file on the local filesystem, like library JARs added as {@link FileAsset}s, or classes
+ * and resources loaded from a classes directory, are hard-linked into the exploded archive. When a hard link cannot be
+ * created, for instance because the file resides on another filesystem, the file is copied through NIO instead. All
+ * other assets are written from their streams.
+ * <p>
+ * A hard link shares its content with the source file, so the exploded archive must not be modified in place. The
+ * exploded archives of the adapter are only ever read by the server, and are replaced as a whole.
+ */
+final class LinkingExplodedExporter {
+
+    private static final Logger logger = Logger.getLogger(LinkingExplodedExporter.class.getName());
+
+    private LinkingExplodedExporter() {
+    }
+
+    /**
+     * Explodes an archive into a directory named after the archive.
+     *
+     * @param archive
+     *     The archive to explode
+     * @param parentDirectory
+     *     The directory in which the archive is exploded
+     *
+     * @return The exploded archive
+     */
+    static File exportExploded(Archive<?> archive, File parentDirectory) throws IOException {
+        long start = System.currentTimeMillis();
+        File exploded = new File(parentDirectory, archive.getName());
+        int[] counts = new int[3];
+        export(archive, exploded, counts);
+        logger.log(Level.FINE, "Exploded {0} in {1} ms: {2} entries linked, {3} copied and {4} written.",
+            new Object[] {archive.getName(), System.currentTimeMillis() - start, counts[0], counts[1], counts[2]});
+        return exploded;
+    }
+
+    private static void export(Archive<?> archive, File exploded, int[] counts) throws IOException {
+        exploded.mkdirs();
+        for (Map.Entry<ArchivePath, Node> entry : archive.getContent().entrySet()) {
+            Asset asset = entry.getValue().getAsset();
+            File file = new File(exploded, entry.getKey().get().substring(1));
+            if (asset == null) {
+                file.mkdirs();
+            } else if (asset instanceof ArchiveAsset) {
+                Archive<?> nested = ((ArchiveAsset) asset).getArchive();
+                export(nested, new File(file.getParentFile(), nested.getName()), counts);
+            } else {
+                counts[write(asset, file)]++;
+            }
+        }
+    }
+
+    /**
+     * Materializes an asset as a file, replacing any existing file.
+     *
+     * @return 0 if the file was linked to the source of the asset, 1 if the source was copied, and 2 if the asset was
+     * written from its stream
+     */
+    static int write(Asset asset, File file) throws IOException {
+        file.getParentFile().mkdirs();
+        Files.deleteIfExists(file.toPath());
+        File source = getSourceFile(asset);
+        if (source != null) {
+            try {
+                Files.createLink(file.toPath(), source.toPath());
+                return 0;
+            } catch (IOException linkEx) {
+                logger.log(Level.FINEST, "Failed to link " + file + " to " + source, linkEx);
+            } catch (UnsupportedOperationException linkEx) {
+                logger.log(Level.FINEST, "Failed to link " + file + " to " + source, linkEx);
+            }
+            Files.copy(source.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            return 1;
+        }
+        InputStream stream = asset.openStream();
+        try {
+            Files.copy(stream, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            stream.close();
+        }
+        return 2;
+    }
+
+    /**
+     * Locates the file on the local filesystem that an asset is read from. The assets of ShrinkWrap 1.0 do not expose
+     * their sources, so the sources are read reflectively, preferring the accessors of later ShrinkWrap releases.
+     *
+     * @return The source file, or <code>null</code> if the asset is not backed by a regular file.
+     */
+    static File getSourceFile(Asset asset) {
+        try {
+            File source = null;
+            if (asset instanceof FileAsset) {
+                source = (File) getSource(asset, "file");
+            } else if (asset instanceof UrlAsset) {
+                source = toFile((URL) getSource(asset, "url"));
+            } else if (asset instanceof ClassAsset) {
+                Class<?> clazz = (Class<?>) getSource(asset, "clazz");
+                ClassLoader classLoader = clazz.getClassLoader();
+                if (classLoader != null) {
+                    source = toFile(classLoader.getResource(clazz.getName().replace('.', '/') + ".class"));
+                }
+            } else if (asset instanceof ClassLoaderAsset) {
+                ClassLoader classLoader = (ClassLoader) getField(asset, "classLoader");
+                source = toFile(classLoader.getResource((String) getField(asset, "resourceName")));
+            }
+            return source != null && source.isFile() ? source : null;
+        } catch (Exception ex) {
+            logger.log(Level.FINEST, "Failed to locate the source of the asset " + asset, ex);
+            return null;
+        }
+    }
+
+    private static Object getSource(Asset asset, String fieldName) throws Exception {
+        try {
+            Method getSource = asset.getClass().getMethod("getSource");
+            return getSource.invoke(asset);
+        } catch (NoSuchMethodException noMethodEx) {
+            return getField(asset, fieldName);
+        }
+    }
+
+    private static Object getField(Asset asset, String fieldName) throws Exception {
+        Field field = asset.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(asset);
+    }
+
+    private static File toFile(URL url) throws Exception {
+        if (url == null || !"file".equals(url.getProtocol())) {
+            return null;
+        }
+        return new File(url.toURI());
+    }
+}
@@ -16,7 +16,10 @@
  */
 package org.jboss.arquillian.container.wls;
 
+import java.util.logging.Logger;
+
 import org.jboss.arquillian.container.spi.client.container.LifecycleException;
+import org.jboss.arquillian.container.wls.rest.PooledRESTClient;
 
 /**
  * A utility class for performing operations relevant to a WebLogic container managed by Arquillian.
@@ -25,8 +28,12 @@ import org.jboss.arquillian.container.spi.client.container.LifecycleException;
  */
 public class ManagedContainer extends RemoteContainer {
 
+    private static final Logger logger = Logger.getLogger(ManagedContainer.class.getName());
+
     protected CommonManagedWebLogicConfiguration configuration;
     private WebLogicServerControl serverControl;
+    private PooledRESTClient restClient;
+    private ServerLease serverLease;
     protected boolean connectedToRunningServer = false;
 
     public ManagedContainer(CommonManagedWebLogicConfiguration configuration) {
@@ -41,8 +48,13 @@ public class ManagedContainer extends RemoteContainer {
      */
     @Override
     public void start() throws LifecycleException {
-        serverControl = new WebLogicServerControl((CommonManagedWebLogicConfiguration) configuration);
-        if (serverControl.isServerRunning()) {
+        restClient = new PooledRESTClient(configuration, logger);
+        serverControl = new WebLogicServerControl(configuration, restClient);
+        if (configuration.isKeepWarm()) {
+            serverLease = new ServerLease(configuration, serverControl);
+            serverLease.acquire();
+            super.start();
+        } else if (serverControl.isServerRunning()) {
             if (configuration.isAllowConnectingToRunningServer()) {
                 connectedToRunningServer = true;
                 super.start();
@@ -68,8 +80,14 @@ public class ManagedContainer extends RemoteContainer {
         try {
             super.stop();
         } finally {
-            if (!connectedToRunningServer) {
-                serverControl.stopServer();
+            try {
+                if (serverLease != null) {
+                    serverLease.release();
+                } else if (!connectedToRunningServer) {
+                    serverControl.stopServer();
+                }
+            } finally {
+                restClient.close();
             }
         }
     }
@@ -17,6 +17,12 @@
 package org.jboss.arquillian.container.wls;
 
 import java.io.File;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.jboss.arquillian.container.spi.client.container.DeploymentException;
 import org.jboss.arquillian.container.spi.client.container.LifecycleException;
@@ -28,21 +34,60 @@ import org.jboss.shrinkwrap.api.Archive;
  * <p>
  * <p>
  * This uses a combination of the Deployer utility and JMX. The Deployer utility is used for the actual deployment
- * and undeployment, while JMX is used for verification.
+ * and undeployment, while JMX is used for verification. When in-process deployment is enabled, and the Domain Runtime
+ * MBean Server provides a Deployment Manager, the deployments are performed through JMX as well. When incremental
+ * redeployment is enabled, exploded archives are deployed through an {@link IncrementalDeployer}.
  * <p>
  * <p>
  * This implementation is not 100% stable and is known to fail occasionally.
  *
  * @author Vineet Reynolds
  */
-public class RemoteContainer {
+public class RemoteContainer implements ConcurrentlyDeployableContainer {
+
+    private static final Logger logger = Logger.getLogger(RemoteContainer.class.getName());
 
     private WebLogicJMXClient jmxClient;
     private WebLogicDeployerClient deployerClient;
     private CommonWebLogicConfiguration configuration;
+    private boolean deployInProcess;
+    private ConcurrentDeployer concurrentDeployer;
+    private IncrementalDeployer incrementalDeployer;
+    private final ConcurrentMap<String, File> deployedExports = new ConcurrentHashMap<String, File>();
+
+    private final ConcurrentDeployer.Deployment<File> deployment = new ConcurrentDeployer.Deployment<File>() {
+        public File export(Archive<?> archive) {
+            if (incrementalDeployer != null) {
+                // Incremental deployments stage the archive once earlier deployments are complete.
+                return null;
+            }
+            return ShrinkWrapUtil.toFile(archive, configuration.isDeployExplodedArchive(), configuration);
+        }
+
+        public ProtocolMetaData activate(Archive<?> archive, File deploymentArchive) throws DeploymentException {
+            boolean deployed = false;
+            try {
+                ProtocolMetaData metaData = doDeploy(archive, deploymentArchive);
+                deployed = true;
+                return metaData;
+            } finally {
+                if (deployed && deployInProcess && deploymentArchive != null) {
+                    // The admin server reads the archive from its path, rather than an upload, until it is undeployed.
+                    deployedExports.put(getDeploymentName(archive), deploymentArchive);
+                } else {
+                    ShrinkWrapUtil.release(deploymentArchive);
+                }
+            }
+        }
+
+        public void undeploy(Archive<?> archive) throws DeploymentException {
+            RemoteContainer.this.undeploy(archive);
+        }
+    };
 
     public RemoteContainer(CommonWebLogicConfiguration configuration) {
         this.configuration = configuration;
+        this.concurrentDeployer = new ConcurrentDeployer(configuration.getDeploymentConcurrency());
     }
 
     /**
@@ -54,6 +99,51 @@ public class RemoteContainer {
     public void start() throws LifecycleException {
         deployerClient = new WebLogicDeployerClient(configuration);
         jmxClient = new WebLogicJMXClient(configuration);
+        if (configuration.isInProcessDeployment()) {
+            deployInProcess = jmxClient.isDeploymentManagerAvailable();
+            if (!deployInProcess) {
+                logger.log(Level.WARNING, "The Deployment Manager is not available in the Domain Runtime MBean Server. "
+                    + "Falling back to weblogic.Deployer for deployments.");
+            }
+        }
+        if (!deployInProcess) {
+            deployerClient.start();
+        }
+        if (configuration.isDeployExplodedArchive() && configuration.isIncrementalRedeploy()) {
+            incrementalDeployer = new IncrementalDeployer(configuration, new IncrementalDeployer.Operations() {
+                public ProtocolMetaData deploy(String deploymentName, File deploymentArchive)
+                    throws DeploymentException {
+                    return deployOrRedeploy(deploymentName, deploymentArchive, false);
+                }
+
+                public ProtocolMetaData redeploy(String deploymentName, File deploymentArchive)
+                    throws DeploymentException {
+                    return deployOrRedeploy(deploymentName, deploymentArchive, true);
+                }
+
+                public void undeploy(String deploymentName) throws DeploymentException {
+                    doUndeploy(deploymentName);
+                }
+            });
+            incrementalDeployer.start();
+        }
+    }
+
+    /**
+     * Starts deploying the archives concurrently. The results are obtained through {@link #deploy(Archive)}.
+     *
+     * @param archives
+     *     The independent archives to deploy
+     */
+    public void deployConcurrently(List<Archive<?>> archives) {
+        concurrentDeployer.submit(archives, deployment);
+    }
+
+    /**
+     * Undeploys the archives started concurrently whose results were never obtained.
+     */
+    public void discardConcurrentDeployments() {
+        concurrentDeployer.discardPending();
     }
 
     /**
@@ -69,10 +159,40 @@ public class RemoteContainer {
      *     or when details of the deployment cannot be obtained from the Domain Runtime MBean Server.
      */
     public ProtocolMetaData deploy(Archive<?> archive) throws DeploymentException {
+        return concurrentDeployer.deploy(archive, deployment);
+    }
+
+    /**
+     * Starts deploying an archive in the background, without blocking the calling thread.
+     *
+     * @param archive
+     *     The archive to deploy
+     */
+    public Future<ProtocolMetaData> deployAsync(Archive<?> archive) {
+        return concurrentDeployer.submit(archive, deployment);
+    }
+
+    private ProtocolMetaData doDeploy(Archive<?> archive, File deploymentArchive) throws DeploymentException {
         String deploymentName = getDeploymentName(archive);
-        File deploymentArchive = ShrinkWrapUtil.toFile(archive, configuration.isDeployExplodedArchive());
+        if (incrementalDeployer != null) {
+            return incrementalDeployer.deploy(deploymentName, archive);
+        }
+        return deployOrRedeploy(deploymentName, deploymentArchive, false);
+    }
 
-        deployerClient.deploy(deploymentName, deploymentArchive);
+    private ProtocolMetaData deployOrRedeploy(String deploymentName, File deploymentArchive, boolean redeploy)
+        throws DeploymentException {
+        if (deployInProcess) {
+            if (redeploy) {
+                return jmxClient.redeploy(deploymentName);
+            }
+            return jmxClient.deploy(deploymentName, deploymentArchive, configuration.getTarget());
+        }
+        if (redeploy) {
+            deployerClient.redeploy(deploymentName, deploymentArchive);
+        } else {
+            deployerClient.deploy(deploymentName, deploymentArchive);
+        }
         return jmxClient.verifyDeployment(deploymentName);
     }
 
@@ -87,22 +207,52 @@ public class RemoteContainer {
      *     or when undeployment cannot be confirmed.
      */
     public void undeploy(Archive<?> archive) throws DeploymentException {
-        // Undeploy the application
         String deploymentName = getDeploymentName(archive);
-        deployerClient.undeploy(deploymentName);
+        if (incrementalDeployer != null) {
+            incrementalDeployer.undeploy(deploymentName);
+            return;
+        }
+        try {
+            doUndeploy(deploymentName);
+        } finally {
+            ShrinkWrapUtil.release(deployedExports.remove(deploymentName));
+        }
+    }
+
+    private void doUndeploy(String deploymentName) throws DeploymentException {
+        // Undeploy the application
+        if (deployInProcess) {
+            jmxClient.undeploy(deploymentName);
+        } else {
+            deployerClient.undeploy(deploymentName);
+        }
 
         // Verify the undeployment from the Domain Runtime MBean Server.
         jmxClient.verifyUndeployment(deploymentName);
     }
 
     /**
-     * Stops the JMX client.
+     * Stops the JMX client and the weblogic.Deployer daemon, if any.
      *
      * @throws LifecycleException
      *     When there is failure in closing the JMX connection.
      */
     public void stop() throws LifecycleException {
-        jmxClient.close();
+        concurrentDeployer.close();
+        try {
+            if (incrementalDeployer != null) {
+                incrementalDeployer.close();
+            }
+        } catch (DeploymentException deploymentEx) {
+            throw new LifecycleException("Failed to undeploy the applications whose undeployment was deferred.",
+                deploymentEx);
+        } finally {
+            try {
+                jmxClient.close();
+            } finally {
+                deployerClient.close();
+            }
+        }
     }
 
     private String getDeploymentName(Archive<?> archive) {
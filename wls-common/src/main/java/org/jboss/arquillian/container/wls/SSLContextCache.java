@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.security.KeyStore;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+
+/**
+ * Creates the {@link SSLContext} used by the REST clients to connect to WebLogic Server, from the truststore in the
+ * container configuration.
+ * <p>
+ * The context is passed to every connection, instead of the truststore being set through the JVM-wide
+ * <code>javax.net.ssl.trustStore</code> properties, so that containers with different truststores may connect
+ * concurrently. The JMX clients cannot use it, since the WebLogic JMX providers only read those properties; see
+ * {@link TrustStoreProperties}. Contexts are cached by the location, password and modification time of the truststore, since loading a
+ * truststore and initializing a context is expensive.
+ */
+public final class SSLContextCache {
+
+    private static final Logger logger = Logger.getLogger(SSLContextCache.class.getName());
+
+    private static final ConcurrentMap<String, SSLContext> contexts = new ConcurrentHashMap<String, SSLContext>();
+
+    private SSLContextCache() {
+    }
+
+    /**
+     * Returns the SSL context that trusts the certificates in the configured truststore.
+     *
+     * @param configuration
+     *     The container configuration
+     *
+     * @return The SSL context, or <code>null</code> if no truststore is configured, in which case the default SSL context
+     * of the JVM is to be used.
+     *
+     * @throws IllegalArgumentException
+     *     When the truststore cannot be loaded.
+     */
+    public static SSLContext getSSLContext(CommonWebLogicConfiguration configuration) {
+        if (!configuration.isUseDemoTrust() && !configuration.isUseCustomTrust()
+            && !configuration.isUseJavaStandardTrust()) {
+            return null;
+        }
+        File trustStore = new File(configuration.getTrustStoreLocation());
+        String password = configuration.getTrustStorePassword();
+        String key = trustStore.getAbsolutePath() + "|" + password + "|" + trustStore.lastModified();
+
+        SSLContext context = contexts.get(key);
+        if (context == null) {
+            context = createSSLContext(trustStore, password);
+            SSLContext existing = contexts.putIfAbsent(key, context);
+            if (existing != null) {
+                context = existing;
+            }
+        }
+        return context;
+    }
+
+    private static SSLContext createSSLContext(File trustStore, String password) {
+        try {
+            long start = System.currentTimeMillis();
+            KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+            InputStream stream = new FileInputStream(trustStore);
+            try {
+                // The password of a JKS truststore usually need not be specified to read the CA certs.
+                keyStore.load(stream, password != null && !password.equals("") ? password.toCharArray() : null);
+            } finally {
+                stream.close();
+            }
+
+            TrustManagerFactory trustManagerFactory =
+                TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            trustManagerFactory.init(keyStore);
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(null, trustManagerFactory.getTrustManagers(), null);
+            logger.log(Level.FINE, "Created the SSL context for the truststore {0} in {1} ms.",
+                new Object[] {trustStore, System.currentTimeMillis() - start});
+            return context;
+        } catch (Exception ex) {
+            throw new IllegalArgumentException("Failed to load the truststore " + trustStore, ex);
+        }
+    }
+}
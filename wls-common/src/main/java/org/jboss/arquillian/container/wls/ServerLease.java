@@ -0,0 +1,286 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.channels.FileLock;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.arquillian.container.spi.client.container.LifecycleException;
+
+/**
+ * A lease on a WebLogic Server instance that is kept warm across the test JVMs using the same domain.
+ * <p>
+ * The first container to acquire the lease starts the server, and records the lease in a directory shared by all JVMs
+ * on the host, that is derived from the domain directory and the admin URL. Later containers attach to the running
+ * server, after verifying that it serves the configured domain. Every container registers itself as a holder of the
+ * lease, and refreshes its registration periodically, so that the holders of JVMs that have terminated abnormally
+ * expire. When the last holder releases the lease, the server is stopped once it has been idle for the configured
+ * timeout, by a {@link KeepWarmReaper} process that outlives the JVM.
+ */
+public class ServerLease {
+
+    private static final Logger logger = Logger.getLogger(ServerLease.class.getName());
+
+    private static final long HEARTBEAT_INTERVAL_MILLIS = 10 * 1000L;
+
+    /**
+     * Serializes the use of the lease within the JVM, since file locks are held on behalf of the whole JVM.
+     */
+    private static final Object JVM_LOCK = new Object();
+
+    private final CommonManagedWebLogicConfiguration configuration;
+    private final WebLogicServerControl serverControl;
+    private final File domainDirectory;
+    private final String domainHash;
+    private final LeaseDirectory leaseDirectory;
+    private File holder;
+    private ScheduledExecutorService heartbeat;
+    private boolean managed;
+
+    public ServerLease(CommonManagedWebLogicConfiguration configuration, WebLogicServerControl serverControl)
+        throws LifecycleException {
+        this(configuration, serverControl, new File(System.getProperty("java.io.tmpdir"), "arquillian-wls-leases"));
+    }
+
+    ServerLease(CommonManagedWebLogicConfiguration configuration, WebLogicServerControl serverControl,
+        File leasesDirectory) throws LifecycleException {
+        this.configuration = configuration;
+        this.serverControl = serverControl;
+        try {
+            this.domainDirectory = new File(configuration.getDomainDirectory()).getCanonicalFile();
+        } catch (IOException ioEx) {
+            throw new LifecycleException("Failed to resolve the domain directory " + configuration.getDomainDirectory(),
+                ioEx);
+        }
+        this.domainHash = hash(domainDirectory.getPath() + "|" + configuration.getAdminUrl());
+        this.leaseDirectory = new LeaseDirectory(new File(leasesDirectory, domainHash));
+    }
+
+    /**
+     * Acquires the lease, starting the server if it is not running, or attaching to the server if it was started by
+     * another container.
+     *
+     * @throws LifecycleException
+     *     When the server could not be started, or when the running server cannot be verified to serve the domain.
+     */
+    public void acquire() throws LifecycleException {
+        synchronized (JVM_LOCK) {
+            FileLock lock = lock();
+            try {
+                Properties lease = leaseDirectory.read();
+                if (serverControl.isServerRunning()) {
+                    if (lease != null) {
+                        verifyIdentity(lease);
+                        managed = true;
+                        logger.log(Level.INFO, "Attaching to the warm WebLogic Server started by process {0}",
+                            lease.getProperty(LeaseDirectory.PROPERTY_OWNER_PID));
+                    } else if (configuration.isAllowConnectingToRunningServer()) {
+                        managed = false;
+                    } else {
+                        throw new LifecycleException("The server is already running, but was not started by a "
+                            + "container in keep-warm mode. Please stop the server before running, or set "
+                            + "allowConnectingToRunningServer to true in the container configuration");
+                    }
+                } else {
+                    // The server recorded in the lease, if any, is gone, and so are its holders.
+                    leaseDirectory.delete();
+                    serverControl.startServer();
+                    leaseDirectory.write(createLease());
+                    managed = true;
+                }
+                register();
+            } catch (IOException ioEx) {
+                throw new LifecycleException("Failed to acquire the lease in " + leaseDirectory.getDirectory(), ioEx);
+            } finally {
+                unlock(lock);
+            }
+        }
+    }
+
+    /**
+     * Releases the lease. The server is stopped when no other container holds the lease, immediately if the idle
+     * timeout is zero, and otherwise after the idle timeout, if the lease has not been acquired again in the
+     * meantime.
+     *
+     * @throws LifecycleException
+     *     When the server could not be stopped.
+     */
+    public void release() throws LifecycleException {
+        synchronized (JVM_LOCK) {
+            if (heartbeat != null) {
+                heartbeat.shutdownNow();
+                heartbeat = null;
+            }
+            FileLock lock = lock();
+            try {
+                if (holder != null) {
+                    holder.delete();
+                    holder = null;
+                }
+                Properties lease = leaseDirectory.read();
+                if (!managed || lease == null || leaseDirectory.countLiveHolders() > 0) {
+                    return;
+                }
+                if (configuration.getKeepWarmIdleTimeout() <= 0) {
+                    serverControl.stopServer();
+                    leaseDirectory.delete();
+                    return;
+                }
+                String released = String.valueOf(System.currentTimeMillis());
+                lease.setProperty(LeaseDirectory.PROPERTY_RELEASED, released);
+                leaseDirectory.write(lease);
+                startReaper(released);
+            } catch (IOException ioEx) {
+                throw new LifecycleException("Failed to release the lease in " + leaseDirectory.getDirectory(), ioEx);
+            } finally {
+                unlock(lock);
+            }
+        }
+    }
+
+    /**
+     * Verifies that the lease was recorded for the configured server, and that the running server serves the
+     * configured domain.
+     */
+    private void verifyIdentity(Properties lease) throws LifecycleException {
+        if (!domainHash.equals(lease.getProperty(LeaseDirectory.PROPERTY_DOMAIN_HASH))
+            || !domainDirectory.getPath().equals(lease.getProperty(LeaseDirectory.PROPERTY_DOMAIN_DIRECTORY))
+            || !configuration.getAdminUrl().equals(lease.getProperty(LeaseDirectory.PROPERTY_ADMIN_URL))) {
+            throw new LifecycleException("The lease in " + leaseDirectory.getDirectory()
+                + " does not belong to the domain " + domainDirectory + " served at " + configuration.getAdminUrl());
+        }
+        String rootDirectory;
+        try {
+            rootDirectory = new File(serverControl.getDomainRootDirectory()).getCanonicalPath();
+        } catch (IOException ioEx) {
+            throw new LifecycleException("Failed to verify the domain of the running server.", ioEx);
+        }
+        if (!domainDirectory.getPath().equals(rootDirectory)) {
+            throw new LifecycleException("The server running at " + configuration.getAdminUrl()
+                + " serves the domain " + rootDirectory + " instead of " + domainDirectory);
+        }
+    }
+
+    private Properties createLease() {
+        Properties lease = new Properties();
+        lease.setProperty(LeaseDirectory.PROPERTY_DOMAIN_HASH, domainHash);
+        lease.setProperty(LeaseDirectory.PROPERTY_ADMIN_URL, configuration.getAdminUrl());
+        lease.setProperty(LeaseDirectory.PROPERTY_DOMAIN_DIRECTORY, domainDirectory.getPath());
+        // The PID of the server process is not available before Java 9, so we record the JVM that launched it.
+        lease.setProperty(LeaseDirectory.PROPERTY_OWNER_PID, getProcessId());
+        return lease;
+    }
+
+    /**
+     * Registers this container as a holder of the lease, and keeps the registration alive.
+     */
+    private void register() throws IOException {
+        final File registration = leaseDirectory.createHolder(getProcessId());
+        holder = registration;
+        heartbeat = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "arquillian-wls-lease-heartbeat");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        heartbeat.scheduleWithFixedDelay(new Runnable() {
+            public void run() {
+                registration.setLastModified(System.currentTimeMillis());
+            }
+        }, HEARTBEAT_INTERVAL_MILLIS, HEARTBEAT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Launches a process that stops the server after the idle timeout, unless the lease is acquired again.
+     */
+    private void startReaper(String released) throws IOException {
+        String classpath;
+        try {
+            classpath = new File(ServerLease.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                .getPath();
+        } catch (Exception ex) {
+            throw new IOException("Failed to locate the container adapter.", ex);
+        }
+        List<String> command = new ArrayList<String>();
+        command.add(new File(new File(System.getProperty("java.home"), "bin"), "java").getPath());
+        command.add("-cp");
+        command.add(classpath);
+        command.add(KeepWarmReaper.class.getName());
+        command.add(leaseDirectory.getDirectory().getPath());
+        command.add(released);
+        command.add(String.valueOf(configuration.getKeepWarmIdleTimeout() * 1000L));
+        command.addAll(serverControl.getShutdownCommand());
+
+        ProcessBuilder builder = new ProcessBuilder(command);
+        builder.directory(domainDirectory);
+        builder.environment().put("MW_HOME", configuration.getMiddlewareHome());
+        builder.redirectErrorStream(true);
+        builder.redirectOutput(
+            ProcessBuilder.Redirect.appendTo(new File(leaseDirectory.getDirectory(), "reaper.log")));
+        builder.start();
+        logger.log(Level.INFO, "WebLogic Server will be stopped after {0} seconds, unless it is used again.",
+            configuration.getKeepWarmIdleTimeout());
+    }
+
+    private FileLock lock() throws LifecycleException {
+        try {
+            return leaseDirectory.lock();
+        } catch (IOException ioEx) {
+            throw new LifecycleException("Failed to lock the lease in " + leaseDirectory.getDirectory(), ioEx);
+        }
+    }
+
+    private void unlock(FileLock lock) {
+        try {
+            leaseDirectory.unlock(lock);
+        } catch (IOException ioEx) {
+            logger.log(Level.FINE, "Failed to unlock the lease in " + leaseDirectory.getDirectory(), ioEx);
+        }
+    }
+
+    private static String getProcessId() {
+        String name = ManagementFactory.getRuntimeMXBean().getName();
+        int separator = name.indexOf('@');
+        return separator > 0 ? name.substring(0, separator) : name;
+    }
+
+    private static String hash(String value) throws LifecycleException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest.digest(value.getBytes("UTF-8"))) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (Exception ex) {
+            throw new LifecycleException("Failed to compute the key of the lease.", ex);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tracks the lifecycle of a WebLogic Server instance from the messages it writes to its console.
+ * <p>
+ * Every line of output is matched against the WebLogic message format, i.e.
+ * <code>&lt;timestamp&gt; &lt;severity&gt; &lt;subsystem&gt; &lt;BEA-nnnnnn&gt; &lt;message&gt;</code>. State
+ * transitions reported through BEA-000365, and the start of the server reported through BEA-000360, are published to
+ * threads waiting in {@link #awaitState(long, String...)}. Fatal errors during the boot are recorded, and wake up all
+ * waiting threads, so that a failed startup is detected as soon as it is logged.
+ */
+class ServerLogMonitor {
+
+    private static final Logger logger = Logger.getLogger(ServerLogMonitor.class.getName());
+
+    static final String STATE_RUNNING = "RUNNING";
+    static final String STATE_SHUTDOWN = "SHUTDOWN";
+
+    private static final Pattern MESSAGE_PATTERN =
+        Pattern.compile("<(Emergency|Alert|Critical|Error|Warning|Notice|Info|Debug|Trace)>.*<(BEA-\\d{6})>\\s*<(.*)");
+    private static final Pattern STATE_CHANGE_PATTERN = Pattern.compile("state changed to (\\w+)");
+
+    /**
+     * The server started in RUNNING mode.
+     */
+    private static final String MSG_SERVER_STARTED = "BEA-000360";
+
+    /**
+     * The state of the server changed.
+     */
+    private static final String MSG_STATE_CHANGED = "BEA-000365";
+
+    /**
+     * Messages that report a failure that the server cannot recover from, during the boot.
+     */
+    private static final Set<String> FATAL_MESSAGES = new HashSet<String>(Arrays.asList(
+        "BEA-000362", // Server failed
+        "BEA-000383", // A critical service failed. The server will shut itself down.
+        "BEA-000386", // Server subsystem failed
+        "BEA-000388", // JVM called the WebLogic Server shutdown hook
+        "BEA-090870"  // The realm failed to be loaded
+    ));
+
+    private final Object monitor = new Object();
+    private String state;
+    private String failure;
+    private boolean ended;
+
+    /**
+     * Processes a line of console output.
+     *
+     * @param line
+     *     A line of output from the server
+     */
+    public void onLine(String line) {
+        Matcher matcher = MESSAGE_PATTERN.matcher(line);
+        if (!matcher.find()) {
+            return;
+        }
+        String severity = matcher.group(1);
+        String messageId = matcher.group(2);
+        String message = matcher.group(3);
+
+        if (MSG_SERVER_STARTED.equals(messageId)) {
+            publishState(STATE_RUNNING);
+        } else if (MSG_STATE_CHANGED.equals(messageId)) {
+            Matcher stateMatcher = STATE_CHANGE_PATTERN.matcher(message);
+            if (stateMatcher.find()) {
+                publishState(stateMatcher.group(1));
+            }
+        } else if (FATAL_MESSAGES.contains(messageId) || "Emergency".equals(severity)) {
+            publishFailure(line);
+        }
+    }
+
+    /**
+     * Records that the output of the server has ended, typically because the process has terminated.
+     */
+    public void onEnd() {
+        synchronized (monitor) {
+            ended = true;
+            monitor.notifyAll();
+        }
+    }
+
+    /**
+     * Waits until the server reaches any of the specified states, reports a fatal error, or terminates.
+     *
+     * @param timeoutMillis
+     *     The maximum duration to wait for
+     * @param states
+     *     The states to wait for
+     *
+     * @return true if the server is in any of the states; Otherwise, false
+     *
+     * @throws InterruptedException
+     *     When the waiting thread is interrupted
+     */
+    public boolean awaitState(long timeoutMillis, String... states) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        List<String> expectedStates = Arrays.asList(states);
+        synchronized (monitor) {
+            while (!expectedStates.contains(state) && failure == null && !ended) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    break;
+                }
+                monitor.wait(remaining);
+            }
+            return expectedStates.contains(state);
+        }
+    }
+
+    /**
+     * @return The last state reported by the server, or <code>null</code> if none has been reported.
+     */
+    public String getState() {
+        synchronized (monitor) {
+            return state;
+        }
+    }
+
+    /**
+     * @return The line reporting a fatal error, or <code>null</code> if no fatal error has been reported.
+     */
+    public String getFailure() {
+        synchronized (monitor) {
+            return failure;
+        }
+    }
+
+    /**
+     * @return true if the output of the server has ended; Otherwise, false.
+     */
+    public boolean isEnded() {
+        synchronized (monitor) {
+            return ended;
+        }
+    }
+
+    private void publishState(String newState) {
+        logger.log(Level.FINE, "WebLogic Server is in the {0} state", newState);
+        synchronized (monitor) {
+            state = newState;
+            monitor.notifyAll();
+        }
+    }
+
+    private void publishFailure(String line) {
+        logger.log(Level.FINE, "WebLogic Server reported a fatal error: {0}", line);
+        synchronized (monitor) {
+            if (failure == null) {
+                failure = line;
+            }
+            monitor.notifyAll();
+        }
+    }
+}
@@ -22,7 +22,6 @@ import java.io.FileOutputStream;
 import java.net.URL;
 
 import org.jboss.shrinkwrap.api.Archive;
-import org.jboss.shrinkwrap.api.exporter.ExplodedExporter;
 import org.jboss.shrinkwrap.api.exporter.ZipExporter;
 import org.jboss.shrinkwrap.descriptor.api.Descriptor;
 
@@ -101,7 +100,8 @@ public final class ShrinkWrapUtil {
      * @param archive
      *     Archive to export
      * @param exploded
-     *     Specifies, whether to explode the archive after creation
+     *     Specifies, whether to explode the archive after creation. File-backed assets of an exploded archive are
+     *     hard-linked instead of copied, where possible.
      */
     public static File toFile(final Archive<?> archive, final boolean exploded) {
         // create a random named temp file, then delete and use it as a directory
@@ -114,7 +114,7 @@ public final class ShrinkWrapUtil {
             deployment.deleteOnExit();
 
             if (exploded) {
-                return archive.as(ExplodedExporter.class).exportExploded(root, archive.getName());
+                return LinkingExplodedExporter.exportExploded(archive, root);
             } else {
                 archive.as(ZipExporter.class).exportTo(deployment, true);
                 return deployment;
@@ -123,4 +123,43 @@ public final class ShrinkWrapUtil {
             throw new RuntimeException("Could not export deployment to temp", e);
         }
     }
+
+    /**
+     * Exports the archive, reusing an earlier export of an identical archive when the archive export cache is
+     * enabled in the configuration. Otherwise, the archive is exported to a tmp folder.
+     *
+     * @param archive
+     *     Archive to export
+     * @param exploded
+     *     Specifies, whether to explode the archive after creation
+     * @param configuration
+     *     The container configuration containing the settings of the archive export cache
+     */
+    public static File toFile(final Archive<?> archive, final boolean exploded,
+        final CommonWebLogicConfiguration configuration) {
+        if (!configuration.isCacheArchiveExports()) {
+            return toFile(archive, exploded);
+        }
+        try {
+            return ArchiveExportCache.getInstance().export(archive, exploded,
+                configuration.getArchiveExportCacheMaxSize() * 1024L * 1024L,
+                configuration.getArchiveExportCacheMaxAge() * 1000L);
+        } catch (Exception e) {
+            throw new RuntimeException("Could not export deployment to the archive export cache", e);
+        }
+    }
+
+    /**
+     * Releases an archive exported through {@link #toFile(Archive, boolean, CommonWebLogicConfiguration)} once the
+     * server no longer reads it, so that the archive export cache may evict it. Temporary exports are left to be
+     * deleted on exit.
+     *
+     * @param exported
+     *     The exported file or directory, or <code>null</code>
+     */
+    public static void release(File exported) {
+        if (exported != null) {
+            ArchiveExportCache.getInstance().release(exported);
+        }
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import java.io.InterruptedIOException;
+
+/**
+ * Sets the truststore of a container configuration as the JVM-wide <code>javax.net.ssl.trustStore</code> and
+ * <code>javax.net.ssl.trustStorePassword</code> properties, for the duration of a JMX operation.
+ * <p>
+ * The t3s and iiops providers of WebLogic Server read their trust only from these properties, and do not honour an
+ * SSL context or socket factory in the connector environment. Since the properties are shared by every container in
+ * the JVM, they are held rather than merely set: operations of containers with the same truststore hold them
+ * concurrently, while operations of a container with a different truststore wait until they are released. The
+ * original values are restored when the last holder releases them.
+ */
+final class TrustStoreProperties {
+
+    private static final String TRUST_STORE = "javax.net.ssl.trustStore";
+    private static final String TRUST_STORE_PASSWORD = "javax.net.ssl.trustStorePassword";
+
+    private static final Object lock = new Object();
+
+    // The following are guarded by the lock.
+    private static TrustStoreProperties current;
+    private static int holders = 0;
+    private static String originalTrustStore;
+    private static String originalTrustStorePassword;
+
+    private final String trustStore;
+    private final String trustStorePassword;
+
+    private TrustStoreProperties(String trustStore, String trustStorePassword) {
+        this.trustStore = trustStore;
+        this.trustStorePassword = trustStorePassword;
+    }
+
+    /**
+     * @param configuration
+     *     The container configuration
+     *
+     * @return The truststore properties of the configuration, or <code>null</code> if no truststore is configured.
+     */
+    static TrustStoreProperties forConfiguration(CommonWebLogicConfiguration configuration) {
+        if (!configuration.isUseDemoTrust() && !configuration.isUseCustomTrust()
+            && !configuration.isUseJavaStandardTrust()) {
+            return null;
+        }
+        return new TrustStoreProperties(configuration.getTrustStoreLocation(), configuration.getTrustStorePassword());
+    }
+
+    /**
+     * Sets the properties, waiting while they are held for a different truststore.
+     *
+     * @throws InterruptedIOException
+     *     When the thread is interrupted while waiting.
+     */
+    void acquire() throws InterruptedIOException {
+        synchronized (lock) {
+            while (holders > 0 && !sameTrustStore(current)) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException interruptedEx) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the truststore properties.");
+                }
+            }
+            if (holders == 0) {
+                originalTrustStore = System.getProperty(TRUST_STORE);
+                originalTrustStorePassword = System.getProperty(TRUST_STORE_PASSWORD);
+                System.setProperty(TRUST_STORE, trustStore);
+                // The default password for JKS truststores
+                // usually need not be specified to read the CA certs.
+                // But, if this was specified in arquillian.xml, we'll set it.
+                if (trustStorePassword != null && !trustStorePassword.equals("")) {
+                    System.setProperty(TRUST_STORE_PASSWORD, trustStorePassword);
+                }
+                current = this;
+            }
+            holders++;
+        }
+    }
+
+    /**
+     * Releases the properties, restoring their original values if no other operation holds them.
+     */
+    void release() {
+        synchronized (lock) {
+            holders--;
+            if (holders == 0) {
+                restore(TRUST_STORE, originalTrustStore);
+                restore(TRUST_STORE_PASSWORD, originalTrustStorePassword);
+                current = null;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private boolean sameTrustStore(TrustStoreProperties other) {
+        return other != null && equal(trustStore, other.trustStore) && equal(trustStorePassword,
+            other.trustStorePassword);
+    }
+
+    private static boolean equal(String first, String second) {
+        return first == null ? second == null : first.equals(second);
+    }
+
+    private static void restore(String key, String value) {
+        if (value == null) {
+            System.clearProperty(key);
+        } else {
+            System.setProperty(key, value);
+        }
+    }
+}
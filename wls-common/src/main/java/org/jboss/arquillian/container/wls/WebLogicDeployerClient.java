@@ -37,6 +37,9 @@ import org.jboss.arquillian.container.wls.CommonWebLogicConfiguration;
  * <p>
  * The output of the weblogic.Deployer process is only displayed and not parsed.
  * We'll use the JMX client to actually figure out the details of the deployment.
+ * <p>
+ * When configured to use a daemon, weblogic.Deployer is run in a single long-lived JVM that is started along with the
+ * container, instead of a new JVM for every deployment. Errors reported by weblogic.Deployer are then logged as well.
  *
  * @author Vineet Reynolds
  */
@@ -44,14 +47,42 @@ public class WebLogicDeployerClient {
 
     private static final Logger logger = Logger.getLogger(WebLogicDeployerClient.class.getName());
 
-    private Process deployer;
     private CommonWebLogicConfiguration configuration;
-    private StringBuilder buffer;
+    private volatile DeployerDaemonConnection daemon;
 
     public WebLogicDeployerClient(CommonWebLogicConfiguration configuration) {
         this.configuration = configuration;
     }
 
+    /**
+     * Launches the weblogic.Deployer daemon, if the client is configured to use one. If the daemon cannot be
+     * launched, every deployment will fork a new weblogic.Deployer process.
+     */
+    public void start() {
+        if (!configuration.isUseDeployerDaemon()) {
+            return;
+        }
+        DeployerDaemonConnection connection = new DeployerDaemonConnection();
+        try {
+            connection.open(createCommandBuilder());
+            daemon = connection;
+        } catch (IOException ioEx) {
+            logger.log(Level.WARNING, "Failed to start the weblogic.Deployer daemon. weblogic.Deployer will be forked "
+                + "for every deployment.", ioEx);
+        }
+    }
+
+    /**
+     * Terminates the weblogic.Deployer daemon, if one was launched.
+     */
+    public void close() {
+        DeployerDaemonConnection connection = daemon;
+        if (connection != null) {
+            daemon = null;
+            connection.close();
+        }
+    }
+
     /**
      * Forks the weblogic.Deployer process to trigger a deployment.
      * <p>
@@ -70,26 +101,51 @@ public class WebLogicDeployerClient {
      *     or when interaction with the forked process fails.
      */
     public void deploy(String deploymentName, File deploymentArchive) throws DeploymentException {
-        CommandBuilder builder = new CommandBuilder()
-            .setClassPath(configuration.getClassPath())
-            .setAdminUrl(configuration.getAdminUrl())
-            .setAdminUserName(configuration.getAdminUserName())
-            .setAdminPassword(configuration.getAdminPassword())
+        CommandBuilder builder = createCommandBuilder()
             .setDeploymentName(deploymentName)
-            .setDeploymentArchivePath(deploymentArchive.getAbsolutePath())
-            .setTargets(configuration.getTarget())
-            .setUseDemoTrust(configuration.isUseDemoTrust())
-            .setUseCustomTrust(configuration.isUseCustomTrust())
-            .setCustomTrustStore(configuration.getTrustStoreLocation())
-            .setUseJavaStandardTrust(configuration.isUseJavaStandardTrust())
-            .setIgnoreHostNameVerification(configuration.isIgnoreHostNameVerification())
-            .setHostnameVerifierClass(configuration.getHostnameVerifierClass())
-            .setUseURandom(configuration.isUseURandom());
+            .setDeploymentArchivePath(deploymentArchive.getAbsolutePath());
 
+        DeployerDaemonConnection connection = daemon;
+        if (connection != null) {
+            logger.log(Level.INFO, "Using the weblogic.Deployer daemon to deploy the test artifact.");
+            if (runInDaemon(connection, builder.buildDeployArguments())) {
+                return;
+            }
+        }
         logger.log(Level.INFO, "Starting weblogic.Deployer to deploy the test artifact.");
         forkWebLogicDeployer(builder.buildDeployCommand());
     }
 
+    /**
+     * Forks the weblogic.Deployer process to trigger a redeployment of an application that is deployed.
+     * <p>
+     * As with deployments, the caller must verify the status of the redeployment with the AdminServer.
+     *
+     * @param deploymentName
+     *     The name of the application to be redeployed
+     * @param deploymentArchive
+     *     The file archive (EAR/WAR) representing the updated application
+     *
+     * @throws DeploymentException
+     *     When forking of weblogic.Deployer fails,
+     *     or when interaction with the forked process fails.
+     */
+    public void redeploy(String deploymentName, File deploymentArchive) throws DeploymentException {
+        CommandBuilder builder = createCommandBuilder()
+            .setDeploymentName(deploymentName)
+            .setDeploymentArchivePath(deploymentArchive.getAbsolutePath());
+
+        DeployerDaemonConnection connection = daemon;
+        if (connection != null) {
+            logger.log(Level.INFO, "Using the weblogic.Deployer daemon to redeploy the test artifact.");
+            if (runInDaemon(connection, builder.buildRedeployArguments())) {
+                return;
+            }
+        }
+        logger.log(Level.INFO, "Starting weblogic.Deployer to redeploy the test artifact.");
+        forkWebLogicDeployer(builder.buildRedeployCommand());
+    }
+
     /**
      * Forks the weblogic.Deployer process to trigger an undeployment.
      *
@@ -101,12 +157,26 @@ public class WebLogicDeployerClient {
      *     or when interaction with the forked process fails.
      */
     public void undeploy(String deploymentName) throws DeploymentException {
-        CommandBuilder builder = new CommandBuilder()
+        CommandBuilder builder = createCommandBuilder()
+            .setDeploymentName(deploymentName);
+
+        DeployerDaemonConnection connection = daemon;
+        if (connection != null) {
+            logger.log(Level.INFO, "Using the weblogic.Deployer daemon to undeploy the test artifact.");
+            if (runInDaemon(connection, builder.buildUndeployArguments())) {
+                return;
+            }
+        }
+        logger.log(Level.INFO, "Starting weblogic.Deployer to undeploy the test artifact.");
+        forkWebLogicDeployer(builder.buildUndeployCommand());
+    }
+
+    private CommandBuilder createCommandBuilder() {
+        return new CommandBuilder()
             .setClassPath(configuration.getClassPath())
             .setAdminUrl(configuration.getAdminUrl())
             .setAdminUserName(configuration.getAdminUserName())
             .setAdminPassword(configuration.getAdminPassword())
-            .setDeploymentName(deploymentName)
             .setTargets(configuration.getTarget())
             .setUseDemoTrust(configuration.isUseDemoTrust())
             .setUseCustomTrust(configuration.isUseCustomTrust())
@@ -115,20 +185,55 @@ public class WebLogicDeployerClient {
             .setIgnoreHostNameVerification(configuration.isIgnoreHostNameVerification())
             .setHostnameVerifierClass(configuration.getHostnameVerifierClass())
             .setUseURandom(configuration.isUseURandom());
+    }
 
-        logger.log(Level.INFO, "Starting weblogic.Deployer to undeploy the test artifact.");
-        forkWebLogicDeployer(builder.buildUndeployCommand());
+    /**
+     * Runs a weblogic.Deployer command in the daemon. A daemon that fails is discarded, unless another thread has
+     * already done so.
+     *
+     * @return true if the command was run by the daemon; false if the daemon is no longer usable, in which case the
+     * caller must fork weblogic.Deployer instead.
+     */
+    private boolean runInDaemon(DeployerDaemonConnection connection, List<String> deployerArgs) {
+        DeployerResult result;
+        try {
+            result = connection.execute(deployerArgs);
+        } catch (IOException ioEx) {
+            logger.log(Level.WARNING, "The weblogic.Deployer daemon failed. Falling back to forking weblogic.Deployer.",
+                ioEx);
+            synchronized (this) {
+                if (daemon == connection) {
+                    daemon = null;
+                }
+            }
+            connection.close();
+            return false;
+        }
+        // As with the forked process, the evaluation of the deployment status is deferred to the JMX client.
+        if (result.isSuccessful()) {
+            logger.log(Level.INFO, "weblogic.Deployer appears to have completed successfully.");
+        } else {
+            logger.log(Level.WARNING, "weblogic.Deployer completed abnormally with exit code {0}",
+                result.getExitStatus());
+            for (String error : result.getErrors()) {
+                logger.log(Level.WARNING, error);
+            }
+            logger.log(Level.INFO, "The output of weblogic.Deployer was:\n {0}", result.getOutput());
+        }
+        return true;
     }
 
     private void forkWebLogicDeployer(List<String> deployerCmd) throws DeploymentException {
         try {
-            buffer = new StringBuilder();
+            StringBuilder buffer = new StringBuilder();
             ProcessBuilder builder = new ProcessBuilder(deployerCmd);
             builder.redirectErrorStream(true);
-            deployer = builder.start();
-            Thread outputReader = new Thread(new DeployerOutputReader());
+            Process deployer = builder.start();
+            Thread outputReader = new Thread(new DeployerOutputReader(deployer, buffer));
             outputReader.start();
             int exitValue = deployer.waitFor();
+            // The output is complete only once the reader has consumed the stream of the terminated process.
+            outputReader.join();
             // We'll not throw an error yet, as we do not want to parse the output of weblogic.Deployer
             // to determine if the deployment failed. So, we'll log the process exit value,
             // and defer the evaluation of the deployment status to the JMX client.
@@ -155,7 +260,15 @@ public class WebLogicDeployerClient {
      *
      * @author Vineet Reynolds
      */
-    class DeployerOutputReader implements Runnable {
+    static class DeployerOutputReader implements Runnable {
+
+        private final Process deployer;
+        private final StringBuilder buffer;
+
+        DeployerOutputReader(Process deployer, StringBuilder buffer) {
+            this.deployer = deployer;
+            this.buffer = buffer;
+        }
 
         public void run() {
             InputStream is = deployer.getInputStream();
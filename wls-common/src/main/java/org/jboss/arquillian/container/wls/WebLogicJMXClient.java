@@ -18,15 +18,18 @@ package org.jboss.arquillian.container.wls;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
 
 import javax.management.MBeanServerConnection;
 import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
-import javax.management.remote.JMXConnector;
+import javax.management.ReflectionException;
 import javax.management.remote.JMXConnectorFactory;
 import javax.management.remote.JMXServiceURL;
 import javax.naming.Context;
@@ -45,22 +48,37 @@ import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaD
  * <p>
  * Details in this area are covered by the Oracle Fusion Middleware Guide on
  * "Developing Custom Management Utilities With JMX for Oracle WebLogic Server".
+ * <p>
+ * Connections to the Domain Runtime MBean Server are pooled, so that MBean queries may be issued concurrently, and so
+ * that a dropped connection is replaced instead of failing all later operations. Queries that do not modify the state of
+ * the server are retried once with a new connection, when their connection fails.
+ * <p>
+ * The progress objects of completed deployment operations are purged in batches by a {@link DeploymentProgressPurger},
+ * instead of being removed as each operation completes.
+ * <p>
+ * The configured truststore is set through the JVM-wide truststore properties while connections are used, as that is
+ * the only trust configuration read by the WebLogic JMX providers. See {@link TrustStoreProperties}.
  *
  * @author Vineet Reynolds
  */
 public class WebLogicJMXClient {
 
-    private static final ThreadLocal<String> trustStorePath = new ThreadLocal<String>();
-    private static final ThreadLocal<String> trustStorePassword = new ThreadLocal<String>();
-
     private CommonWebLogicConfiguration configuration;
-    private MBeanServerConnection connection;
-    private JMXConnector connector;
+    private TrustStoreProperties trustStoreProperties;
+    private JMXConnectionPool connectionPool;
     private ObjectName domainRuntimeService;
-    private ClassLoader jmxLibraryClassLoader;
+    private HTTPContextSelectionStrategy contextSelectionStrategy;
+    private WebLogicJMXLibClassLoader jmxLibraryClassLoader;
+    private volatile long lastDeploymentProgressLatency = -1L;
+    private volatile int lastDeploymentMetadataRoundTrips = -1;
+    private DeploymentProgressPurger progressPurger;
+    private final Set<String> unpurgedProgressObjects = new LinkedHashSet<String>();
+    private final Map<String, Integer> operationsInProgress = new HashMap<String, Integer>();
 
     public WebLogicJMXClient(CommonWebLogicConfiguration configuration) throws LifecycleException {
         this.configuration = configuration;
+        this.trustStoreProperties = TrustStoreProperties.forConfiguration(configuration);
+        this.contextSelectionStrategy = HTTPContextSelectionStrategies.create(configuration.getHttpContextSelection());
         try {
             this.domainRuntimeService = new ObjectName(
                 "com.bea:Name=DomainRuntimeService,Type=weblogic.management.mbeanservers.domainruntime.DomainRuntimeServiceMBean"
@@ -70,15 +88,20 @@ public class WebLogicJMXClient {
             throw new IllegalStateException(objectNameEx);
         }
 
+        // Now, create a connection to the Domain Runtime MBean Server.
+        initWebLogicJMXLibClassLoader();
         try {
-            setConfiguredTrustStore();
-
-            // Now, create a connection to the Domain Runtime MBean Server.
-            initWebLogicJMXLibClassLoader();
             createConnection();
-        } finally {
-            revertToInitialState();
+        } catch (LifecycleException lifecycleEx) {
+            releaseWebLogicJMXLibClassLoader();
+            throw lifecycleEx;
         }
+        progressPurger = new DeploymentProgressPurger(configuration.getDeploymentProgressPurgeThreshold(),
+            configuration.getDeploymentProgressPurgeIdleTimeout() * 1000L, new DeploymentProgressPurger.Purge() {
+            public void purge() throws Exception {
+                purgeDeploymentProgressObjects();
+            }
+        });
     }
 
     /**
@@ -95,10 +118,74 @@ public class WebLogicJMXClient {
      *     When there is a failure obtaining details of the deployment from the Domain Runtime MBean server.
      */
     public ProtocolMetaData deploy(String deploymentName, File deploymentArchive) throws DeploymentException {
-        doDeploy(deploymentName, deploymentArchive);
+        doDeploy(deploymentName, deploymentArchive, null);
+        return verifyDeployment(deploymentName);
+    }
+
+    /**
+     * Deploys an archive to the specified target through the Deployment Manager of the Domain Runtime MBean Server,
+     * and verifies it was indeed deployed correctly. This is the in-process equivalent of
+     * <code>weblogic.Deployer -deploy -targets</code>.
+     *
+     * @param deploymentName
+     *     the name of the deployment
+     * @param deploymentArchive
+     *     the archive that is to be deployed. The path must be accessible to the admin server.
+     * @param target
+     *     the server or cluster to deploy to
+     *
+     * @return A {@link ProtocolMetaData} object containing details of the deployment
+     *
+     * @throws DeploymentException
+     *     When the deployment fails, or when there is a failure obtaining details of the deployment from the Domain
+     *     Runtime MBean server.
+     */
+    public ProtocolMetaData deploy(String deploymentName, File deploymentArchive, String target)
+        throws DeploymentException {
+        doDeploy(deploymentName, deploymentArchive, new String[] {target});
         return verifyDeployment(deploymentName);
     }
 
+    /**
+     * Redeploys an application through the Deployment Manager of the Domain Runtime MBean Server, from the source it
+     * was deployed from, and verifies it was indeed redeployed correctly. This is the in-process equivalent of
+     * <code>weblogic.Deployer -redeploy</code>.
+     *
+     * @param deploymentName
+     *     the name of the deployment
+     *
+     * @return A {@link ProtocolMetaData} object containing details of the deployment
+     *
+     * @throws DeploymentException
+     *     When the redeployment fails, or when there is a failure obtaining details of the deployment from the Domain
+     *     Runtime MBean server.
+     */
+    public ProtocolMetaData redeploy(String deploymentName) throws DeploymentException {
+        invokeAppDeploymentOperation(deploymentName, "redeploy");
+        return verifyDeployment(deploymentName);
+    }
+
+    /**
+     * Determines whether the Domain Runtime MBean Server exposes a Deployment Manager, that can be used to deploy and
+     * undeploy applications without forking weblogic.Deployer. The Deployment Manager is available in WebLogic Server
+     * 12.1.2 and higher.
+     *
+     * @return true if deployments can be performed through the Domain Runtime MBean Server; Otherwise, false
+     */
+    public boolean isDeploymentManagerAvailable() {
+        try {
+            return execute(new JMXConnectionPool.ConnectionCallback<Boolean>() {
+                public Boolean doWithConnection(MBeanServerConnection connection) throws Exception {
+                    ObjectName domainRuntime =
+                        (ObjectName) connection.getAttribute(domainRuntimeService, "DomainRuntime");
+                    return connection.getAttribute(domainRuntime, "DeploymentManager") != null;
+                }
+            }, true);
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+
     /**
      * Verifies and obtains details of the deployment.
      *
@@ -110,20 +197,22 @@ public class WebLogicJMXClient {
      * @throws DeploymentException
      *     When there is a failure obtaining details of the deployment from the Domain Runtime MBean server.
      */
-    public ProtocolMetaData verifyDeployment(String deploymentName) throws DeploymentException {
+    public ProtocolMetaData verifyDeployment(final String deploymentName) throws DeploymentException {
         try {
-            setConfiguredTrustStore();
-
-            try {
-                return new ProtocolMetaData().addContext(
-                    new HttpContextBuilder(deploymentName, configuration, connection,
-                        domainRuntimeService).createContext()
-                );
-            } catch (Exception ex) {
-                throw new DeploymentException("Failed to populate the HTTPContext with the deployment details", ex);
-            }
-        } finally {
-            revertToInitialState();
+            return execute(new JMXConnectionPool.ConnectionCallback<ProtocolMetaData>() {
+                public ProtocolMetaData doWithConnection(MBeanServerConnection connection) throws Exception {
+                    HttpContextBuilder builder =
+                        new HttpContextBuilder(deploymentName, configuration, connection, domainRuntimeService);
+                    try {
+                        return HTTPContextSelectionStrategies.toProtocolMetaData(contextSelectionStrategy,
+                            builder.createContexts(), builder.getHealthStates());
+                    } finally {
+                        lastDeploymentMetadataRoundTrips = builder.getRoundTripCount();
+                    }
+                }
+            }, true);
+        } catch (Exception ex) {
+            throw new DeploymentException("Failed to populate the HTTPContext with the deployment details", ex);
         }
     }
 
@@ -138,13 +227,7 @@ public class WebLogicJMXClient {
      *     When there is a failure obtaining details of the deployment from the Domain Runtime MBean server.
      */
     public void undeploy(String deploymentName) throws DeploymentException {
-        try {
-            setConfiguredTrustStore();
-
-            invokeUndeployOperation(deploymentName);
-        } finally {
-            revertToInitialState();
-        }
+        invokeAppDeploymentOperation(deploymentName, "undeploy");
     }
 
     /**
@@ -156,84 +239,140 @@ public class WebLogicJMXClient {
      * @throws Exception
      *     When a failure is encountered when browsing the Domain Runtime MBean Server hierarchy.
      */
-    public void verifyUndeployment(String deploymentName) throws DeploymentException {
+    public void verifyUndeployment(final String deploymentName) throws DeploymentException {
+        ObjectName deployment = null;
         try {
-            setConfiguredTrustStore();
-
-            ObjectName deployment = null;
-            try {
-                deployment = new HttpContextBuilder(deploymentName, configuration, connection, domainRuntimeService)
-                    .findMatchingDeployment(deploymentName);
-            } catch (Exception ex) {
-                throw new DeploymentException("Failed to obtain the status of the deployment.", ex);
-            }
+            deployment = execute(new JMXConnectionPool.ConnectionCallback<ObjectName>() {
+                public ObjectName doWithConnection(MBeanServerConnection connection) throws Exception {
+                    return new HttpContextBuilder(deploymentName, configuration, connection, domainRuntimeService)
+                        .findMatchingDeployment(deploymentName);
+                }
+            }, true);
+        } catch (Exception ex) {
+            throw new DeploymentException("Failed to obtain the status of the deployment.", ex);
+        }
 
-            if (deployment != null) {
-                throw new DeploymentException("Failed to undeploy the deployed application.");
-            }
-        } finally {
-            revertToInitialState();
+        if (deployment != null) {
+            throw new DeploymentException("Failed to undeploy the deployed application.");
         }
     }
 
+    /**
+     * Returns the time taken by the server to complete the last deployment or undeployment operation, as observed
+     * from the DeploymentProgressObject of the operation.
+     *
+     * @return The latency in milliseconds, or -1 if no operation has been observed to complete.
+     */
+    public long getLastDeploymentProgressLatency() {
+        return lastDeploymentProgressLatency;
+    }
+
+    /**
+     * Returns the number of calls made to the Domain Runtime MBean Server to obtain the details of the last verified
+     * deployment.
+     *
+     * @return The number of round-trips, or -1 if no deployment has been verified.
+     */
+    public int getLastDeploymentMetadataRoundTrips() {
+        return lastDeploymentMetadataRoundTrips;
+    }
+
     public void close() throws LifecycleException {
         try {
-            setConfiguredTrustStore();
-
+            if (progressPurger != null) {
+                progressPurger.close();
+                progressPurger = null;
+            }
             closeConnection();
         } finally {
-            revertToInitialState();
+            releaseWebLogicJMXLibClassLoader();
         }
     }
 
-    private void invokeUndeployOperation(String deploymentName) throws DeploymentException {
+    private void invokeAppDeploymentOperation(final String deploymentName, final String operation)
+        throws DeploymentException {
+        operationStarted(deploymentName);
         try {
-            ObjectName domainRuntime = (ObjectName) connection.getAttribute(domainRuntimeService, "DomainRuntime");
-            ObjectName deploymentManager = (ObjectName) connection.getAttribute(domainRuntime, "DeploymentManager");
-
-            ObjectName appDeploymentRuntime = (ObjectName) connection.invoke(deploymentManager,
-                "lookupAppDeploymentRuntime",
-                new Object[] {deploymentName}, new String[] {String.class.getName()}
-            );
+            execute(new JMXConnectionPool.ConnectionCallback<Void>() {
+                public Void doWithConnection(MBeanServerConnection connection) throws Exception {
+                    ObjectName domainRuntime =
+                        (ObjectName) connection.getAttribute(domainRuntimeService, "DomainRuntime");
+                    ObjectName deploymentManager =
+                        (ObjectName) connection.getAttribute(domainRuntime, "DeploymentManager");
+
+                    ObjectName appDeploymentRuntime = (ObjectName) connection.invoke(deploymentManager,
+                        "lookupAppDeploymentRuntime",
+                        new Object[] {deploymentName}, new String[] {String.class.getName()}
+                    );
 
-            ObjectName deploymentProgressObject = (ObjectName) connection.invoke(appDeploymentRuntime,
-                "undeploy",
-                new Object[] {}, new String[] {}
-            );
+                    ObjectName deploymentProgressObject = (ObjectName) connection.invoke(appDeploymentRuntime,
+                        operation,
+                        new Object[] {}, new String[] {}
+                    );
 
-            processDeploymentProgress(deploymentName, deploymentManager, deploymentProgressObject);
+                    processDeploymentProgress(connection, deploymentName, deploymentManager,
+                        deploymentProgressObject);
+                    return null;
+                }
+            }, false);
         } catch (DeploymentException e) {
             throw e;
         } catch (Exception e) {
             throw new DeploymentException(e.getMessage(), e);
+        } finally {
+            operationCompleted(deploymentName);
         }
     }
 
-    private void doDeploy(String deploymentName, File deploymentArchive) throws DeploymentException {
+    private void doDeploy(final String deploymentName, final File deploymentArchive, final String[] targets)
+        throws DeploymentException {
+        operationStarted(deploymentName);
         try {
-            ObjectName domainRuntime = (ObjectName) connection.getAttribute(domainRuntimeService, "DomainRuntime");
-            ObjectName deploymentManager = (ObjectName) connection.getAttribute(domainRuntime, "DeploymentManager");
-
-            ObjectName deploymentProgressObject = (ObjectName) connection.invoke(
-                deploymentManager, "deploy",
-                new Object[] {deploymentName, deploymentArchive.getAbsolutePath(), null},
-                new String[] {String.class.getName(), String.class.getName(), String.class.getName()}
-            );
-
-            processDeploymentProgress(deploymentName, deploymentManager, deploymentProgressObject);
+            execute(new JMXConnectionPool.ConnectionCallback<Void>() {
+                public Void doWithConnection(MBeanServerConnection connection) throws Exception {
+                    ObjectName domainRuntime =
+                        (ObjectName) connection.getAttribute(domainRuntimeService, "DomainRuntime");
+                    ObjectName deploymentManager =
+                        (ObjectName) connection.getAttribute(domainRuntime, "DeploymentManager");
+
+                    ObjectName deploymentProgressObject;
+                    if (targets == null) {
+                        deploymentProgressObject = (ObjectName) connection.invoke(
+                            deploymentManager, "deploy",
+                            new Object[] {deploymentName, deploymentArchive.getAbsolutePath(), null},
+                            new String[] {String.class.getName(), String.class.getName(), String.class.getName()}
+                        );
+                    } else {
+                        deploymentProgressObject = (ObjectName) connection.invoke(
+                            deploymentManager, "deploy",
+                            new Object[] {deploymentName, deploymentArchive.getAbsolutePath(), targets, null, null},
+                            new String[] {String.class.getName(), String.class.getName(), String[].class.getName(),
+                                String.class.getName(), Properties.class.getName()}
+                        );
+                    }
+
+                    processDeploymentProgress(connection, deploymentName, deploymentManager,
+                        deploymentProgressObject);
+                    return null;
+                }
+            }, false);
         } catch (DeploymentException e) {
             throw e;
         } catch (Exception e) {
             throw new DeploymentException(e.getMessage(), e);
+        } finally {
+            operationCompleted(deploymentName);
         }
     }
 
-    private void processDeploymentProgress(String appName, ObjectName deploymentManager,
-        ObjectName deploymentProgressObject) throws Exception {
+    private void processDeploymentProgress(MBeanServerConnection connection, String appName,
+        ObjectName deploymentManager, ObjectName deploymentProgressObject) throws Exception {
         if (deploymentProgressObject != null) {
             try {
-                String state = waitForDeployToComplete(deploymentProgressObject, 200);
-                if (state.equals("STATE_FAILED")) {
+                DeploymentProgressTracker tracker = new DeploymentProgressTracker(connection, deploymentProgressObject);
+                String state = tracker.waitForCompletion(200);
+                lastDeploymentProgressLatency = tracker.getCompletionLatency();
+                if (state.equals(DeploymentProgressTracker.STATE_FAILED)) {
                     String[] targets = (String[]) connection.getAttribute(deploymentProgressObject, "FailedTargets");
 
                     RuntimeException[] exceptions = (RuntimeException[]) connection.invoke(
@@ -245,26 +384,85 @@ public class WebLogicJMXClient {
                         exceptions[0]);
                 }
             } finally {
-                connection.invoke(deploymentManager, "removeDeploymentProgressObject",
-                    new Object[] {appName}, new String[] {"java.lang.String"}
-                );
+                // The progress object is purged later, in the background, along with those of other operations.
+                synchronized (unpurgedProgressObjects) {
+                    unpurgedProgressObjects.add(appName);
+                }
+                progressPurger.operationCompleted();
             }
         }
     }
 
-    private String waitForDeployToComplete(ObjectName progressObj, int timeToWaitInSecs) throws Exception {
-        for (int i = 0; i < timeToWaitInSecs; i++) {
-            String state = (String) connection.getAttribute(progressObj, "State");
-            if ("STATE_COMPLETED".equals(state) || "STATE_FAILED".equals(state))
-                return state;
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException ex) {
-                // ignore
+    private void operationStarted(String appName) {
+        synchronized (unpurgedProgressObjects) {
+            Integer count = operationsInProgress.get(appName);
+            operationsInProgress.put(appName, count == null ? 1 : count + 1);
+        }
+    }
+
+    private void operationCompleted(String appName) {
+        synchronized (unpurgedProgressObjects) {
+            Integer count = operationsInProgress.get(appName);
+            if (count == null || count <= 1) {
+                operationsInProgress.remove(appName);
+            } else {
+                operationsInProgress.put(appName, count - 1);
             }
         }
+    }
 
-        return "STATE_UNKNOWN";
+    /**
+     * Purges the progress objects of the completed deployment operations. All completed progress objects are purged
+     * at once where the Deployment Manager supports it. Otherwise, the progress objects are removed by application
+     * name, skipping the applications with an operation in progress, since the progress object to be removed could
+     * not be told apart from the one of the running operation.
+     */
+    private void purgeDeploymentProgressObjects() throws Exception {
+        final List<String> appNames = new ArrayList<String>();
+        synchronized (unpurgedProgressObjects) {
+            appNames.addAll(unpurgedProgressObjects);
+            unpurgedProgressObjects.clear();
+        }
+        if (appNames.isEmpty()) {
+            return;
+        }
+
+        // The purge runs on a background thread, that needs the WebLogic classes to deserialize the responses.
+        Thread currentThread = Thread.currentThread();
+        ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(jmxLibraryClassLoader);
+        try {
+            execute(new JMXConnectionPool.ConnectionCallback<Void>() {
+                public Void doWithConnection(MBeanServerConnection connection) throws Exception {
+                    ObjectName domainRuntime =
+                        (ObjectName) connection.getAttribute(domainRuntimeService, "DomainRuntime");
+                    ObjectName deploymentManager =
+                        (ObjectName) connection.getAttribute(domainRuntime, "DeploymentManager");
+                    try {
+                        connection.invoke(deploymentManager, "purgeCompletedDeploymentProgressObjects",
+                            new Object[] {}, new String[] {}
+                        );
+                        return null;
+                    } catch (ReflectionException unsupportedEx) {
+                        // Older releases can only remove the progress objects one at a time.
+                    }
+                    for (String appName : appNames) {
+                        synchronized (unpurgedProgressObjects) {
+                            if (operationsInProgress.containsKey(appName)) {
+                                unpurgedProgressObjects.add(appName);
+                                continue;
+                            }
+                        }
+                        connection.invoke(deploymentManager, "removeDeploymentProgressObject",
+                            new Object[] {appName}, new String[] {"java.lang.String"}
+                        );
+                    }
+                    return null;
+                }
+            }, false);
+        } finally {
+            currentThread.setContextClassLoader(originalClassLoader);
+        }
     }
 
     /**
@@ -288,10 +486,10 @@ public class WebLogicJMXClient {
     private void initWebLogicJMXLibClassLoader() {
         File wlHome = new File(configuration.getJmxClientJarPath());
         try {
-            URL[] urls = {wlHome.toURI().toURL()};
-            jmxLibraryClassLoader = new WebLogicJMXLibClassLoader(urls, Thread.currentThread().getContextClassLoader());
+            jmxLibraryClassLoader =
+                WebLogicJMXLibClassLoader.acquire(wlHome, Thread.currentThread().getContextClassLoader());
             Thread.currentThread().setContextClassLoader(jmxLibraryClassLoader);
-        } catch (MalformedURLException urlEx) {
+        } catch (IOException urlEx) {
             throw new RuntimeException(
                 "The constructed path to weblogic.jar appears to be invalid. Verify that you have access to this jar and it's dependencies.",
                 urlEx
@@ -300,13 +498,28 @@ public class WebLogicJMXClient {
     }
 
     /**
-     * Initializes the connection to the Domain Runtime MBean Server
+     * Releases the shared {@link WebLogicJMXLibClassLoader}, and reverts the thread's context classloader to the
+     * original classloader, if it has not been changed since.
+     */
+    private void releaseWebLogicJMXLibClassLoader() {
+        if (jmxLibraryClassLoader == null) {
+            return;
+        }
+        if (Thread.currentThread().getContextClassLoader() == jmxLibraryClassLoader) {
+            Thread.currentThread().setContextClassLoader(jmxLibraryClassLoader.getParent());
+        }
+        jmxLibraryClassLoader.release();
+        jmxLibraryClassLoader = null;
+    }
+
+    /**
+     * Initializes the pool of connections to the Domain Runtime MBean Server, and opens the first connection.
      *
      * @throws DeploymentException
      *     When a connection to the Domain Runtime MBean Server could not be established.
      */
     private void createConnection() throws LifecycleException {
-        if (connection != null) {
+        if (connectionPool != null) {
             return;
         }
 
@@ -323,75 +536,52 @@ public class WebLogicJMXClient {
             props.put(Context.SECURITY_CREDENTIALS, configuration.getAdminPassword());
             props.put(JMXConnectorFactory.PROTOCOL_PROVIDER_PACKAGES, "weblogic.management.remote");
 
-            connector = JMXConnectorFactory.connect(serviceURL, props);
-            connection = connector.getMBeanServerConnection();
+            connectionPool = new JMXConnectionPool(serviceURL, props, jmxLibraryClassLoader,
+                configuration.getJmxConnectionPoolSize());
+            if (trustStoreProperties != null) {
+                trustStoreProperties.acquire();
+            }
+            try {
+                connectionPool.prime();
+            } finally {
+                if (trustStoreProperties != null) {
+                    trustStoreProperties.release();
+                }
+            }
         } catch (IOException ioEx) {
             throw new LifecycleException("Failed to obtain a connection to the MBean Server.", ioEx);
         }
     }
 
     /**
-     * Closes the connection to the Domain Runtime MBean Server.
-     *
-     * @throws LifecycleException
+     * Performs an operation with a pooled connection, while the configured truststore is set for the WebLogic JMX
+     * providers, which may open a secure connection at any time.
      */
-    private void closeConnection() throws LifecycleException {
+    private <T> T execute(JMXConnectionPool.ConnectionCallback<T> callback, boolean retryOnConnectionFailure)
+        throws Exception {
+        if (trustStoreProperties == null) {
+            return connectionPool.execute(callback, retryOnConnectionFailure);
+        }
+        trustStoreProperties.acquire();
         try {
-            if (connector != null) {
-                connector.close();
-            }
-        } catch (IOException ioEx) {
-            throw new LifecycleException("Failed to close the connection to the MBean Server.", ioEx);
+            return connectionPool.execute(callback, retryOnConnectionFailure);
+        } finally {
+            trustStoreProperties.release();
         }
     }
 
-    private void setConfiguredTrustStore() {
-        stashInitialState();
-        setupState();
-    }
-
     /**
-     * Stores the current state before attempting to change the classloaders, and the system properties.
+     * Closes the connections to the Domain Runtime MBean Server.
+     *
+     * @throws LifecycleException
      */
-    private void stashInitialState() {
-        if (trustStorePath.get() == null && trustStorePassword.get() == null) {
-            trustStorePath.set(System.getProperty("javax.net.ssl.trustStore"));
-            trustStorePassword.set(System.getProperty("javax.net.ssl.trustStorePassword"));
-        }
-    }
-
-    private void setupState() {
-        if (configuration.isUseDemoTrust()
-            || configuration.isUseCustomTrust()
-            || configuration.isUseJavaStandardTrust()) {
-            System.setProperty("javax.net.ssl.trustStore", configuration.getTrustStoreLocation());
-            String trustStorePassword = configuration.getTrustStorePassword();
-            // The default password for JKS truststores
-            // usually need not be specified to read the CA certs.
-            // But, if this was specified in arquillian.xml, we'll set it.
-            if (trustStorePassword != null && !trustStorePassword.equals("")) {
-                System.setProperty("javax.net.ssl.trustStorePassword", trustStorePassword);
+    private void closeConnection() throws LifecycleException {
+        try {
+            if (connectionPool != null) {
+                connectionPool.close();
             }
-        }
-    }
-
-    /**
-     * Unsets the thread's context classloader to the original classloader. We'll do this to ensure that Arquillian tests
-     * may
-     * run unaffected, if the {@link WebLogicJMXLibClassLoader} were to interfere somehow.
-     * <p>
-     * The truststore path and password is also reset to the original, to ensure that Arquillian tests at the client, that
-     * use
-     * these properties, will run without interference.
-     * <p>
-     * This method is preferably invoked as soon as possible.
-     */
-    private void revertToInitialState() {
-        if (trustStorePath.get() != null && trustStorePassword.get() != null) {
-            System.setProperty("javax.net.ssl.trustStore", trustStorePath.get());
-            System.setProperty("javax.net.ssl.trustStorePassword", trustStorePassword.get());
-            trustStorePath.set(null);
-            trustStorePassword.set(null);
+        } catch (IOException ioEx) {
+            throw new LifecycleException("Failed to close the connection to the MBean Server.", ioEx);
         }
     }
 }
\ No newline at end of file
@@ -16,9 +16,15 @@
  */
 package org.jboss.arquillian.container.wls;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.net.URLStreamHandlerFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -28,12 +34,24 @@ import java.util.logging.Logger;
  * <p>
  * Classloading is delegated to the parent first, before
  * attempting to load from the weblogic.jar file.
+ * <p>
+ * Instances are shared by all clients in the JVM through {@link #acquire(File, ClassLoader)}, so that the WebLogic
+ * classes are loaded once, rather than once per container. Shared instances are keyed by the canonical path and the
+ * modification time of the jar, and by the parent classloader, and are closed when the last client releases them.
  *
  * @author Vineet Reynolds
  */
 class WebLogicJMXLibClassLoader extends URLClassLoader {
     private static final Logger logger = Logger.getLogger(WebLogicJMXLibClassLoader.class.getName());
 
+    private static final Map<Key, WebLogicJMXLibClassLoader> sharedClassLoaders =
+        new HashMap<Key, WebLogicJMXLibClassLoader>();
+
+    private Key key;
+    private int references = 0;
+    private final AtomicInteger loadedClasses = new AtomicInteger();
+    private final AtomicLong loadTimeNanos = new AtomicLong();
+
     public WebLogicJMXLibClassLoader(URL[] urls, ClassLoader parent, URLStreamHandlerFactory factory) {
         super(urls, parent, factory);
     }
@@ -46,9 +64,107 @@ class WebLogicJMXLibClassLoader extends URLClassLoader {
         super(urls);
     }
 
+    /**
+     * Returns the shared classloader for a jar, creating it if no client in the JVM holds it. Every invocation must be
+     * paired with an invocation of {@link #release()}.
+     *
+     * @param jar
+     *     The jar to load classes from
+     * @param parent
+     *     The parent classloader
+     *
+     * @return The shared classloader
+     *
+     * @throws IOException
+     *     When the path of the jar cannot be resolved.
+     */
+    static WebLogicJMXLibClassLoader acquire(File jar, ClassLoader parent) throws IOException {
+        // The context classloader of the thread may be a classloader that was shared with an earlier client.
+        while (parent instanceof WebLogicJMXLibClassLoader) {
+            parent = parent.getParent();
+        }
+        File canonicalJar = jar.getCanonicalFile();
+        Key key = new Key(canonicalJar.getPath(), canonicalJar.lastModified(), parent);
+        synchronized (sharedClassLoaders) {
+            WebLogicJMXLibClassLoader classLoader = sharedClassLoaders.get(key);
+            if (classLoader == null) {
+                classLoader = new WebLogicJMXLibClassLoader(new URL[] {canonicalJar.toURI().toURL()}, parent);
+                classLoader.key = key;
+                sharedClassLoaders.put(key, classLoader);
+                logger.log(Level.FINE, "Created the classloader for {0}", canonicalJar);
+            } else {
+                logger.log(Level.FINE, "Reusing the classloader for {0}, which has loaded {1} classes in {2} ms",
+                    new Object[] {canonicalJar, classLoader.loadedClasses.get(),
+                        classLoader.loadTimeNanos.get() / 1000000L});
+            }
+            classLoader.references++;
+            return classLoader;
+        }
+    }
+
+    /**
+     * Releases a classloader obtained through {@link #acquire(File, ClassLoader)}. The classloader is closed when it is
+     * released by its last client.
+     */
+    void release() {
+        synchronized (sharedClassLoaders) {
+            if (--references > 0) {
+                return;
+            }
+            sharedClassLoaders.remove(key);
+        }
+        logger.log(Level.FINE, "Closing the classloader for {0}, which has loaded {1} classes in {2} ms",
+            new Object[] {key.path, loadedClasses.get(), loadTimeNanos.get() / 1000000L});
+        try {
+            close();
+        } catch (IOException ioEx) {
+            logger.log(Level.FINE, "Failed to close the classloader for " + key.path, ioEx);
+        }
+    }
+
     @Override
     public Class<?> loadClass(String name) throws ClassNotFoundException {
         logger.log(Level.FINEST, "Loading class: {0}", name);
         return super.loadClass(name);
     }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        long start = System.nanoTime();
+        Class<?> loadedClass = super.findClass(name);
+        loadTimeNanos.addAndGet(System.nanoTime() - start);
+        loadedClasses.incrementAndGet();
+        return loadedClass;
+    }
+
+    /**
+     * Identifies a shared classloader. A classloader is not shared across parents, since the classes visible to it
+     * depend on the parent.
+     */
+    private static class Key {
+        private final String path;
+        private final long lastModified;
+        private final ClassLoader parent;
+
+        Key(String path, long lastModified, ClassLoader parent) {
+            this.path = path;
+            this.lastModified = lastModified;
+            this.parent = parent;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key otherKey = (Key) other;
+            return path.equals(otherKey.path) && lastModified == otherKey.lastModified && parent == otherKey.parent;
+        }
+
+        @Override
+        public int hashCode() {
+            return path.hashCode() * 31 + (int) (lastModified ^ (lastModified >>> 32))
+                + System.identityHashCode(parent);
+        }
+    }
 }
@@ -21,14 +21,27 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.ws.rs.client.Client;
+
 import org.jboss.arquillian.container.spi.client.container.LifecycleException;
+import org.jboss.arquillian.container.wls.rest.PooledRESTClient;
 import org.jboss.arquillian.container.wls.rest.RESTUtils;
 
 /**
@@ -40,12 +53,51 @@ import org.jboss.arquillian.container.wls.rest.RESTUtils;
 public class WebLogicServerControl {
 
     private static final Logger logger = Logger.getLogger(WebLogicServerControl.class.getName());
+
+    private static final long MIN_PROBE_INTERVAL_MILLIS = 50L;
+    private static final long MAX_PROBE_INTERVAL_MILLIS = 5000L;
+    private static final long MAX_CONFIRMATION_INTERVAL_MILLIS = 1000L;
+    private static final int SOCKET_PROBE_TIMEOUT_MILLIS = 500;
+
+    /**
+     * The states in which the admin server serves the configuration of the domain to the managed servers.
+     */
+    private static final List<String> ADMIN_SERVING_STATES =
+        Arrays.asList("STANDBY", "ADMIN", "RESUMING", ServerLogMonitor.STATE_RUNNING);
+
     private CommonManagedWebLogicConfiguration configuration;
+    private PooledRESTClient restClient;
+
+    /**
+     * Tracks the lifecycle of the server from the output of the startup script. A new monitor is used for every launch
+     * of the script, so that the output of an earlier launch cannot affect it.
+     */
+    private volatile ServerLogMonitor serverLog = new ServerLogMonitor();
+    private volatile long lastStartupLatency = -1L;
+
+    /**
+     * The members of the target cluster, started and stopped along with the admin server.
+     */
+    private List<String> clusterMembers;
+    private String adminServerName;
 
     public WebLogicServerControl(CommonManagedWebLogicConfiguration configuration) {
         this.configuration = configuration;
     }
 
+    /**
+     * Creates a process controller that reuses the REST client of the container to check the state of the server.
+     *
+     * @param configuration
+     *     The container configuration
+     * @param restClient
+     *     The REST client owned by the container. It is not closed by this class.
+     */
+    public WebLogicServerControl(CommonManagedWebLogicConfiguration configuration, PooledRESTClient restClient) {
+        this.configuration = configuration;
+        this.restClient = restClient;
+    }
+
     /**
      * Start an AdminServer instance.
      *
@@ -53,7 +105,37 @@ public class WebLogicServerControl {
      *     when there is a failure starting the WLS instance.
      */
     public void startServer() throws LifecycleException {
-        new StartupAdminServerCommand().execute();
+        List<String> members = getClusterMembers();
+        if (members.isEmpty()) {
+            new StartupAdminServerCommand().execute();
+            return;
+        }
+        // The members are launched by the admin server startup as soon as the admin server serves the domain
+        // configuration, so that they boot alongside it.
+        ExecutorService executor = createExecutor(members.size(), "arquillian-wls-member-startup");
+        List<StartupManagedServerCommand> commands = new ArrayList<StartupManagedServerCommand>();
+        for (String member : members) {
+            commands.add(new StartupManagedServerCommand(member));
+        }
+        try {
+            List<Future<Void>> startups = new StartupAdminServerCommand(executor, commands).executeWithMembers();
+            awaitAll(startups, "Cluster member startup failed.");
+            logger.log(Level.INFO, "Started the cluster {0} with the members {1}.",
+                new Object[] {configuration.getTarget(), members});
+        } catch (LifecycleException lifecycleEx) {
+            for (StartupManagedServerCommand command : commands) {
+                command.destroy();
+            }
+            try {
+                new ShutdownAdminServerCommand().execute();
+            } catch (LifecycleException shutdownEx) {
+                logger.log(Level.WARNING, "Failed to stop the admin server after the cluster failed to start.",
+                    shutdownEx);
+            }
+            throw lifecycleEx;
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     /**
@@ -63,20 +145,105 @@ public class WebLogicServerControl {
      *     when there is a failure stopping the WLS instance.
      */
     public void stopServer() throws LifecycleException {
+        List<String> members = getClusterMembers();
+        if (!members.isEmpty()) {
+            ExecutorService executor = createExecutor(members.size(), "arquillian-wls-member-shutdown");
+            try {
+                List<Future<Void>> shutdowns = new ArrayList<Future<Void>>();
+                for (String member : members) {
+                    final ShutdownManagedServerCommand command = new ShutdownManagedServerCommand(member);
+                    shutdowns.add(executor.submit(new Callable<Void>() {
+                        public Void call() throws Exception {
+                            command.execute();
+                            return null;
+                        }
+                    }));
+                }
+                awaitAll(shutdowns, "Cluster member shutdown failed.");
+            } finally {
+                executor.shutdownNow();
+            }
+        }
         new ShutdownAdminServerCommand().execute();
     }
 
+    /**
+     * Obtains the root directory of the domain of the running admin server.
+     *
+     * @return The root directory of the domain
+     *
+     * @throws IOException
+     *     When the domain configuration could not be read from the admin server.
+     */
+    public String getDomainRootDirectory() throws IOException {
+        if (restClient != null) {
+            return RESTUtils.getDomainRootDirectory(restClient.getClient(), configuration);
+        }
+        Client client = RESTUtils.getClient(configuration, logger);
+        try {
+            return RESTUtils.getDomainRootDirectory(client, configuration);
+        } finally {
+            client.close();
+        }
+    }
+
+    /**
+     * Returns the shell command that stops the admin server, for use by processes that outlive this instance.
+     *
+     * @return The shell interpreter, its arguments and the shutdown script.
+     */
+    List<String> getShutdownCommand() {
+        ShutdownAdminServerCommand adminShutdown = new ShutdownAdminServerCommand();
+        List<String> members = getClusterMembers();
+        if (members.isEmpty()) {
+            return adminShutdown.getCommand();
+        }
+        String separator = isWindows() ? " & " : " ; ";
+        StringBuilder script = new StringBuilder();
+        for (String member : members) {
+            script.append(new ShutdownManagedServerCommand(member).getScript()).append(separator);
+        }
+        script.append(adminShutdown.getScript());
+        List<String> command = adminShutdown.getShellInterpreter();
+        command.add(script.toString());
+        return command;
+    }
+
+    /**
+     * Returns the time taken by the last startup, from the launch of the startup script until the server was found to be
+     * running.
+     *
+     * @return The latency in milliseconds, or -1 if the server has not been started by this instance.
+     */
+    public long getLastStartupLatency() {
+        return lastStartupLatency;
+    }
+
     /**
      * Determine whether the target server is running or not.
      *
      * @return true if it's running; Otherwise, false
      */
     public boolean isServerRunning() {
+        // The target is a cluster when its members are managed, so the admin server is checked instead.
+        return isServerRunning(getClusterMembers().isEmpty() ? configuration.getTarget() : adminServerName);
+    }
+
+    private boolean isServerRunning(String serverName) {
         boolean isRunning = false;
 
         try {
             // Use the REST management API to check if the server is running
-            isRunning = RESTUtils.isServerRunning(configuration, logger);
+            if (restClient != null) {
+                isRunning = RESTUtils.isServerRunning(restClient.getClient(), configuration, serverName);
+            } else {
+                Client client = RESTUtils.getClient(configuration, logger);
+                try {
+                    isRunning = RESTUtils.isServerRunning(client, configuration, serverName);
+                } finally {
+                    client.close();
+                }
+            }
         } catch (Exception e) {
             // If the logger level is set to FINE or more granular, then print the stacktrace
             if (logger.getLevel().intValue() <= Level.FINE.intValue()) {
@@ -89,6 +256,70 @@ public class WebLogicServerControl {
         return isRunning;
     }
 
+    /**
+     * Returns the members of the target cluster, when the cluster is to be started along with the admin server.
+     *
+     * @return The names of the members, which is empty when only the admin server is managed.
+     */
+    private synchronized List<String> getClusterMembers() {
+        if (clusterMembers == null) {
+            clusterMembers = Collections.emptyList();
+            if (configuration.isStartClusterMembers()) {
+                try {
+                    DomainConfiguration domain = DomainConfiguration.read(configuration.getDomainDirectory());
+                    clusterMembers = domain.getClusterMembers(configuration.getTarget());
+                    adminServerName = domain.getAdminServerName() != null ? domain.getAdminServerName() : "AdminServer";
+                } catch (Exception ex) {
+                    logger.log(Level.WARNING, "Failed to read the configuration of the domain. "
+                        + "Only the admin server will be managed.", ex);
+                }
+                if (clusterMembers.isEmpty()) {
+                    logger.log(Level.WARNING, "The target {0} is not a cluster with members in the domain "
+                        + "configuration. Only the admin server will be managed.", configuration.getTarget());
+                }
+            }
+        }
+        return clusterMembers;
+    }
+
+    private static ExecutorService createExecutor(int threads, final String name) {
+        return Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            private int count = 0;
+
+            public synchronized Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, name + "-" + (++count));
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Waits for all the tasks to complete, reporting the first failure.
+     */
+    private static void awaitAll(List<Future<Void>> tasks, String failureMessage) throws LifecycleException {
+        LifecycleException failure = null;
+        for (Future<Void> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException executionEx) {
+                if (failure == null) {
+                    failure = new LifecycleException(failureMessage, executionEx.getCause());
+                }
+            } catch (InterruptedException interruptedEx) {
+                Thread.currentThread().interrupt();
+                throw new LifecycleException(failureMessage, interruptedEx);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static boolean isWindows() {
+        return System.getProperty("os.name").toLowerCase().startsWith("windows");
+    }
+
     /**
      * An abstract command object to execute shell commands that control the server lifecycle.
      *
@@ -139,7 +370,7 @@ public class WebLogicServerControl {
          * parameter
          * to allow a shell script file to be passed as an argument to the shell interpreter.
          */
-        private List<String> getShellInterpreter() {
+        protected final List<String> getShellInterpreter() {
             List<String> shellCommands = new ArrayList<String>();
             String os = System.getProperty("os.name").toLowerCase();
             if (os.startsWith("windows")) {
@@ -167,6 +398,39 @@ public class WebLogicServerControl {
      */
     private class StartupAdminServerCommand extends ShellCommand {
 
+        private final ExecutorService executor;
+        private final List<StartupManagedServerCommand> members;
+        private final List<Future<Void>> memberStartups = new ArrayList<Future<Void>>();
+
+        StartupAdminServerCommand() {
+            this(null, Collections.<StartupManagedServerCommand>emptyList());
+        }
+
+        /**
+         * Creates a command that also launches the members of the cluster, once the admin server serves the domain
+         * configuration.
+         *
+         * @param executor
+         *     The executor running the startup of every member
+         * @param members
+         *     The startup commands of the members
+         */
+        StartupAdminServerCommand(ExecutorService executor, List<StartupManagedServerCommand> members) {
+            this.executor = executor;
+            this.members = members;
+        }
+
+        /**
+         * Starts the admin server, and the members of the cluster.
+         *
+         * @return The startups of the members, which complete when the members are running.
+         */
+        List<Future<Void>> executeWithMembers() throws LifecycleException {
+            execute();
+            launchMembers(true);
+            return memberStartups;
+        }
+
         /**
          * Starts a new admin server instance by running the startup script in the shell. The script is executed using the
          * WLS
@@ -176,6 +440,10 @@ public class WebLogicServerControl {
          * If the AdminServer is not running by the timeout specified in the Arquillian configuration, the forked process
          * is
          * killed. This may or may not kill the JVM child-process, depending on the OS.
+         * <p>
+         * The server is probed at exponentially increasing intervals until it logs that it is running, after which it is
+         * probed at short intervals. A probe first checks that the admin port accepts connections, before confirming
+         * the state of the server through the REST management API.
          */
         @Override
         public void execute() throws LifecycleException {
@@ -192,43 +460,88 @@ public class WebLogicServerControl {
                 builder.redirectErrorStream(true);
 
                 process = createProcess(builder);
-                final int timeout = configuration.getTimeout();
-                long start = System.currentTimeMillis() / 1000;
-                long now = start;
+                final long launchTime = System.currentTimeMillis();
+                final long deadline = launchTime + configuration.getTimeout() * 1000L;
+                long probeInterval = MIN_PROBE_INTERVAL_MILLIS;
                 boolean serverAvailable = false;
-                while ((now - start) < timeout && serverAvailable == false) {
-                    serverAvailable = isServerRunning();
+                while (System.currentTimeMillis() < deadline && serverAvailable == false) {
+                    boolean runningBeforeProbe = ServerLogMonitor.STATE_RUNNING.equals(serverLog.getState());
+                    serverAvailable = isAdminPortOpen() && isServerRunning();
+                    launchMembers(serverAvailable);
                     if (!serverAvailable) {
+                        failOnFatalError(process);
                         if (processHasDied(process)) {
                             process.destroy();
                             process = createProcess(builder);
                         }
+                        long remaining = deadline - System.currentTimeMillis();
                         try {
-                            Thread.sleep(5000L);
+                            if (runningBeforeProbe || serverLog.isEnded()) {
+                                Thread.sleep(Math.max(0L, Math.min(probeInterval, remaining)));
+                            } else if (members.isEmpty() || !memberStartups.isEmpty()) {
+                                serverLog.awaitState(Math.min(probeInterval, remaining), ServerLogMonitor.STATE_RUNNING);
+                            } else {
+                                // Wake up as soon as the members can be launched.
+                                serverLog.awaitState(Math.min(probeInterval, remaining),
+                                    ADMIN_SERVING_STATES.toArray(new String[ADMIN_SERVING_STATES.size()]));
+                                launchMembers(false);
+                            }
                         } catch (InterruptedException interruptedEx) {
                             logger.log(Level.INFO, "Container startup interrupted");
                             throw interruptedEx;
                         }
-                        now = System.currentTimeMillis() / 1000;
+                        failOnFatalError(process);
+                        // Probe at short intervals once the server reports that it is running,
+                        // and back off exponentially until then.
+                        boolean running = ServerLogMonitor.STATE_RUNNING.equals(serverLog.getState());
+                        if (running && !runningBeforeProbe) {
+                            probeInterval = MIN_PROBE_INTERVAL_MILLIS;
+                        } else {
+                            probeInterval = Math.min(probeInterval * 2,
+                                running ? MAX_CONFIRMATION_INTERVAL_MILLIS : MAX_PROBE_INTERVAL_MILLIS);
+                        }
                     }
                 }
                 if (!serverAvailable) {
                     process.destroy();
                     throw new TimeoutException(String.format("The startup script could not complete in %d seconds.",
                         configuration.getTimeout()));
-                } else {
-                    Thread.sleep(1000L); // Try this to resolve intermittent deployment failures...
                 }
-                logger.log(Level.INFO, "Started WebLogic Server.");
+                lastStartupLatency = System.currentTimeMillis() - launchTime;
+                logger.log(Level.INFO, "Started WebLogic Server in {0} ms.", lastStartupLatency);
                 return;
             } catch (Exception ex) {
                 throw new LifecycleException("Container startup failed.", ex);
             }
         }
 
+        /**
+         * Launches the members of the cluster, once the admin server serves the domain configuration.
+         */
+        private void launchMembers(boolean adminRunning) {
+            if (members.isEmpty() || !memberStartups.isEmpty()) {
+                return;
+            }
+            if (adminRunning || ADMIN_SERVING_STATES.contains(serverLog.getState())) {
+                logger.log(Level.FINE, "Launching the cluster members, with the admin server in the {0} state",
+                    serverLog.getState());
+                for (final StartupManagedServerCommand member : members) {
+                    memberStartups.add(executor.submit(new Callable<Void>() {
+                        public Void call() throws Exception {
+                            member.execute();
+                            return null;
+                        }
+                    }));
+                }
+            }
+        }
+
         private Process createProcess(ProcessBuilder builder) throws IOException {
+            ServerLogMonitor launchLog = new ServerLogMonitor();
+            serverLog = launchLog;
             Process process = builder.start();
-            Thread consoleConsumer = new Thread(new ConsoleConsumer(process, configuration.isOutputToConsole()));
+            Thread consoleConsumer =
+                new Thread(new ConsoleConsumer(process, configuration.isOutputToConsole(), launchLog));
             consoleConsumer.setDaemon(true);
             consoleConsumer.start();
 
@@ -240,6 +553,40 @@ public class WebLogicServerControl {
             return configuration.getStartServerScript();
         }
 
+        /**
+         * Aborts the startup as soon as the server reports an error it cannot recover from, instead of waiting for the
+         * timeout to elapse.
+         */
+        private void failOnFatalError(Process process) throws LifecycleException {
+            String failure = serverLog.getFailure();
+            if (failure != null) {
+                process.destroy();
+                throw new LifecycleException("WebLogic Server failed to start: " + failure);
+            }
+        }
+
+        /**
+         * Checks whether the admin server accepts connections, which is much cheaper than a REST request when the server
+         * is still booting.
+         */
+        private boolean isAdminPortOpen() {
+            Socket socket = new Socket();
+            try {
+                URL adminUrl = new URL(configuration.getAdminUrl());
+                int port = adminUrl.getPort() != -1 ? adminUrl.getPort() : adminUrl.getDefaultPort();
+                socket.connect(new InetSocketAddress(adminUrl.getHost(), port), SOCKET_PROBE_TIMEOUT_MILLIS);
+                return true;
+            } catch (IOException ioEx) {
+                return false;
+            } finally {
+                try {
+                    socket.close();
+                } catch (IOException ioEx) {
+                    // Ignore
+                }
+            }
+        }
+
         private boolean processHasDied(Process process) {
             try {
                 process.exitValue();
@@ -278,23 +625,37 @@ public class WebLogicServerControl {
                 builder.environment().put("MW_HOME", configuration.getMiddlewareHome());
                 builder.redirectErrorStream(true);
                 process = builder.start();
-                Thread consoleConsumer = new Thread(new ConsoleConsumer(process, configuration.isOutputToConsole()));
+                Thread consoleConsumer =
+                    new Thread(new ConsoleConsumer(process, configuration.isOutputToConsole(), null));
                 consoleConsumer.setDaemon(true);
                 consoleConsumer.start();
-                final int timeout = configuration.getTimeout();
-                long start = System.currentTimeMillis() / 1000;
-                long now = start;
+                final long deadline = System.currentTimeMillis() + configuration.getTimeout() * 1000L;
+                long probeInterval = MIN_PROBE_INTERVAL_MILLIS;
                 boolean serverAvailable = true;
-                while ((now - start) < timeout && serverAvailable == true) {
+                while (System.currentTimeMillis() < deadline && serverAvailable == true) {
+                    boolean stoppedBeforeProbe = isReportedAsStopped();
                     serverAvailable = isServerRunning();
                     if (serverAvailable) {
+                        long remaining = Math.max(0L, deadline - System.currentTimeMillis());
                         try {
-                            Thread.sleep(5000L);
+                            // The output of the server, when started by this class, reports the shutdown.
+                            if (stoppedBeforeProbe) {
+                                Thread.sleep(Math.min(probeInterval, remaining));
+                            } else {
+                                serverLog.awaitState(Math.min(probeInterval, remaining),
+                                    ServerLogMonitor.STATE_SHUTDOWN);
+                            }
                         } catch (InterruptedException interruptedEx) {
                             logger.log(Level.INFO, "Container shutdown interrupted");
                             throw interruptedEx;
                         }
-                        now = System.currentTimeMillis() / 1000;
+                        boolean stopped = isReportedAsStopped();
+                        if (stopped && !stoppedBeforeProbe) {
+                            probeInterval = MIN_PROBE_INTERVAL_MILLIS;
+                        } else {
+                            probeInterval = Math.min(probeInterval * 2,
+                                stopped ? MAX_CONFIRMATION_INTERVAL_MILLIS : MAX_PROBE_INTERVAL_MILLIS);
+                        }
                     } else {
                         break;
                     }
@@ -315,11 +676,168 @@ public class WebLogicServerControl {
         protected String getScript() {
             return configuration.getStopServerScript();
         }
+
+        private boolean isReportedAsStopped() {
+            return ServerLogMonitor.STATE_SHUTDOWN.equals(serverLog.getState()) || serverLog.isEnded();
+        }
+    }
+
+    /**
+     * The command implementation for starting a member of the target cluster.
+     * Execute the startManagedWebLogic script in the domainHome/bin directory by default, passing the name of the
+     * member and the admin URL.
+     */
+    private class StartupManagedServerCommand extends ShellCommand {
+
+        private final String serverName;
+        private final ServerLogMonitor memberLog = new ServerLogMonitor();
+        private volatile Process process;
+
+        StartupManagedServerCommand(String serverName) {
+            this.serverName = serverName;
+        }
+
+        /**
+         * Starts the member, and waits until it is running. The member has its own readiness probe, that is driven by
+         * the output of the member in the same manner as the probe of the admin server.
+         */
+        @Override
+        public void execute() throws LifecycleException {
+            ProcessBuilder builder = new ProcessBuilder(getCommand());
+            builder.directory(new File(configuration.getDomainDirectory()));
+            builder.environment().put("MW_HOME", configuration.getMiddlewareHome());
+            String jvmOptions = configuration.getJvmOptions();
+            if (jvmOptions != null && jvmOptions.length() > 0) {
+                builder.environment().put("JAVA_OPTIONS", configuration.getJvmOptions());
+            }
+            builder.redirectErrorStream(true);
+            try {
+                final long launchTime = System.currentTimeMillis();
+                final long deadline = launchTime + configuration.getTimeout() * 1000L;
+                process = builder.start();
+                Thread consoleConsumer =
+                    new Thread(new ConsoleConsumer(process, configuration.isOutputToConsole(), memberLog));
+                consoleConsumer.setDaemon(true);
+                consoleConsumer.start();
+
+                long probeInterval = MIN_PROBE_INTERVAL_MILLIS;
+                while (!isServerRunning(serverName)) {
+                    String failure = memberLog.getFailure();
+                    if (failure != null) {
+                        throw new LifecycleException("Managed server " + serverName + " failed to start: " + failure);
+                    }
+                    if (memberLog.isEnded()) {
+                        throw new LifecycleException("The startup script of managed server " + serverName
+                            + " terminated before the server was running.");
+                    }
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        throw new TimeoutException(String.format(
+                            "Managed server %s could not be started in %d seconds.", serverName,
+                            configuration.getTimeout()));
+                    }
+                    boolean runningBeforeProbe = ServerLogMonitor.STATE_RUNNING.equals(memberLog.getState());
+                    if (runningBeforeProbe) {
+                        Thread.sleep(Math.min(probeInterval, remaining));
+                    } else {
+                        memberLog.awaitState(Math.min(probeInterval, remaining), ServerLogMonitor.STATE_RUNNING);
+                    }
+                    boolean running = ServerLogMonitor.STATE_RUNNING.equals(memberLog.getState());
+                    if (running && !runningBeforeProbe) {
+                        probeInterval = MIN_PROBE_INTERVAL_MILLIS;
+                    } else {
+                        probeInterval = Math.min(probeInterval * 2,
+                            running ? MAX_CONFIRMATION_INTERVAL_MILLIS : MAX_PROBE_INTERVAL_MILLIS);
+                    }
+                }
+                logger.log(Level.INFO, "Started managed server {0} in {1} ms.",
+                    new Object[] {serverName, System.currentTimeMillis() - launchTime});
+            } catch (LifecycleException lifecycleEx) {
+                destroy();
+                throw lifecycleEx;
+            } catch (Exception ex) {
+                destroy();
+                throw new LifecycleException("Startup of managed server " + serverName + " failed.", ex);
+            }
+        }
+
+        /**
+         * Kills the process of the startup script, if it was launched.
+         */
+        void destroy() {
+            Process launched = process;
+            if (launched != null) {
+                launched.destroy();
+            }
+        }
+
+        @Override
+        protected String getScript() {
+            return configuration.getStartManagedServerScript() + " " + serverName + " " + configuration.getAdminUrl();
+        }
+    }
+
+    /**
+     * The command implementation for stopping a member of the target cluster.
+     * Execute the stopManagedWebLogic script in the domainHome/bin directory by default, passing the name of the
+     * member and the admin URL.
+     */
+    private class ShutdownManagedServerCommand extends ShellCommand {
+
+        private final String serverName;
+
+        ShutdownManagedServerCommand(String serverName) {
+            this.serverName = serverName;
+        }
+
+        /**
+         * Stops the member, if it is running, and waits until the admin server no longer reports it as running.
+         */
+        @Override
+        public void execute() throws LifecycleException {
+            if (!isServerRunning(serverName)) {
+                return;
+            }
+            Process process = null;
+            try {
+                ProcessBuilder builder = new ProcessBuilder(getCommand());
+                builder.directory(new File(configuration.getDomainDirectory()));
+                builder.environment().put("MW_HOME", configuration.getMiddlewareHome());
+                builder.redirectErrorStream(true);
+                process = builder.start();
+                Thread consoleConsumer =
+                    new Thread(new ConsoleConsumer(process, configuration.isOutputToConsole(), null));
+                consoleConsumer.setDaemon(true);
+                consoleConsumer.start();
+                final long deadline = System.currentTimeMillis() + configuration.getTimeout() * 1000L;
+                long probeInterval = MIN_PROBE_INTERVAL_MILLIS;
+                while (isServerRunning(serverName)) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        process.destroy();
+                        throw new TimeoutException(String.format(
+                            "Managed server %s could not be stopped in %d seconds.", serverName,
+                            configuration.getTimeout()));
+                    }
+                    Thread.sleep(Math.min(probeInterval, remaining));
+                    probeInterval = Math.min(probeInterval * 2, MAX_CONFIRMATION_INTERVAL_MILLIS);
+                }
+                logger.log(Level.INFO, "Stopped managed server {0}.", serverName);
+            } catch (Exception ex) {
+                throw new LifecycleException("Shutdown of managed server " + serverName + " failed.", ex);
+            }
+        }
+
+        @Override
+        protected String getScript() {
+            return configuration.getStopManagedServerScript() + " " + serverName + " " + configuration.getAdminUrl();
+        }
     }
 
     /**
      * A helper class to read the output stream of the scripts executed by {@link WebLogicServerControl}.
-     * Writes the contents of the stream to the console if configured to do so.
+     * Writes the contents of the stream to the console if configured to do so, and passes every line to the
+     * {@link ServerLogMonitor} of the server, if any.
      *
      * @author Vineet Reynolds
      */
@@ -327,10 +845,12 @@ public class WebLogicServerControl {
 
         private Process process;
         private boolean writeOutput;
+        private ServerLogMonitor logMonitor;
 
-        private ConsoleConsumer(Process process, boolean writeOutput) {
+        private ConsoleConsumer(Process process, boolean writeOutput, ServerLogMonitor logMonitor) {
             this.process = process;
             this.writeOutput = writeOutput;
+            this.logMonitor = logMonitor;
         }
 
         public void run() {
@@ -342,9 +862,16 @@ public class WebLogicServerControl {
                     if (writeOutput) {
                         System.out.println(line);
                     }
+                    if (logMonitor != null) {
+                        logMonitor.onLine(line);
+                    }
                 }
             } catch (IOException e) {
                 logger.log(Level.SEVERE, e.getMessage(), e);
+            } finally {
+                if (logMonitor != null) {
+                    logMonitor.onEnd();
+                }
             }
         }
     }
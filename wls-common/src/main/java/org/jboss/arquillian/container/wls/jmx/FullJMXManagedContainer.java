@@ -16,9 +16,13 @@
  */
 package org.jboss.arquillian.container.wls.jmx;
 
+import java.util.logging.Logger;
+
 import org.jboss.arquillian.container.spi.client.container.LifecycleException;
 import org.jboss.arquillian.container.wls.CommonManagedWebLogicConfiguration;
+import org.jboss.arquillian.container.wls.ServerLease;
 import org.jboss.arquillian.container.wls.WebLogicServerControl;
+import org.jboss.arquillian.container.wls.rest.PooledRESTClient;
 
 /**
  * A utility class for performing operations relevant to a WebLogic container managed by Arquillian.
@@ -30,8 +34,12 @@ import org.jboss.arquillian.container.wls.WebLogicServerControl;
  */
 public class FullJMXManagedContainer extends FullJMXRemoteContainer {
 
+    private static final Logger logger = Logger.getLogger(FullJMXManagedContainer.class.getName());
+
     private CommonManagedWebLogicConfiguration configuration;
     private WebLogicServerControl serverControl;
+    private PooledRESTClient restClient;
+    private ServerLease serverLease;
     private boolean connectedToRunningServer = false;
 
     public FullJMXManagedContainer(CommonManagedWebLogicConfiguration configuration) {
@@ -46,8 +54,13 @@ public class FullJMXManagedContainer extends FullJMXRemoteContainer {
      */
     @Override
     public void start() throws LifecycleException {
-        serverControl = new WebLogicServerControl((CommonManagedWebLogicConfiguration) configuration);
-        if (serverControl.isServerRunning()) {
+        restClient = new PooledRESTClient(configuration, logger);
+        serverControl = new WebLogicServerControl(configuration, restClient);
+        if (configuration.isKeepWarm()) {
+            serverLease = new ServerLease(configuration, serverControl);
+            serverLease.acquire();
+            super.start();
+        } else if (serverControl.isServerRunning()) {
             if (configuration.isAllowConnectingToRunningServer()) {
                 connectedToRunningServer = true;
                 super.start();
@@ -73,8 +86,14 @@ public class FullJMXManagedContainer extends FullJMXRemoteContainer {
         try {
             super.stop();
         } finally {
-            if (!connectedToRunningServer) {
-                serverControl.stopServer();
+            try {
+                if (serverLease != null) {
+                    serverLease.release();
+                } else if (!connectedToRunningServer) {
+                    serverControl.stopServer();
+                }
+            } finally {
+                restClient.close();
             }
         }
     }
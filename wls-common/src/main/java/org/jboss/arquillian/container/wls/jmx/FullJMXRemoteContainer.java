@@ -20,11 +20,18 @@ import org.jboss.arquillian.container.spi.client.container.DeploymentException;
 import org.jboss.arquillian.container.spi.client.container.LifecycleException;
 import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
 import org.jboss.arquillian.container.wls.CommonWebLogicConfiguration;
+import org.jboss.arquillian.container.wls.ConcurrentDeployer;
+import org.jboss.arquillian.container.wls.ConcurrentlyDeployableContainer;
+import org.jboss.arquillian.container.wls.IncrementalDeployer;
 import org.jboss.arquillian.container.wls.ShrinkWrapUtil;
 import org.jboss.arquillian.container.wls.WebLogicJMXClient;
 import org.jboss.shrinkwrap.api.Archive;
 
 import java.io.File;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
 
 /**
  * A utility class for performing operations relevant to a remote WebLogic container used by Arquillian.
@@ -34,13 +41,50 @@ import java.io.File;
  *
  * @author Vineet Reynolds
  */
-public class FullJMXRemoteContainer {
+public class FullJMXRemoteContainer implements ConcurrentlyDeployableContainer {
 
     private WebLogicJMXClient jmxClient;
     private CommonWebLogicConfiguration configuration;
+    private ConcurrentDeployer concurrentDeployer;
+    private IncrementalDeployer incrementalDeployer;
+    private final ConcurrentMap<String, File> deployedExports = new ConcurrentHashMap<String, File>();
+
+    private final ConcurrentDeployer.Deployment<File> deployment = new ConcurrentDeployer.Deployment<File>() {
+        public File export(Archive<?> archive) {
+            if (incrementalDeployer != null) {
+                // Incremental deployments stage the archive once earlier deployments are complete.
+                return null;
+            }
+            return ShrinkWrapUtil.toFile(archive, configuration.isDeployExplodedArchive(), configuration);
+        }
+
+        public ProtocolMetaData activate(Archive<?> archive, File deploymentArchive) throws DeploymentException {
+            if (incrementalDeployer != null) {
+                return incrementalDeployer.deploy(getDeploymentName(archive), archive);
+            }
+            ProtocolMetaData metaData;
+            try {
+                metaData = jmxClient.deploy(getDeploymentName(archive), deploymentArchive);
+            } catch (DeploymentException deploymentEx) {
+                ShrinkWrapUtil.release(deploymentArchive);
+                throw deploymentEx;
+            } catch (RuntimeException runtimeEx) {
+                ShrinkWrapUtil.release(deploymentArchive);
+                throw runtimeEx;
+            }
+            // The admin server reads the archive from its path until it is undeployed.
+            deployedExports.put(getDeploymentName(archive), deploymentArchive);
+            return metaData;
+        }
+
+        public void undeploy(Archive<?> archive) throws DeploymentException {
+            FullJMXRemoteContainer.this.undeploy(archive);
+        }
+    };
 
     public FullJMXRemoteContainer(CommonWebLogicConfiguration configuration) {
         this.configuration = configuration;
+        this.concurrentDeployer = new ConcurrentDeployer(configuration.getDeploymentConcurrency());
     }
 
     /**
@@ -51,6 +95,24 @@ public class FullJMXRemoteContainer {
      */
     public void start() throws LifecycleException {
         jmxClient = new WebLogicJMXClient(configuration);
+        if (configuration.isDeployExplodedArchive() && configuration.isIncrementalRedeploy()) {
+            incrementalDeployer = new IncrementalDeployer(configuration, new IncrementalDeployer.Operations() {
+                public ProtocolMetaData deploy(String deploymentName, File deploymentArchive)
+                    throws DeploymentException {
+                    return jmxClient.deploy(deploymentName, deploymentArchive);
+                }
+
+                public ProtocolMetaData redeploy(String deploymentName, File deploymentArchive)
+                    throws DeploymentException {
+                    return jmxClient.redeploy(deploymentName);
+                }
+
+                public void undeploy(String deploymentName) throws DeploymentException {
+                    jmxClient.undeploy(deploymentName);
+                }
+            });
+            incrementalDeployer.start();
+        }
     }
 
     /**
@@ -64,8 +126,34 @@ public class FullJMXRemoteContainer {
      * @throws org.jboss.arquillian.container.spi.client.container.DeploymentException
      */
     public ProtocolMetaData deploy(Archive<?> archive) throws DeploymentException {
-        return jmxClient.deploy(getDeploymentName(archive),
-            ShrinkWrapUtil.toFile(archive, configuration.isDeployExplodedArchive()));
+        return concurrentDeployer.deploy(archive, deployment);
+    }
+
+    /**
+     * Starts deploying the archives concurrently. The results are obtained through {@link #deploy(Archive)}.
+     *
+     * @param archives
+     *     The independent archives to deploy
+     */
+    public void deployConcurrently(List<Archive<?>> archives) {
+        concurrentDeployer.submit(archives, deployment);
+    }
+
+    /**
+     * Undeploys the archives started concurrently whose results were never obtained.
+     */
+    public void discardConcurrentDeployments() {
+        concurrentDeployer.discardPending();
+    }
+
+    /**
+     * Starts deploying an archive in the background, without blocking the calling thread.
+     *
+     * @param archive
+     *     The archive to deploy
+     */
+    public Future<ProtocolMetaData> deployAsync(Archive<?> archive) {
+        return concurrentDeployer.submit(archive, deployment);
     }
 
     /**
@@ -77,7 +165,15 @@ public class FullJMXRemoteContainer {
      * @throws org.jboss.arquillian.container.spi.client.container.DeploymentException
      */
     public void undeploy(Archive<?> archive) throws DeploymentException {
-        jmxClient.undeploy(getDeploymentName(archive));
+        if (incrementalDeployer != null) {
+            incrementalDeployer.undeploy(getDeploymentName(archive));
+            return;
+        }
+        try {
+            jmxClient.undeploy(getDeploymentName(archive));
+        } finally {
+            ShrinkWrapUtil.release(deployedExports.remove(getDeploymentName(archive)));
+        }
     }
 
     /**
@@ -87,7 +183,17 @@ public class FullJMXRemoteContainer {
      *     When there is failure in closing the JMX connection.
      */
     public void stop() throws LifecycleException {
-        jmxClient.close();
+        concurrentDeployer.close();
+        try {
+            if (incrementalDeployer != null) {
+                incrementalDeployer.close();
+            }
+        } catch (DeploymentException deploymentEx) {
+            throw new LifecycleException("Failed to undeploy the applications whose undeployment was deferred.",
+                deploymentEx);
+        } finally {
+            jmxClient.close();
+        }
     }
 
     private String getDeploymentName(Archive<?> archive) {
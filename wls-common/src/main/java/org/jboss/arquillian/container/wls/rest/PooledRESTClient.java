@@ -0,0 +1,113 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls.rest;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.net.ssl.SSLContext;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
+import org.glassfish.jersey.apache.connector.ApacheConnectorProvider;
+import org.glassfish.jersey.client.ClientConfig;
+import org.jboss.arquillian.container.wls.CommonWebLogicConfiguration;
+import org.jboss.arquillian.container.wls.SSLContextCache;
+
+/**
+ * A REST client that is shared by all interactions of a container with the WebLogic Server REST management API.
+ * <p>
+ * The client is backed by a pool of keep-alive connections, so that the status checks, deployments and
+ * undeployments performed during the life of a container do not pay for a new TCP connection and TLS handshake
+ * each time. Connections that have been idle for longer than the configured duration are evicted in the background.
+ * <p>
+ * Instances are created when the container starts, and must be closed when the container stops.
+ */
+public class PooledRESTClient {
+
+    private static final Logger LOGGER = Logger.getLogger(PooledRESTClient.class.getName());
+
+    private final Client client;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final ScheduledExecutorService evictor;
+
+    public PooledRESTClient(CommonWebLogicConfiguration config, Logger logger) {
+        SSLContext sslContext = SSLContextCache.getSSLContext(config);
+        if (sslContext != null) {
+            // The connector uses the socket factories of the connection manager, and not the SSL context of the client.
+            connectionManager = new PoolingHttpClientConnectionManager(RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", new SSLConnectionSocketFactory(sslContext))
+                .build());
+        } else {
+            connectionManager = new PoolingHttpClientConnectionManager();
+        }
+        connectionManager.setMaxTotal(config.getRestMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(config.getRestMaxConnections());
+
+        ClientConfig clientConfig = new ClientConfig();
+        clientConfig.connectorProvider(new ApacheConnectorProvider());
+        clientConfig.property(ApacheClientProperties.CONNECTION_MANAGER, connectionManager);
+
+        ClientBuilder restClientBuilder = ClientBuilder.newBuilder().withConfig(clientConfig);
+        client = RESTUtils.configureClientBuilder(restClientBuilder, config, logger).build();
+
+        final int idleTimeout = Math.max(1, config.getRestIdleConnectionTimeout());
+        evictor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "arquillian-wls-rest-connection-evictor");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        evictor.scheduleWithFixedDelay(new Runnable() {
+            public void run() {
+                connectionManager.closeExpiredConnections();
+                connectionManager.closeIdleConnections(idleTimeout, TimeUnit.SECONDS);
+            }
+        }, idleTimeout, idleTimeout, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @return The shared REST client. Callers must not close the returned client.
+     */
+    public Client getClient() {
+        return client;
+    }
+
+    /**
+     * Closes the client and all pooled connections.
+     */
+    public void close() {
+        evictor.shutdownNow();
+        try {
+            client.close();
+        } catch (Exception ex) {
+            LOGGER.log(Level.WARNING, "Failed to close the REST client.", ex);
+        }
+    }
+}
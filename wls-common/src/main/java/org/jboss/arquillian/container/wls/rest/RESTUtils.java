@@ -1,16 +1,23 @@
 package org.jboss.arquillian.container.wls.rest;
 
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
 import org.glassfish.jersey.client.authentication.HttpAuthenticationFeature;
 import org.glassfish.jersey.client.filter.CsrfProtectionFilter;
 import org.glassfish.jersey.filter.LoggingFilter;
 import org.glassfish.jersey.jsonp.JsonProcessingFeature;
 import org.glassfish.jersey.media.multipart.*;
 import org.glassfish.jersey.media.multipart.file.FileDataBodyPart;
+import org.glassfish.jersey.media.multipart.file.StreamDataBodyPart;
 import org.jboss.arquillian.container.spi.client.container.DeploymentException;
 import org.jboss.arquillian.container.spi.client.protocol.metadata.HTTPContext;
 import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
 import org.jboss.arquillian.container.spi.client.protocol.metadata.Servlet;
 import org.jboss.arquillian.container.wls.CommonWebLogicConfiguration;
+import org.jboss.arquillian.container.wls.DeploymentProgressPurger;
+import org.jboss.arquillian.container.wls.HTTPContextSelectionStrategies;
+import org.jboss.arquillian.container.wls.HTTPContextSelectionStrategy;
+import org.jboss.arquillian.container.wls.SSLContextCache;
 import org.jboss.arquillian.container.wls.ShrinkWrapUtil;
 import org.jboss.shrinkwrap.api.Archive;
 
@@ -19,6 +26,7 @@ import javax.json.JsonArray;
 import javax.json.JsonObject;
 import javax.json.JsonValue;
 import javax.json.stream.JsonGenerator;
+import javax.net.ssl.SSLContext;
 import javax.ws.rs.client.*;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -27,9 +35,12 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Logger;
 
 /**
@@ -44,6 +55,11 @@ public class RESTUtils {
 
     private static final String MONITORING_URI = "/management/tenant-monitoring/servers/";
 
+    private static final String DOMAIN_ROOT_DIRECTORY_URI =
+        "/management/weblogic/latest/domainConfig?fields=rootDirectory&links=none";
+
+    private static final String APPLICATION_FIELDS = "servlets,state";
+
     private static final String PURGE_PROGRESSS_OBJECTS_URI =
         "/management/weblogic/latest/domainRuntime/deploymentManager/purgeCompletedDeploymentProgressObjects";
 
@@ -70,11 +86,25 @@ public class RESTUtils {
     private static final String JSON_RESPONSE_TARGETS = "targets";
     private static final String JSON_RESPONSE_STATE = "state";
     private static final String JSON_RESPONSE_SERVLETS = "servlets";
+    private static final String JSON_RESPONSE_ROOT_DIRECTORY = "rootDirectory";
     private static final String JSON_RESPONSE_SERVLET_NAME = "servletName";
     private static final String JSON_RESPONSE_CONTEXT_PATH = "contextPath";
 
     private static final String JSON_RESPONSE_STATE_VALUE_RUNNING = "\"RUNNING\"";
 
+    // Query parameters of the REST management API
+    private static final String QUERY_PARAM_FIELDS = "fields";
+    private static final String QUERY_PARAM_LINKS = "links";
+    private static final String QUERY_PARAM_LINKS_VALUE_NONE = "none";
+
+    private static final Logger LOGGER = Logger.getLogger(RESTUtils.class.getName());
+
+    /**
+     * The background purgers of the completed deployment progress objects, by admin URL.
+     */
+    private static final ConcurrentMap<String, DeploymentProgressPurger> progressPurgers =
+        new ConcurrentHashMap<String, DeploymentProgressPurger>();
+
     /**
      * Create an authenticating REST client for WebLogic Server interactions.
      *
@@ -86,12 +116,33 @@ public class RESTUtils {
      * @return A javax.ws.rs.Client based on the specified configuration
      */
     public static Client getClient(CommonWebLogicConfiguration config,
+        Logger logger) {
+        return configureClientBuilder(ClientBuilder.newBuilder(), config, logger).build();
+    }
+
+    /**
+     * Registers the features and filters required for WebLogic Server interactions with a client builder.
+     *
+     * @param restClientBuilder
+     *     The builder to configure
+     * @param config
+     *     The client configuration
+     * @param logger
+     *     The Logger to use for client logging.
+     *
+     * @return The configured builder
+     */
+    static ClientBuilder configureClientBuilder(ClientBuilder restClientBuilder, CommonWebLogicConfiguration config,
         Logger logger) {
         HttpAuthenticationFeature httpAuthFeature =
             HttpAuthenticationFeature.universalBuilder().credentialsForBasic(config.getAdminUserName(),
                 config.getAdminPassword()).build();
 
-        ClientBuilder restClientBuilder = ClientBuilder.newBuilder();
+        // Trust the configured truststore for this client alone, instead of through the JVM-wide properties.
+        SSLContext sslContext = SSLContextCache.getSSLContext(config);
+        if (sslContext != null) {
+            restClientBuilder.sslContext(sslContext);
+        }
 
         restClientBuilder.register(CsrfProtectionFilter.class);
         restClientBuilder.register(httpAuthFeature);
@@ -107,7 +158,7 @@ public class RESTUtils {
             restClientBuilder.register(new LoggingFilter(logger, config.isLogRESTEntities()));
         }
 
-        return restClientBuilder.build();
+        return restClientBuilder;
     }
 
     /**
@@ -121,39 +172,126 @@ public class RESTUtils {
      * @return true IFF a connection can be made to the server, AND it's in the RUNNING state.
      */
     public static boolean isServerRunning(CommonWebLogicConfiguration config, Logger logger) {
+        Client client = getClient(config, logger);
+        try {
+            return isServerRunning(client, config);
+        } finally {
+            client.close();
+        }
+    }
+
+    /**
+     * Determine if the target server is running and ready, using an existing REST client.
+     *
+     * @param client
+     *     The REST client to use. The client is not closed by this method.
+     * @param config
+     *     The Arquillian configuration
+     *
+     * @return true IFF a connection can be made to the server, AND it's in the RUNNING state.
+     */
+    public static boolean isServerRunning(Client client, CommonWebLogicConfiguration config) {
+        return isServerRunning(client, config, config.getTarget());
+    }
+
+    /**
+     * Determine if a server of the domain is running and ready, using an existing REST client.
+     *
+     * @param client
+     *     The REST client to use. The client is not closed by this method.
+     * @param config
+     *     The Arquillian configuration
+     * @param serverName
+     *     The name of the server
+     *
+     * @return true IFF a connection can be made to the admin server, AND the server is in the RUNNING state.
+     */
+    public static boolean isServerRunning(Client client, CommonWebLogicConfiguration config, String serverName) {
         boolean isRunning = false;
 
-        Client client = getClient(config, logger);
-        WebTarget target = client.target(config.getAdminUrl() + MONITORING_URI + config.getTarget());
+        WebTarget target = client.target(config.getAdminUrl() + MONITORING_URI + serverName);
 
+        Response response = null;
         try {
-            Response response = target.request(MediaType.APPLICATION_JSON_TYPE).get();
+            response = target.request(MediaType.APPLICATION_JSON_TYPE).get();
 
             if (response.getStatus() == Response.Status.OK.getStatusCode()) {
                 if (response.hasEntity()) {
-                    JsonObject jsonResponse = response.readEntity(JsonObject.class);
-                    if (jsonResponse.containsKey(JSON_RESPONSE_BODY)) {
-                        JsonObject body = jsonResponse.getJsonObject(JSON_RESPONSE_BODY);
-                        if (body.containsKey(JSON_RESPONSE_ITEM)) {
-                            JsonObject item = body.getJsonObject(JSON_RESPONSE_ITEM);
-                            if (item.containsKey(JSON_RESPONSE_STATE)) {
-                                JsonValue state = item.get(JSON_RESPONSE_STATE);
-                                isRunning = JSON_RESPONSE_STATE_VALUE_RUNNING.equals(state.toString().toUpperCase());
-                            }
-                        }
-                    }
+                    isRunning = isRunning(response.readEntity(JsonObject.class));
                 }
             }
         } catch (Exception e) {
             // This should only happen because the connection failed, which is expected in some cases,
             // and we'll just return false.
         } finally {
-            client.close();
+            // Release the connection, so that it may be reused by subsequent requests.
+            if (response != null) {
+                response.close();
+            }
         }
 
         return isRunning;
     }
 
+    /**
+     * Reads the state of a server from the response of the monitoring API.
+     *
+     * @return true IFF the response reports the server in the RUNNING state.
+     */
+    static boolean isRunning(JsonObject jsonResponse) {
+        if (jsonResponse.containsKey(JSON_RESPONSE_BODY)) {
+            JsonObject body = jsonResponse.getJsonObject(JSON_RESPONSE_BODY);
+            if (body.containsKey(JSON_RESPONSE_ITEM)) {
+                JsonObject item = body.getJsonObject(JSON_RESPONSE_ITEM);
+                if (item.containsKey(JSON_RESPONSE_STATE)) {
+                    JsonValue state = item.get(JSON_RESPONSE_STATE);
+                    return JSON_RESPONSE_STATE_VALUE_RUNNING.equals(state.toString().toUpperCase());
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Obtains the root directory of the domain that the admin server belongs to, so that the identity of a running
+     * server can be verified.
+     *
+     * @param client
+     *     The REST client to use. The client is not closed by this method.
+     * @param config
+     *     The Arquillian configuration
+     *
+     * @return The root directory of the domain, as reported by the admin server.
+     *
+     * @throws IOException
+     *     if the REST API call fails, or if the response does not contain the root directory.
+     */
+    public static String getDomainRootDirectory(Client client, CommonWebLogicConfiguration config)
+        throws IOException {
+        Response response = null;
+        try {
+            response = client.target(config.getAdminUrl() + DOMAIN_ROOT_DIRECTORY_URI)
+                .request(MediaType.APPLICATION_JSON_TYPE).get();
+            if (response.getStatus() != Response.Status.OK.getStatusCode()) {
+                throw new IOException("Failed to obtain the domain configuration. The admin server responded with "
+                    + response.getStatus());
+            }
+            JsonObject jsonResponse = response.readEntity(JsonObject.class);
+            if (!jsonResponse.containsKey(JSON_RESPONSE_ROOT_DIRECTORY)) {
+                throw new IOException("The domain configuration does not contain the root directory.");
+            }
+            return jsonResponse.getString(JSON_RESPONSE_ROOT_DIRECTORY);
+        } catch (IOException ioEx) {
+            throw ioEx;
+        } catch (Exception ex) {
+            throw new IOException("Failed to obtain the domain configuration.", ex);
+        } finally {
+            if (response != null) {
+                response.close();
+            }
+        }
+    }
+
     /**
      * Invokes the REST management API to deploy an application.
      *
@@ -165,12 +303,95 @@ public class RESTUtils {
      * @throws org.jboss.arquillian.container.spi.client.container.DeploymentException
      *     if the REST API call fails.
      */
-    @SuppressWarnings("resource")
     public static ProtocolMetaData deploy(CommonWebLogicConfiguration config, Logger logger, Archive<?> archive)
         throws DeploymentException {
+        Client restClient = getClient(config, logger);
+        try {
+            return deploy(restClient, config, logger, archive);
+        } finally {
+            restClient.close();
+        }
+    }
+
+    /**
+     * Invokes the REST management API to deploy an application, using an existing REST client.
+     *
+     * @param restClient
+     *     The REST client to use. The client is not closed by this method.
+     * @param archive
+     *     The ShrinkWrap archive to deploy
+     *
+     * @return The metadata for the deployed application
+     *
+     * @throws org.jboss.arquillian.container.spi.client.container.DeploymentException
+     *     if the REST API call fails.
+     */
+    public static ProtocolMetaData deploy(Client restClient, CommonWebLogicConfiguration config, Logger logger,
+        Archive<?> archive) throws DeploymentException {
+        return deploy(restClient, config, logger, archive,
+            HTTPContextSelectionStrategies.create(config.getHttpContextSelection()));
+    }
 
-        // Export the ShrinkWrap archive to a temporary file
-        File deploymentArchive = ShrinkWrapUtil.toFile(archive);
+    /**
+     * Invokes the REST management API to deploy an application, using an existing REST client, and selects the context
+     * of the deployment with the supplied strategy.
+     *
+     * @param restClient
+     *     The REST client to use. The client is not closed by this method.
+     * @param archive
+     *     The ShrinkWrap archive to deploy
+     * @param contextSelectionStrategy
+     *     The strategy that selects the context through which the deployment is reached. The strategy is shared by
+     *     the deployments of a container.
+     *
+     * @return The metadata for the deployed application
+     *
+     * @throws org.jboss.arquillian.container.spi.client.container.DeploymentException
+     *     if the REST API call fails.
+     */
+    public static ProtocolMetaData deploy(Client restClient, CommonWebLogicConfiguration config, Logger logger,
+        Archive<?> archive, HTTPContextSelectionStrategy contextSelectionStrategy) throws DeploymentException {
+        return deploy(restClient, config, logger, archive, null, contextSelectionStrategy);
+    }
+
+    /**
+     * Exports an archive to a temporary file ahead of its deployment, unless the archive is to be streamed into the
+     * upload request as it is exported.
+     *
+     * @param archive
+     *     The ShrinkWrap archive to export
+     *
+     * @return The exported archive, or <code>null</code> if the archive is streamed during the deployment.
+     */
+    public static File export(CommonWebLogicConfiguration config, Archive<?> archive) {
+        if (config.isRestStreamingUpload()) {
+            return null;
+        }
+        return ShrinkWrapUtil.toFile(archive, false, config);
+    }
+
+    /**
+     * Invokes the REST management API to deploy an archive that may have been exported through
+     * {@link #export(CommonWebLogicConfiguration, Archive)}, using an existing REST client.
+     *
+     * @param restClient
+     *     The REST client to use. The client is not closed by this method.
+     * @param archive
+     *     The ShrinkWrap archive to deploy
+     * @param deploymentArchive
+     *     The exported archive, or <code>null</code> if the archive is to be exported during the deployment
+     * @param contextSelectionStrategy
+     *     The strategy that selects the context through which the deployment is reached.
+     *
+     * @return The metadata for the deployed application
+     *
+     * @throws org.jboss.arquillian.container.spi.client.container.DeploymentException
+     *     if the REST API call fails.
+     */
+    @SuppressWarnings("resource")
+    public static ProtocolMetaData deploy(Client restClient, CommonWebLogicConfiguration config, Logger logger,
+        Archive<?> archive, File deploymentArchive, HTTPContextSelectionStrategy contextSelectionStrategy)
+        throws DeploymentException {
 
         // Create the JSON model for the deployment
         JsonObject model = Json.createObjectBuilder()
@@ -182,8 +403,24 @@ public class RESTUtils {
         // Construct the multi-part request message
         FormDataMultiPart form = new FormDataMultiPart();
         form.field(MULTIPART_JSON_MODEL_PART_NAME, model, MediaType.APPLICATION_JSON_TYPE);
-        form.bodyPart(new FileDataBodyPart(MULTIPART_DEPLOYMENT_PART_NAME, deploymentArchive,
-            MediaType.APPLICATION_OCTET_STREAM_TYPE));
+        StreamingArchiveExport streamingExport = null;
+        if (deploymentArchive == null && config.isRestStreamingUpload()) {
+            // Stream the ShrinkWrap archive into the request body as it is exported
+            try {
+                streamingExport = new StreamingArchiveExport(archive);
+            } catch (IOException ioEx) {
+                throw new DeploymentException("Failed to stream the deployment archive.", ioEx);
+            }
+            form.bodyPart(new StreamDataBodyPart(MULTIPART_DEPLOYMENT_PART_NAME, streamingExport.getInputStream(),
+                archive.getName(), MediaType.APPLICATION_OCTET_STREAM_TYPE));
+        } else {
+            if (deploymentArchive == null) {
+                // Export the ShrinkWrap archive to a temporary file
+                deploymentArchive = ShrinkWrapUtil.toFile(archive, false, config);
+            }
+            form.bodyPart(new FileDataBodyPart(MULTIPART_DEPLOYMENT_PART_NAME, deploymentArchive,
+                MediaType.APPLICATION_OCTET_STREAM_TYPE));
+        }
 
         // Construct the resource URL for deployment
         URL adminUrl;
@@ -192,19 +429,45 @@ public class RESTUtils {
             adminUrl = new URL(config.getAdminUrl());
             applicationRestURI = new URI(adminUrl.toURI().toString() + COMMON_APP_URI).normalize();
         } catch (Exception e) {
+            if (streamingExport != null) {
+                streamingExport.abort();
+            }
+            ShrinkWrapUtil.release(deploymentArchive);
             throw new DeploymentException("Error constructing deployment resource URL.", e);
         }
 
-        // Create and configure the REST client
-        Client restClient = getClient(config, logger);
-
         // Prepare the deployment request
         Invocation.Builder requestBuilder =
             restClient.target(applicationRestURI).request(MediaType.APPLICATION_JSON_TYPE);
         requestBuilder.header(HEADER_X_REQUESTED_BY_NAME, HEADER_X_REQUESTED_BY_VALUE);
+        if (streamingExport != null) {
+            // The length of the archive is not known in advance
+            requestBuilder.property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.CHUNKED);
+        }
 
-        // Post the deployment request
-        Response response = requestBuilder.post(Entity.entity(form, form.getMediaType()));
+        // Post the deployment request. The uploaded archive is no longer read by the server afterwards.
+        Response response;
+        try {
+            response = requestBuilder.post(Entity.entity(form, form.getMediaType()));
+        } catch (RuntimeException ex) {
+            if (streamingExport != null) {
+                streamingExport.abort();
+                if (streamingExport.isFailureReported()) {
+                    throw new DeploymentException("Failed to stream the deployment archive.", ex);
+                }
+            }
+            throw ex;
+        } finally {
+            ShrinkWrapUtil.release(deploymentArchive);
+        }
+        if (streamingExport != null) {
+            try {
+                streamingExport.close();
+            } catch (DeploymentException deploymentEx) {
+                response.close();
+                throw deploymentEx;
+            }
+        }
 
         // Check the response status
         if (response.getStatus() != Response.Status.CREATED.getStatusCode()) {
@@ -212,7 +475,8 @@ public class RESTUtils {
                 // If we get anything but JSON back, there is a problem
                 if (!MediaType.APPLICATION_JSON.equals(response.getMediaType().toString())) {
                     Response.StatusType status = response.getStatusInfo();
-                    throw new DeploymentException("Deployment Failed: " + deploymentArchive.getName() +
+                    response.close();
+                    throw new DeploymentException("Deployment Failed: " + archive.getName() +
                         " ; " + status.getStatusCode() + " " + status.getReasonPhrase());
                 } else {
                     // Process the JSON response
@@ -237,57 +501,94 @@ public class RESTUtils {
         }
 
         URI location = response.getLocation();
-        if (location != null) {
-            // Verify that the deployment succeeded by looking up the application's resource URI from the response
-            response = restClient.target(location).request(MediaType.APPLICATION_JSON).get();
-            if (response.getStatus() != Response.Status.OK.getStatusCode()) {
-                throw new DeploymentException(getJSONResponseErrorMessage(response.readEntity(JsonObject.class)));
+        JsonObject jsonResponse = null;
+        try {
+            if (response.getStatus() == Response.Status.CREATED.getStatusCode() && response.hasEntity()
+                && MediaType.APPLICATION_JSON_TYPE.isCompatible(response.getMediaType())) {
+                // The application resource is used as is, when it is returned in response to the deployment request.
+                JsonObject createdResponse = response.readEntity(JsonObject.class);
+                if (createdResponse.containsKey(JSON_RESPONSE_ITEM)
+                    && createdResponse.getJsonObject(JSON_RESPONSE_ITEM).containsKey(JSON_RESPONSE_SERVLETS)) {
+                    jsonResponse = createdResponse;
+                }
+            }
+        } catch (RuntimeException ex) {
+            // The response does not describe the application. It will be looked up instead.
+        } finally {
+            response.close();
+        }
+        if (jsonResponse == null) {
+            if (location == null) {
+                throw new DeploymentException("Deployment failed! No resource location available from response.");
+            }
+            // Verify that the deployment succeeded by looking up the application's resource URI from the response,
+            // expanding only the fields that describe the deployment
+            response = restClient.target(location)
+                .queryParam(QUERY_PARAM_FIELDS, APPLICATION_FIELDS)
+                .queryParam(QUERY_PARAM_LINKS, QUERY_PARAM_LINKS_VALUE_NONE)
+                .request(MediaType.APPLICATION_JSON).get();
+            try {
+                if (response.getStatus() != Response.Status.OK.getStatusCode()) {
+                    throw new DeploymentException(getJSONResponseErrorMessage(response.readEntity(JsonObject.class)));
+                }
+                jsonResponse = response.readEntity(JsonObject.class);
+            } catch (DeploymentException deploymentEx) {
+                throw deploymentEx;
+            } catch (Exception e) {
+                throw new DeploymentException("Failed to populate the ProtocolMetaData with the deployment details.",
+                    e);
+            } finally {
+                response.close();
             }
-        } else {
-            throw new DeploymentException("Deployment failed! No resource location available from response.");
         }
 
         // Populate the Arquillian result metadata
-        ProtocolMetaData metadata = new ProtocolMetaData();
+        ProtocolMetaData metadata;
         try {
-            HTTPContext httpContext = new HTTPContext(adminUrl.getHost(), adminUrl.getPort());
+            HTTPContext httpContext = createHTTPContext(adminUrl, jsonResponse);
 
-            JsonObject jsonResponse = response.readEntity(JsonObject.class);
-            if (jsonResponse.containsKey(JSON_RESPONSE_ITEM)) {
-                JsonObject item = jsonResponse.getJsonObject(JSON_RESPONSE_ITEM);
-                if (item.containsKey(JSON_RESPONSE_SERVLETS)) {
-                    JsonArray servlets = item.getJsonArray(JSON_RESPONSE_SERVLETS);
-                    for (JsonValue servlet : servlets) {
-                        JsonObject servletJsonObject = (JsonObject) servlet;
-                        if (servletJsonObject.containsKey(JSON_RESPONSE_SERVLET_NAME) && servletJsonObject.containsKey(
-                            JSON_RESPONSE_CONTEXT_PATH)) {
-                            httpContext.add(new Servlet(servletJsonObject.getString(JSON_RESPONSE_SERVLET_NAME),
-                                servletJsonObject.getString(JSON_RESPONSE_CONTEXT_PATH)));
-                        }
-                    }
-                }
-            }
-
-            metadata.addContext(httpContext);
+            // The management API reports the servlets relative to the admin server alone.
+            metadata = HTTPContextSelectionStrategies.toProtocolMetaData(contextSelectionStrategy,
+                Collections.singletonList(httpContext), Collections.<String, Integer>emptyMap());
         } catch (Exception e) {
             throw new DeploymentException("Failed to populate the ProtocolMetaData with the deployment details.", e);
         }
 
-        boolean purgedCompletedProgressObjects = false;
-        try {
-            // Purge any completed deployment progress objects to avoid future failed deployments because of the server limit
-            purgedCompletedProgressObjects = purgeCompletedDeploymentProgressObjects(restClient, config.getAdminUrl());
-        } catch (Exception e) {
-            //
-        }
+        // The completed deployment progress objects are purged in the background, to avoid future failed
+        // deployments because of the server limit
+        getProgressPurger(config).operationCompleted();
 
-        if (!purgedCompletedProgressObjects) {
-            logger.warning("Failed to purge deployment progress object(s).");
-        }
+        return metadata;
+    }
 
-        restClient.close();
+    /**
+     * Creates the context of a deployment from the application resource of the management API.
+     *
+     * @param adminUrl
+     *     The URL of the admin server, that serves the deployment
+     * @param jsonResponse
+     *     The application resource, with the servlets of the application
+     *
+     * @return The context, with the servlets of the application
+     */
+    static HTTPContext createHTTPContext(URL adminUrl, JsonObject jsonResponse) {
+        HTTPContext httpContext = new HTTPContext(adminUrl.getHost(), adminUrl.getPort());
 
-        return metadata;
+        if (jsonResponse.containsKey(JSON_RESPONSE_ITEM)) {
+            JsonObject item = jsonResponse.getJsonObject(JSON_RESPONSE_ITEM);
+            if (item.containsKey(JSON_RESPONSE_SERVLETS)) {
+                JsonArray servlets = item.getJsonArray(JSON_RESPONSE_SERVLETS);
+                for (JsonValue servlet : servlets) {
+                    JsonObject servletJsonObject = (JsonObject) servlet;
+                    if (servletJsonObject.containsKey(JSON_RESPONSE_SERVLET_NAME) && servletJsonObject.containsKey(
+                        JSON_RESPONSE_CONTEXT_PATH)) {
+                        httpContext.add(new Servlet(servletJsonObject.getString(JSON_RESPONSE_SERVLET_NAME),
+                            servletJsonObject.getString(JSON_RESPONSE_CONTEXT_PATH)));
+                    }
+                }
+            }
+        }
+        return httpContext;
     }
 
     /**
@@ -301,24 +602,87 @@ public class RESTUtils {
      */
     public static void undeploy(CommonWebLogicConfiguration config, Logger logger, Archive<?> archive)
         throws DeploymentException {
+        Client restClient = getClient(config, logger);
+        try {
+            undeploy(restClient, config, archive);
+        } finally {
+            restClient.close();
+        }
+    }
+
+    /**
+     * Invokes the REST management API to undeploy the specified application, using an existing REST client.
+     *
+     * @param restClient
+     *     The REST client to use. The client is not closed by this method.
+     * @param archive
+     *     The ShrinkWrap archive to undeploy
+     *
+     * @throws org.jboss.arquillian.container.spi.client.container.DeploymentException
+     *     if the REST API call fails.
+     */
+    public static void undeploy(Client restClient, CommonWebLogicConfiguration config, Archive<?> archive)
+        throws DeploymentException {
 
         String deploymentName = RESTUtils.getDeploymentName(archive);
         Response response;
         try {
-            Client restClient = getClient(config, logger);
             Invocation.Builder requestBuilder =
                 restClient.target(new URI(config.getAdminUrl() + COMMON_APP_ID_URI + deploymentName)).request();
             response = requestBuilder.delete();
-            restClient.close();
         } catch (URISyntaxException e) {
             throw new DeploymentException("Deployment failed", e);
         }
 
+        response.close();
+        getProgressPurger(config).operationCompleted();
         if (response.getStatus() != Response.Status.OK.getStatusCode()) {
             throw new DeploymentException(response.toString());
         }
     }
 
+    /**
+     * Purges the deployment progress objects of the operations that completed since the last background purge, and
+     * stops the background purges for the admin server. This is intended to be invoked when the container stops.
+     *
+     * @param config
+     *     The configuration of the admin server
+     */
+    public static void closeProgressPurger(CommonWebLogicConfiguration config) {
+        DeploymentProgressPurger purger = progressPurgers.remove(config.getAdminUrl());
+        if (purger != null) {
+            purger.close();
+        }
+    }
+
+    private static DeploymentProgressPurger getProgressPurger(final CommonWebLogicConfiguration config) {
+        DeploymentProgressPurger purger = progressPurgers.get(config.getAdminUrl());
+        if (purger != null) {
+            return purger;
+        }
+        DeploymentProgressPurger created = new DeploymentProgressPurger(config.getDeploymentProgressPurgeThreshold(),
+            config.getDeploymentProgressPurgeIdleTimeout() * 1000L, new DeploymentProgressPurger.Purge() {
+            public void purge() throws Exception {
+                // The purge runs after the deployment, so it uses a client of its own instead of the pooled client
+                // of the container, that may have been closed since.
+                Client restClient = getClient(config, LOGGER);
+                try {
+                    if (!purgeCompletedDeploymentProgressObjects(restClient, config.getAdminUrl())) {
+                        throw new IllegalStateException("The admin server did not purge the progress objects.");
+                    }
+                } finally {
+                    restClient.close();
+                }
+            }
+        });
+        purger = progressPurgers.putIfAbsent(config.getAdminUrl(), created);
+        if (purger != null) {
+            created.close();
+            return purger;
+        }
+        return created;
+    }
+
     private static Map<String, List<String>> getTargetErrors(JsonObject response) {
         return getTargetErrors(getTargets(response));
     }
@@ -392,8 +756,8 @@ public class RESTUtils {
      * at any given time. While there is a periodic purge performed automatically, it's not performed frequently enough
      * to prevent deployment errors when the number of Arquillian tests being run exceeds the configured limit.
      * <p>
-     * This method is intended to be invoked after each deployment to clear any of these objects left from completed
-     * deployments.
+     * This method is invoked in the background, once enough deployments have completed, to clear any of these objects
+     * left from completed deployments.
      *
      * @param restClient
      *     The client with which to communicate the request to purge the progress objects.
@@ -406,6 +770,7 @@ public class RESTUtils {
         final String resourceURI = adminURL + PURGE_PROGRESSS_OBJECTS_URI;
         Invocation.Builder requestBuilder = restClient.target(new URI(resourceURI)).request();
         Response response = requestBuilder.post(null);
+        response.close();
         return (response.getStatus() == Response.Status.OK.getStatusCode());
     }
 
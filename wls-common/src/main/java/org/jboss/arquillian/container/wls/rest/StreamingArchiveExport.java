@@ -0,0 +1,156 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls.rest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.arquillian.container.spi.client.container.DeploymentException;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+
+/**
+ * Exports an archive as a ZIP stream in a background thread, so that the archive can be uploaded while it is being
+ * exported, without staging it in a temporary file.
+ * <p>
+ * The exporter writes into a bounded pipe, and therefore never runs ahead of the upload by more than the size of the
+ * buffer. The exporter thread terminates when the export completes, or when the stream is closed by the reader.
+ * <p>
+ * When the export fails, the reader fails with the cause of the failure instead of reaching the end of the stream, so
+ * that the upload is aborted, rather than completed with a truncated archive.
+ */
+class StreamingArchiveExport {
+
+    private static final Logger LOGGER = Logger.getLogger(StreamingArchiveExport.class.getName());
+
+    static final int BUFFER_SIZE = 256 * 1024;
+
+    private final PipedInputStream inputStream;
+    private final Thread exporter;
+    private volatile Throwable failure;
+    private volatile boolean failureReported;
+
+    StreamingArchiveExport(final Archive<?> archive) throws IOException {
+        inputStream = new ExportInputStream();
+        final PipedOutputStream outputStream = new PipedOutputStream(inputStream);
+        exporter = new Thread(new Runnable() {
+            public void run() {
+                try {
+                    archive.as(ZipExporter.class).exportTo(outputStream);
+                } catch (Throwable t) {
+                    failure = t;
+                    LOGGER.log(Level.FINE, "Failed to stream the archive " + archive.getName(), t);
+                } finally {
+                    try {
+                        outputStream.close();
+                    } catch (IOException ioEx) {
+                        // The reader has closed the pipe. There is nothing more to write.
+                    }
+                }
+            }
+        }, "arquillian-wls-archive-exporter-" + archive.getName());
+        exporter.setDaemon(true);
+        exporter.start();
+    }
+
+    /**
+     * @return The stream containing the ZIP form of the archive.
+     */
+    InputStream getInputStream() {
+        return inputStream;
+    }
+
+    /**
+     * @return true if the failure of the export was reported to the reader, and thus caused the upload to fail;
+     * Otherwise, false.
+     */
+    boolean isFailureReported() {
+        return failureReported;
+    }
+
+    /**
+     * Closes the stream, and waits for the exporter thread to terminate. This is to be invoked after the upload
+     * has completed.
+     *
+     * @throws DeploymentException
+     *     When the archive could not be exported completely.
+     */
+    void close() throws DeploymentException {
+        abort();
+        if (failure != null) {
+            throw new DeploymentException("Failed to stream the deployment archive.", failure);
+        }
+    }
+
+    /**
+     * The reading end of the pipe, which reports the failure of the export in place of the end of the stream.
+     */
+    private class ExportInputStream extends PipedInputStream {
+
+        ExportInputStream() {
+            super(BUFFER_SIZE);
+        }
+
+        @Override
+        public synchronized int read() throws IOException {
+            int read = super.read();
+            if (read == -1) {
+                checkExported();
+            }
+            return read;
+        }
+
+        @Override
+        public synchronized int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read == -1) {
+                checkExported();
+            }
+            return read;
+        }
+
+        private void checkExported() throws IOException {
+            // The failure is recorded before the exporter closes its end of the pipe.
+            Throwable exportFailure = failure;
+            if (exportFailure != null) {
+                failureReported = true;
+                throw new IOException("Failed to stream the deployment archive.", exportFailure);
+            }
+        }
+    }
+
+    /**
+     * Closes the stream, and waits for the exporter thread to terminate, ignoring any failure of the export. This is
+     * to be invoked when the upload has failed, in which case the export fails too, since the pipe is closed.
+     */
+    void abort() {
+        try {
+            inputStream.close();
+        } catch (IOException ioEx) {
+            LOGGER.log(Level.FINEST, "Failed to close the archive stream.", ioEx);
+        }
+        try {
+            exporter.join();
+        } catch (InterruptedException interruptEx) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
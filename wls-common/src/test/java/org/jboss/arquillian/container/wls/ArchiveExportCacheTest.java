@@ -0,0 +1,159 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Verifies the keys, reuse and eviction of cached archive exports.
+ */
+public class ArchiveExportCacheTest {
+
+    private static final long UNLIMITED_SIZE = Long.MAX_VALUE;
+    private static final long UNLIMITED_AGE = Long.MAX_VALUE;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File cacheDirectory;
+    private ArchiveExportCache cache;
+
+    @Before
+    public void setUp() {
+        cacheDirectory = new File(folder.getRoot(), "cache");
+        cache = new ArchiveExportCache(cacheDirectory);
+    }
+
+    @Test
+    public void keyIsStableForIdenticalContent() throws Exception {
+        JavaArchive first = ShrinkWrap.create(JavaArchive.class, "test.jar")
+            .add(new StringAsset("a"), "a.txt")
+            .add(new StringAsset("b"), "b.txt");
+        JavaArchive second = ShrinkWrap.create(JavaArchive.class, "test.jar")
+            .add(new StringAsset("b"), "b.txt")
+            .add(new StringAsset("a"), "a.txt");
+
+        assertThat(ArchiveExportCache.computeKey(first, false), equalTo(ArchiveExportCache.computeKey(second, false)));
+    }
+
+    @Test
+    public void keyDiffersForDifferentContentNameOrForm() throws Exception {
+        String key = ArchiveExportCache.computeKey(archive("test.jar", "a"), false);
+
+        assertThat(ArchiveExportCache.computeKey(archive("test.jar", "b"), false), not(equalTo(key)));
+        assertThat(ArchiveExportCache.computeKey(archive("other.jar", "a"), false), not(equalTo(key)));
+        assertThat(ArchiveExportCache.computeKey(archive("test.jar", "a"), true), not(equalTo(key)));
+    }
+
+    @Test
+    public void identicalArchiveIsReused() throws Exception {
+        File first = cache.export(archive("test.jar", "a"), false, UNLIMITED_SIZE, UNLIMITED_AGE);
+        File second = cache.export(archive("test.jar", "a"), false, UNLIMITED_SIZE, UNLIMITED_AGE);
+
+        assertThat(second, equalTo(first));
+        assertThat(first.getName(), equalTo("test.jar"));
+        assertThat(countEntries(), equalTo(1));
+    }
+
+    @Test
+    public void exportsOfEarlierInstancesAreReused() throws Exception {
+        File first = cache.export(archive("test.jar", "a"), false, UNLIMITED_SIZE, UNLIMITED_AGE);
+        cache.release(first);
+
+        File second = new ArchiveExportCache(cacheDirectory)
+            .export(archive("test.jar", "a"), false, UNLIMITED_SIZE, UNLIMITED_AGE);
+
+        assertThat(second, equalTo(first));
+        assertThat(countEntries(), equalTo(1));
+    }
+
+    @Test
+    public void leastRecentlyUsedExportIsEvictedFirst() throws Exception {
+        File a = cache.export(archive("a.jar", "a"), false, UNLIMITED_SIZE, UNLIMITED_AGE);
+        cache.release(a);
+        File b = cache.export(archive("b.jar", "b"), false, UNLIMITED_SIZE, UNLIMITED_AGE);
+        cache.release(b);
+        // Using a again makes b the least recently used export.
+        cache.release(cache.export(archive("a.jar", "a"), false, UNLIMITED_SIZE, UNLIMITED_AGE));
+
+        long maxSize = a.length() + b.length() + a.length() / 2;
+        File c = cache.export(archive("c.jar", "c"), false, maxSize, UNLIMITED_AGE);
+
+        assertThat(a.exists(), equalTo(true));
+        assertThat(b.exists(), equalTo(false));
+        assertThat(c.exists(), equalTo(true));
+    }
+
+    @Test
+    public void exportsInUseAreNotEvicted() throws Exception {
+        File a = cache.export(archive("a.jar", "a"), false, UNLIMITED_SIZE, UNLIMITED_AGE);
+        File b = cache.export(archive("b.jar", "b"), false, 0, UNLIMITED_AGE);
+
+        assertThat(a.exists(), equalTo(true));
+        assertThat(b.exists(), equalTo(true));
+        assertThat(cache.getInUseCount(), equalTo(2));
+
+        cache.release(a);
+        cache.release(b);
+        File c = cache.export(archive("c.jar", "c"), false, 0, UNLIMITED_AGE);
+
+        assertThat(a.exists(), equalTo(false));
+        assertThat(b.exists(), equalTo(false));
+        assertThat(c.exists(), equalTo(true));
+        assertThat(cache.getInUseCount(), equalTo(1));
+    }
+
+    @Test
+    public void onlyStaleStagingDirectoriesAreDeleted() throws Exception {
+        File recent = new File(cacheDirectory, "0123.tmp-recent");
+        File stale = new File(cacheDirectory, "4567.tmp-stale");
+        recent.mkdirs();
+        stale.mkdirs();
+        stale.setLastModified(System.currentTimeMillis() - ArchiveExportCache.STAGING_GRACE_MILLIS - 1000L);
+
+        cache.export(archive("test.jar", "a"), false, UNLIMITED_SIZE, UNLIMITED_AGE);
+
+        assertThat(recent.exists(), equalTo(true));
+        assertThat(stale.exists(), equalTo(false));
+    }
+
+    private static JavaArchive archive(String name, String content) {
+        return ShrinkWrap.create(JavaArchive.class, name).add(new StringAsset(content), "content.txt");
+    }
+
+    private int countEntries() {
+        int count = 0;
+        for (File file : cacheDirectory.listFiles()) {
+            if (file.isDirectory()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Verifies the JVM options with which the {@link DeployerDaemon} is launched on different Java versions.
+ */
+public class CommandBuilderTest {
+
+    private String javaVersion;
+
+    @Before
+    public void setUp() {
+        javaVersion = System.getProperty("java.specification.version");
+    }
+
+    @After
+    public void tearDown() {
+        System.setProperty("java.specification.version", javaVersion);
+    }
+
+    @Test
+    public void securityManagerIsNotAllowedExplicitlyBeforeJava12() {
+        System.setProperty("java.specification.version", "1.8");
+        assertThat(buildDaemonCommand().contains("-Djava.security.manager=allow"), equalTo(false));
+        System.setProperty("java.specification.version", "11");
+        assertThat(buildDaemonCommand().contains("-Djava.security.manager=allow"), equalTo(false));
+        assertThat(CommandBuilder.isDeployerDaemonSupported(), equalTo(true));
+    }
+
+    @Test
+    public void securityManagerIsAllowedExplicitlyFromJava12() {
+        System.setProperty("java.specification.version", "12");
+        assertThat(buildDaemonCommand().contains("-Djava.security.manager=allow"), equalTo(true));
+        System.setProperty("java.specification.version", "23");
+        assertThat(CommandBuilder.isDeployerDaemonSupported(), equalTo(true));
+    }
+
+    @Test
+    public void daemonIsNotSupportedFromJava24() {
+        System.setProperty("java.specification.version", "24");
+        assertThat(CommandBuilder.isDeployerDaemonSupported(), equalTo(false));
+    }
+
+    private static List<String> buildDaemonCommand() {
+        return new CommandBuilder()
+            .setClassPath("weblogic.jar")
+            .setAdminUrl("t3://localhost:7001")
+            .setAdminUserName("weblogic")
+            .setAdminPassword("welcome1")
+            .setTargets("AdminServer")
+            .buildDaemonCommand("daemon.jar");
+    }
+}
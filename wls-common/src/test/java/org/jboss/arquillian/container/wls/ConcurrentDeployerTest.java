@@ -0,0 +1,298 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.arquillian.container.spi.client.container.DeploymentException;
+import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Verifies the ordering, failure propagation, skipping and undeployment of archives deployed through the pipeline.
+ */
+public class ConcurrentDeployerTest {
+
+    private static final long TIMEOUT = 10000;
+    private static final long SHORT_TIMEOUT = 100;
+
+    private final Archive<?> first = ShrinkWrap.create(JavaArchive.class, "first.jar");
+    private final Archive<?> second = ShrinkWrap.create(JavaArchive.class, "second.jar");
+    private final Archive<?> third = ShrinkWrap.create(JavaArchive.class, "third.jar");
+
+    private final RecordingDeployment deployment = new RecordingDeployment();
+    private ConcurrentDeployer deployer;
+
+    @After
+    public void tearDown() {
+        deployment.release();
+        if (deployer != null) {
+            deployer.close();
+        }
+    }
+
+    @Test
+    public void archivesAreDeployedInTheCallingThreadWhenDisabled() throws Exception {
+        deployer = new ConcurrentDeployer(1, TIMEOUT);
+        deployer.submit(archives(first, second), deployment);
+
+        assertThat(deployment.exports(), equalTo(Collections.<String>emptyList()));
+        deployer.deploy(first, deployment);
+        assertThat(deployment.threads.get("first.jar"), equalTo(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void singleArchiveIsNotSubmitted() throws Exception {
+        deployer = new ConcurrentDeployer(2, TIMEOUT);
+        deployer.submit(archives(first), deployment);
+
+        assertThat(deployment.exports(), equalTo(Collections.<String>emptyList()));
+    }
+
+    @Test
+    public void archivesAreExportedInOrderAndActivatedInTheBackground() throws Exception {
+        deployer = new ConcurrentDeployer(2, TIMEOUT);
+        deployer.submit(archives(first, second, third), deployment);
+
+        assertThat(deployer.deploy(third, deployment), sameInstance(deployment.metadata.get("third.jar")));
+        assertThat(deployer.deploy(first, deployment), sameInstance(deployment.metadata.get("first.jar")));
+        assertThat(deployer.deploy(second, deployment), sameInstance(deployment.metadata.get("second.jar")));
+        assertThat(deployment.exports(), equalTo(Arrays.asList("first.jar", "second.jar", "third.jar")));
+        assertTrue(deployment.threads.get("first.jar").startsWith("arquillian-wls-deployer-"));
+    }
+
+    @Test
+    public void deploymentExceptionIsPropagated() throws Exception {
+        DeploymentException failure = new DeploymentException("Activation failed");
+        deployment.activationFailures.put("second.jar", failure);
+        deployer = new ConcurrentDeployer(2, TIMEOUT);
+        deployer.submit(archives(first, second), deployment);
+
+        try {
+            deployer.deploy(second, deployment);
+            fail("The activation of the archive failed.");
+        } catch (DeploymentException deploymentEx) {
+            assertThat(deploymentEx, sameInstance(failure));
+        }
+        deployer.deploy(first, deployment);
+    }
+
+    @Test
+    public void runtimeExceptionOfExportIsPropagated() throws Exception {
+        IllegalStateException failure = new IllegalStateException("Export failed");
+        deployment.exportFailures.put("first.jar", failure);
+        deployer = new ConcurrentDeployer(2, TIMEOUT);
+        deployer.submit(archives(first, second), deployment);
+
+        try {
+            deployer.deploy(first, deployment);
+            fail("The export of the archive failed.");
+        } catch (IllegalStateException stateEx) {
+            assertThat(stateEx, sameInstance(failure));
+        }
+        deployer.deploy(second, deployment);
+        assertThat(deployment.activations(), equalTo(Collections.singletonList("second.jar")));
+    }
+
+    @Test
+    public void archivesNeverObtainedAreUndeployedOnClose() throws Exception {
+        deployment.activationFailures.put("third.jar", new DeploymentException("Activation failed"));
+        deployer = new ConcurrentDeployer(2, TIMEOUT);
+        deployer.submit(archives(first, second, third), deployment);
+        deployer.deploy(first, deployment);
+        deployment.awaitActivated("second.jar");
+        deployment.awaitActivated("third.jar");
+
+        deployer.close();
+
+        assertThat(deployment.undeployments(), equalTo(Collections.singletonList("second.jar")));
+    }
+
+    @Test
+    public void discardedArchivesAreUndeployedAndThePipelineRemainsOpen() throws Exception {
+        deployer = new ConcurrentDeployer(2, TIMEOUT);
+        deployer.submit(archives(first, second), deployment);
+        deployer.deploy(first, deployment);
+        deployment.awaitActivated("second.jar");
+
+        deployer.discardPending();
+
+        assertThat(deployment.undeployments(), equalTo(Collections.singletonList("second.jar")));
+        deployer.submit(archives(first, second), deployment);
+        deployer.deploy(first, deployment);
+        deployer.deploy(second, deployment);
+        assertThat(deployment.undeployments(), equalTo(Collections.singletonList("second.jar")));
+    }
+
+    @Test
+    public void archivesAreSkippedOnceClosed() throws Exception {
+        deployment.blockExport("first.jar");
+        deployer = new ConcurrentDeployer(2, TIMEOUT);
+        deployer.submit(archives(first, second, third), deployment);
+        deployment.awaitBlocked();
+
+        Thread closing = new Thread() {
+            @Override
+            public void run() {
+                deployer.close();
+            }
+        };
+        closing.start();
+        // Lets the closing thread mark the pipeline as closed before the export completes.
+        Thread.sleep(SHORT_TIMEOUT);
+        deployment.release();
+        closing.join(TIMEOUT);
+
+        assertThat(closing.isAlive(), equalTo(false));
+        assertThat(deployment.exports(), equalTo(Collections.singletonList("first.jar")));
+        assertThat(deployment.activations(), equalTo(Collections.<String>emptyList()));
+        assertThat(deployment.undeployments(), equalTo(Collections.<String>emptyList()));
+    }
+
+    @Test
+    public void closeWaitsForActivationsInFlightForAtMostTheTimeout() throws Exception {
+        deployment.blockActivation("first.jar");
+        deployer = new ConcurrentDeployer(2, SHORT_TIMEOUT);
+        deployer.submit(archives(first, second), deployment);
+        deployment.awaitBlocked();
+        deployment.awaitActivated("second.jar");
+
+        long start = System.currentTimeMillis();
+        deployer.close();
+
+        assertTrue(System.currentTimeMillis() - start < TIMEOUT);
+        assertThat(deployment.undeployments(), equalTo(Collections.singletonList("second.jar")));
+    }
+
+    private static List<Archive<?>> archives(Archive<?>... archives) {
+        return Arrays.<Archive<?>>asList(archives);
+    }
+
+    private static class RecordingDeployment implements ConcurrentDeployer.Deployment<String> {
+        private final List<String> exports = Collections.synchronizedList(new ArrayList<String>());
+        private final List<String> activations = Collections.synchronizedList(new ArrayList<String>());
+        private final List<String> undeployments = Collections.synchronizedList(new ArrayList<String>());
+        private final Map<String, String> threads = Collections.synchronizedMap(new HashMap<String, String>());
+        private final Map<String, ProtocolMetaData> metadata =
+            Collections.synchronizedMap(new HashMap<String, ProtocolMetaData>());
+        private final Map<String, RuntimeException> exportFailures = new HashMap<String, RuntimeException>();
+        private final Map<String, DeploymentException> activationFailures =
+            Collections.synchronizedMap(new HashMap<String, DeploymentException>());
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile String blockedExport;
+        private volatile String blockedActivation;
+
+        public String export(Archive<?> archive) {
+            block(archive.getName().equals(blockedExport));
+            exports.add(archive.getName());
+            RuntimeException failure = exportFailures.get(archive.getName());
+            if (failure != null) {
+                throw failure;
+            }
+            return archive.getName();
+        }
+
+        public ProtocolMetaData activate(Archive<?> archive, String export) throws DeploymentException {
+            block(archive.getName().equals(blockedActivation));
+            activations.add(export);
+            threads.put(archive.getName(), Thread.currentThread().getName());
+            DeploymentException failure = activationFailures.get(archive.getName());
+            ProtocolMetaData result = new ProtocolMetaData();
+            synchronized (this) {
+                metadata.put(archive.getName(), result);
+                notifyAll();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return result;
+        }
+
+        public void undeploy(Archive<?> archive) {
+            undeployments.add(archive.getName());
+        }
+
+        void blockExport(String archiveName) {
+            blockedExport = archiveName;
+        }
+
+        void blockActivation(String archiveName) {
+            blockedActivation = archiveName;
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertTrue(blocked.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        }
+
+        /**
+         * Waits until the activation of an archive has been performed, regardless of its outcome.
+         */
+        synchronized void awaitActivated(String archiveName) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + TIMEOUT;
+            while (!metadata.containsKey(archiveName) && System.currentTimeMillis() < deadline) {
+                wait(SHORT_TIMEOUT);
+            }
+            assertTrue(metadata.containsKey(archiveName));
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        List<String> exports() {
+            return new ArrayList<String>(exports);
+        }
+
+        List<String> activations() {
+            return new ArrayList<String>(activations);
+        }
+
+        List<String> undeployments() {
+            return new ArrayList<String>(undeployments);
+        }
+
+        private void block(boolean block) {
+            if (!block) {
+                return;
+            }
+            blocked.countDown();
+            try {
+                released.await(TIMEOUT, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException interruptedEx) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Verifies the encoding of weblogic.Deployer arguments sent to the {@link DeployerDaemon}.
+ */
+public class DeployerDaemonTest {
+
+    @Test
+    public void argumentsSurviveEncoding() {
+        List<String> arguments = Arrays.asList("-adminurl", "t3://localhost:7001", "-password", "", "with\ttab",
+            "with\nline\rbreaks", "back\\slash\\t", "");
+
+        String line = DeployerDaemon.encodeArguments(arguments);
+
+        assertThat(line.indexOf('\n'), equalTo(-1));
+        assertThat(line.indexOf('\r'), equalTo(-1));
+        assertThat(Arrays.asList(DeployerDaemon.decodeArguments(line)), equalTo(arguments));
+    }
+
+    @Test
+    public void noArguments() {
+        assertThat(DeployerDaemon.decodeArguments(DeployerDaemon.encodeArguments(Arrays.<String>asList())).length,
+            equalTo(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unterminatedArgumentIsRejected() {
+        DeployerDaemon.decodeArguments("-deploy\t-name");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidEscapeIsRejected() {
+        DeployerDaemon.decodeArguments("\\x\t");
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Verifies the lines reported as errors from the output of weblogic.Deployer.
+ */
+public class DeployerResultTest {
+
+    @Test
+    public void linesWithMessageIdsAreErrors() {
+        DeployerResult result = new DeployerResult(1,
+            "weblogic.Deployer invoked with options:  -deploy -name ErrorPage -source /tmp/ErrorPage.war\n"
+                + "<Oct 17, 2026> <Info> <J2EE Deployment SPI> <BEA-260121> <Initiating deploy operation>\n"
+                + "Task 0 failed: [Deployer:149026]deploy application ErrorPage on AdminServer.\n"
+                + "Target state: deploy failed on Server AdminServer\n");
+
+        assertThat(result.getErrors(), equalTo(Arrays.asList(
+            "<Oct 17, 2026> <Info> <J2EE Deployment SPI> <BEA-260121> <Initiating deploy operation>",
+            "Task 0 failed: [Deployer:149026]deploy application ErrorPage on AdminServer.")));
+        assertThat(result.isSuccessful(), equalTo(false));
+    }
+
+    @Test
+    public void wordsLikeErrorAreNotErrors() {
+        DeployerResult result = new DeployerResult(0, "Deploying ErrorPage.war with ExceptionMapper\n");
+
+        assertThat(result.getErrors().isEmpty(), equalTo(true));
+        assertThat(result.isSuccessful(), equalTo(true));
+    }
+}
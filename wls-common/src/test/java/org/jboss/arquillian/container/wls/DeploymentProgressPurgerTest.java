@@ -0,0 +1,145 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Verifies when the completed deployment progress objects are purged.
+ */
+public class DeploymentProgressPurgerTest {
+
+    private static final long TIMEOUT = 10000;
+    private static final long IDLE_TIMEOUT = 300;
+
+    private final CountingPurge purge = new CountingPurge();
+    private DeploymentProgressPurger purger;
+
+    @After
+    public void tearDown() {
+        if (purger != null) {
+            purger.close();
+        }
+    }
+
+    @Test
+    public void progressObjectsArePurgedOnceTheThresholdIsReached() throws Exception {
+        purger = new DeploymentProgressPurger(3, 0, purge);
+        purger.operationCompleted();
+        purger.operationCompleted();
+
+        assertThat(purge.await(IDLE_TIMEOUT), equalTo(false));
+
+        purger.operationCompleted();
+        assertThat(purge.await(TIMEOUT), equalTo(true));
+        assertThat(purge.count(), equalTo(1));
+    }
+
+    @Test
+    public void idlePurgeIsRescheduledByEveryCompletedOperation() throws Exception {
+        purger = new DeploymentProgressPurger(100, IDLE_TIMEOUT, purge);
+        long longestGap = 0;
+        for (int i = 0; i < 4; i++) {
+            long completed = System.currentTimeMillis();
+            purger.operationCompleted();
+            Thread.sleep(IDLE_TIMEOUT / 3);
+            longestGap = Math.max(longestGap, System.currentTimeMillis() - completed);
+        }
+        // No purge runs while operations keep completing within the idle timeout of each other.
+        if (longestGap < IDLE_TIMEOUT) {
+            assertThat(purge.count(), equalTo(0));
+        }
+
+        assertThat(purge.await(TIMEOUT), equalTo(true));
+        assertThat(purge.await(IDLE_TIMEOUT * 2), equalTo(false));
+        assertThat(purge.count(), equalTo(1));
+    }
+
+    @Test
+    public void remainingOperationsArePurgedOnClose() throws Exception {
+        purger = new DeploymentProgressPurger(100, 0, purge);
+        purger.operationCompleted();
+        purger.operationCompleted();
+
+        purger.close();
+
+        assertThat(purge.count(), equalTo(1));
+    }
+
+    @Test
+    public void closeWithoutCompletedOperationsDoesNotPurge() throws Exception {
+        purger = new DeploymentProgressPurger(1, 0, purge);
+        purger.operationCompleted();
+        assertThat(purge.await(TIMEOUT), equalTo(true));
+
+        purger.close();
+
+        assertThat(purge.count(), equalTo(1));
+    }
+
+    @Test
+    public void operationsCompletedAfterCloseAreIgnored() throws Exception {
+        purger = new DeploymentProgressPurger(1, IDLE_TIMEOUT, purge);
+        purger.close();
+
+        purger.operationCompleted();
+
+        assertThat(purge.await(IDLE_TIMEOUT * 2), equalTo(false));
+    }
+
+    @Test
+    public void failedPurgeDoesNotStopLaterPurges() throws Exception {
+        purge.failing = true;
+        purger = new DeploymentProgressPurger(1, 0, purge);
+        purger.operationCompleted();
+        assertThat(purge.await(TIMEOUT), equalTo(true));
+
+        purger.operationCompleted();
+        assertThat(purge.await(TIMEOUT), equalTo(true));
+        assertTrue(purge.count() >= 2);
+    }
+
+    private static class CountingPurge implements DeploymentProgressPurger.Purge {
+        private final Semaphore purges = new Semaphore(0);
+        private volatile int count;
+        private volatile boolean failing;
+
+        public void purge() throws Exception {
+            count++;
+            purges.release();
+            if (failing) {
+                throw new IllegalStateException("Purge failed");
+            }
+        }
+
+        boolean await(long timeoutMillis) throws InterruptedException {
+            return purges.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+
+        int count() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Verifies the reading of the admin server and the cluster members from sample config.xml files.
+ */
+public class DomainConfigurationTest {
+
+    private static final String CONFIG = "<?xml version='1.0' encoding='UTF-8'?>\n"
+        + "<domain xmlns=\"http://xmlns.oracle.com/weblogic/domain\">\n"
+        + "  <name>base_domain</name>\n"
+        + "  <server>\n"
+        + "    <name>AdminServer</name>\n"
+        + "    <ssl><name>AdminServer</name><enabled>true</enabled></ssl>\n"
+        + "    <listen-address></listen-address>\n"
+        + "  </server>\n"
+        + "  <server>\n"
+        + "    <name>ManagedServer1</name>\n"
+        + "    <cluster>Cluster1</cluster>\n"
+        + "  </server>\n"
+        + "  <server>\n"
+        + "    <name>ManagedServer2</name>\n"
+        + "    <cluster> Cluster1 </cluster>\n"
+        + "  </server>\n"
+        + "  <server>\n"
+        + "    <name>ManagedServer3</name>\n"
+        + "    <cluster>Cluster2</cluster>\n"
+        + "  </server>\n"
+        + "  <cluster><name>Cluster1</name></cluster>\n"
+        + "  <cluster><name>Cluster2</name></cluster>\n"
+        + "  <admin-server-name>AdminServer</admin-server-name>\n"
+        + "</domain>\n";
+
+    private static final String PREFIXED_CONFIG = "<?xml version='1.0' encoding='UTF-8'?>\n"
+        + "<d:domain xmlns:d=\"http://xmlns.oracle.com/weblogic/domain\">\n"
+        + "  <d:server><d:name>ManagedServer1</d:name><d:cluster>Cluster1</d:cluster></d:server>\n"
+        + "  <d:admin-server-name>AdminServer</d:admin-server-name>\n"
+        + "</d:domain>\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void adminServerNameIsRead() throws Exception {
+        assertThat(read(CONFIG).getAdminServerName(), equalTo("AdminServer"));
+    }
+
+    @Test
+    public void clusterMembersAreRead() throws Exception {
+        DomainConfiguration configuration = read(CONFIG);
+
+        assertThat(configuration.getClusterMembers("Cluster1"),
+            equalTo(Arrays.asList("ManagedServer1", "ManagedServer2")));
+        assertThat(configuration.getClusterMembers("Cluster2"), equalTo(Arrays.asList("ManagedServer3")));
+    }
+
+    @Test
+    public void unknownClusterHasNoMembers() throws Exception {
+        assertThat(read(CONFIG).getClusterMembers("Unknown"), equalTo(Collections.<String>emptyList()));
+    }
+
+    @Test
+    public void prefixedElementsAreRead() throws Exception {
+        DomainConfiguration configuration = read(PREFIXED_CONFIG);
+
+        assertThat(configuration.getAdminServerName(), equalTo("AdminServer"));
+        assertThat(configuration.getClusterMembers("Cluster1"), equalTo(Arrays.asList("ManagedServer1")));
+    }
+
+    @Test
+    public void missingAdminServerNameIsNull() throws Exception {
+        DomainConfiguration configuration = read("<domain><server><name>AdminServer</name></server></domain>");
+
+        assertThat(configuration.getAdminServerName(), nullValue());
+    }
+
+    @Test(expected = IOException.class)
+    public void missingConfigFileFails() throws Exception {
+        DomainConfiguration.read(folder.getRoot().getAbsolutePath());
+    }
+
+    private DomainConfiguration read(String config) throws Exception {
+        File configDirectory = new File(folder.getRoot(), "config");
+        configDirectory.mkdirs();
+        OutputStream stream = new FileOutputStream(new File(configDirectory, "config.xml"));
+        try {
+            stream.write(config.getBytes("UTF-8"));
+        } finally {
+            stream.close();
+        }
+        return DomainConfiguration.read(folder.getRoot().getAbsolutePath());
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Verifies the incremental staging of archives, and the locking and reclaiming of staging slots.
+ */
+public class ExplodedStagingDirectoryTest {
+
+    private static final long EARLIER = 1000000000000L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File root;
+    private ExplodedStagingDirectory stagingDirectory;
+
+    @Before
+    public void setUp() {
+        root = new File(folder.getRoot(), "staging");
+        stagingDirectory = new ExplodedStagingDirectory(root);
+    }
+
+    @Test
+    public void unchangedEntriesAreNotRewritten() throws Exception {
+        File exploded = stagingDirectory.stage(archive("a", "b"));
+        File unchanged = new File(exploded, "a.txt");
+        unchanged.setLastModified(EARLIER);
+
+        assertThat(stagingDirectory.stage(archive("a", "b")), equalTo(exploded));
+        assertThat(unchanged.lastModified(), equalTo(EARLIER));
+    }
+
+    @Test
+    public void changedEntriesAreRewritten() throws Exception {
+        File exploded = stagingDirectory.stage(archive("a", "b"));
+        File unchanged = new File(exploded, "a.txt");
+        unchanged.setLastModified(EARLIER);
+
+        stagingDirectory.stage(archive("a", "changed"));
+
+        assertThat(unchanged.lastModified(), equalTo(EARLIER));
+        assertThat(read(new File(exploded, "b.txt")), equalTo("changed"));
+    }
+
+    @Test
+    public void removedEntriesAreDeleted() throws Exception {
+        File exploded = stagingDirectory.stage(archive("a", "b"));
+
+        stagingDirectory.stage(ShrinkWrap.create(JavaArchive.class, "test.jar").add(new StringAsset("a"), "a.txt"));
+
+        assertThat(new File(exploded, "a.txt").isFile(), equalTo(true));
+        assertThat(new File(exploded, "b.txt").exists(), equalTo(false));
+    }
+
+    @Test
+    public void nestedArchivesAreExploded() throws Exception {
+        WebArchive war = ShrinkWrap.create(WebArchive.class, "test.war")
+            .addAsLibrary(archive("a", "b"));
+
+        File exploded = stagingDirectory.stage(war);
+
+        assertThat(read(new File(exploded, "WEB-INF/lib/test.jar/b.txt")), equalTo("b"));
+    }
+
+    @Test
+    public void missingManifestCausesFullStaging() throws Exception {
+        File exploded = stagingDirectory.stage(archive("a", "b"));
+        File entry = new File(exploded, "a.txt");
+        entry.setLastModified(EARLIER);
+        new File(exploded.getParentFile(), "test.jar.manifest").delete();
+
+        stagingDirectory.stage(archive("a", "b"));
+
+        assertThat(entry.lastModified(), not(equalTo(EARLIER)));
+        assertThat(new File(exploded.getParentFile(), "test.jar.manifest").isFile(), equalTo(true));
+    }
+
+    @Test
+    public void concurrentInstancesStageInSeparateSlots() throws Exception {
+        ExplodedStagingDirectory other = new ExplodedStagingDirectory(root);
+
+        File exploded = stagingDirectory.stage(archive("a", "b"));
+        File otherExploded = other.stage(archive("a", "other"));
+
+        assertThat(otherExploded, not(equalTo(exploded)));
+        assertThat(read(new File(exploded, "b.txt")), equalTo("b"));
+        assertThat(read(new File(otherExploded, "b.txt")), equalTo("other"));
+    }
+
+    @Test
+    public void releasedSlotIsReused() throws Exception {
+        File exploded = stagingDirectory.stage(archive("a", "b"));
+        stagingDirectory.release("test.jar");
+
+        assertThat(new ExplodedStagingDirectory(root).stage(archive("a", "b")), equalTo(exploded));
+    }
+
+    @Test
+    public void deploymentsHeldByOtherInstancesAreNotReclaimed() throws Exception {
+        stagingDirectory.stage(archive("a", "b"));
+        stagingDirectory.recordDeployment("test.jar", "test");
+
+        assertThat(new ExplodedStagingDirectory(root).reclaimStaleDeployments(),
+            equalTo(Collections.<String, String>emptyMap()));
+    }
+
+    @Test
+    public void staleDeploymentsAreReclaimed() throws Exception {
+        // A deployment recorded by a JVM that terminated, and thus no longer holds the lock of the slot.
+        File slot = new File(root, "0");
+        slot.mkdirs();
+        write(new File(slot, "test.jar.deployment"), "name=test\n");
+
+        assertThat(stagingDirectory.reclaimStaleDeployments(), equalTo(Collections.singletonMap("test.jar", "test")));
+        assertThat(new ExplodedStagingDirectory(root).reclaimStaleDeployments(),
+            equalTo(Collections.<String, String>emptyMap()));
+
+        stagingDirectory.release("test.jar");
+
+        assertThat(new File(slot, "test.jar.deployment").exists(), equalTo(false));
+        assertThat(new ExplodedStagingDirectory(root).reclaimStaleDeployments(),
+            equalTo(Collections.<String, String>emptyMap()));
+    }
+
+    @Test
+    public void reclaimedSlotIsStagedIncrementally() throws Exception {
+        File exploded = stagingDirectory.stage(archive("a", "b"));
+        File unchanged = new File(exploded, "a.txt");
+        unchanged.setLastModified(EARLIER);
+        stagingDirectory.recordDeployment("test.jar", "test");
+        ExplodedStagingDirectory next = new ExplodedStagingDirectory(root);
+        // The slot remains held until the application is undeployed.
+        assertThat(next.stage(archive("a", "b")), not(equalTo(exploded)));
+        next.release("test.jar");
+        stagingDirectory.release("test.jar");
+        write(new File(exploded.getParentFile(), "test.jar.deployment"), "name=test\n");
+
+        assertThat(next.reclaimStaleDeployments(), equalTo(Collections.singletonMap("test.jar", "test")));
+        assertThat(next.stage(archive("a", "b")), equalTo(exploded));
+        assertThat(unchanged.lastModified(), equalTo(EARLIER));
+    }
+
+    private static JavaArchive archive(String a, String b) {
+        return ShrinkWrap.create(JavaArchive.class, "test.jar")
+            .add(new StringAsset(a), "a.txt")
+            .add(new StringAsset(b), "b.txt");
+    }
+
+    private static String read(File file) throws IOException {
+        InputStream stream = new FileInputStream(file);
+        try {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                content.write(buffer, 0, read);
+            }
+            return content.toString("UTF-8");
+        } finally {
+            stream.close();
+        }
+    }
+
+    private static void write(File file, String content) throws IOException {
+        OutputStream stream = new FileOutputStream(file);
+        try {
+            stream.write(content.getBytes("UTF-8"));
+        } finally {
+            stream.close();
+        }
+    }
+}
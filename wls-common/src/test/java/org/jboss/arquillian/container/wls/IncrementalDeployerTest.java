@@ -0,0 +1,180 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.arquillian.container.spi.client.container.DeploymentException;
+import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Verifies that undeployments are deferred, so that applications deployed again are redeployed, and that applications
+ * left deployed by earlier runs are taken over.
+ */
+public class IncrementalDeployerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File root;
+    private RecordingOperations operations;
+    private IncrementalDeployer deployer;
+
+    @Before
+    public void setUp() {
+        root = new File(folder.getRoot(), "staging");
+        operations = new RecordingOperations();
+        deployer = new IncrementalDeployer(new ExplodedStagingDirectory(root), operations);
+        deployer.start();
+    }
+
+    @Test
+    public void deferredApplicationIsRedeployed() throws Exception {
+        deployer.deploy("test", archive("test.jar"));
+        deployer.undeploy("test");
+        deployer.deploy("test", archive("test.jar"));
+
+        assertThat(operations.calls, equalTo(Arrays.asList("deploy test", "redeploy test")));
+    }
+
+    @Test
+    public void otherDeferredApplicationsAreUndeployed() throws Exception {
+        deployer.deploy("first", archive("first.jar"));
+        deployer.undeploy("first");
+        deployer.deploy("second", archive("second.jar"));
+        deployer.undeploy("second");
+        deployer.close();
+
+        assertThat(operations.calls,
+            equalTo(Arrays.asList("deploy first", "undeploy first", "deploy second", "undeploy second")));
+        assertThat(new ExplodedStagingDirectory(root).reclaimStaleDeployments(),
+            equalTo(Collections.<String, String>emptyMap()));
+    }
+
+    @Test
+    public void failedRedeploymentIsDeployedAnew() throws Exception {
+        deployer.deploy("test", archive("test.jar"));
+        deployer.undeploy("test");
+        operations.failRedeployment = true;
+        deployer.deploy("test", archive("test.jar"));
+
+        assertThat(operations.calls,
+            equalTo(Arrays.asList("deploy test", "redeploy test", "undeploy test", "deploy test")));
+    }
+
+    @Test
+    public void applicationsLeftDeployedAreRecordedUntilUndeployed() throws Exception {
+        deployer.deploy("test", archive("test.jar"));
+
+        assertThat(new ExplodedStagingDirectory(root).reclaimStaleDeployments(),
+            equalTo(Collections.<String, String>emptyMap()));
+
+        deployer.undeploy("test");
+        deployer.close();
+
+        assertThat(new ExplodedStagingDirectory(root).reclaimStaleDeployments(),
+            equalTo(Collections.<String, String>emptyMap()));
+    }
+
+    @Test
+    public void staleApplicationIsRedeployedWhenDeployedAgain() throws Exception {
+        IncrementalDeployer next = startAfterTermination("test.jar", "test");
+        next.deploy("test", archive("test.jar"));
+        next.close();
+
+        assertThat(operations.calls, equalTo(Arrays.asList("redeploy test")));
+    }
+
+    @Test
+    public void staleApplicationIsUndeployedOtherwise() throws Exception {
+        IncrementalDeployer next = startAfterTermination("test.jar", "test");
+        next.deploy("other", archive("other.jar"));
+
+        assertThat(operations.calls, equalTo(Arrays.asList("undeploy test", "deploy other")));
+    }
+
+    @Test
+    public void staleApplicationIsUndeployedOnClose() throws Exception {
+        IncrementalDeployer next = startAfterTermination("test.jar", "test");
+        next.close();
+
+        assertThat(operations.calls, equalTo(Arrays.asList("undeploy test")));
+        assertThat(new ExplodedStagingDirectory(root).reclaimStaleDeployments(),
+            equalTo(Collections.<String, String>emptyMap()));
+    }
+
+    /**
+     * Records a deployment as left behind by a JVM that terminated, and starts a deployer that takes it over.
+     */
+    private IncrementalDeployer startAfterTermination(String archiveName, String deploymentName) throws IOException {
+        File slot = new File(root, "0");
+        slot.mkdirs();
+        OutputStream stream = new FileOutputStream(new File(slot, archiveName + ".deployment"));
+        try {
+            stream.write(("name=" + deploymentName + "\n").getBytes("UTF-8"));
+        } finally {
+            stream.close();
+        }
+        IncrementalDeployer next = new IncrementalDeployer(new ExplodedStagingDirectory(root), operations);
+        next.start();
+        return next;
+    }
+
+    private static Archive<?> archive(String name) {
+        return ShrinkWrap.create(JavaArchive.class, name).add(new StringAsset(name), "name.txt");
+    }
+
+    private static class RecordingOperations implements IncrementalDeployer.Operations {
+        private final List<String> calls = new ArrayList<String>();
+        private boolean failRedeployment;
+
+        public ProtocolMetaData deploy(String deploymentName, File deploymentArchive) {
+            calls.add("deploy " + deploymentName);
+            return new ProtocolMetaData();
+        }
+
+        public ProtocolMetaData redeploy(String deploymentName, File deploymentArchive) throws DeploymentException {
+            calls.add("redeploy " + deploymentName);
+            if (failRedeployment) {
+                throw new DeploymentException("Redeployment failed");
+            }
+            return new ProtocolMetaData();
+        }
+
+        public void undeploy(String deploymentName) {
+            calls.add("undeploy " + deploymentName);
+        }
+    }
+}
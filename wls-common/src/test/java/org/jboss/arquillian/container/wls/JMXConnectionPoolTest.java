@@ -0,0 +1,247 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.MBeanServerConnection;
+import javax.management.MBeanServerFactory;
+import javax.management.remote.JMXConnectorServer;
+import javax.management.remote.JMXConnectorServerFactory;
+import javax.management.remote.JMXServiceURL;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Verifies the accounting, discarding, retrying and closing of pooled connections, against a local MBean Server
+ * exposed through the RMI connector.
+ */
+public class JMXConnectionPoolTest {
+
+    private static final long TIMEOUT = 10000;
+
+    private JMXConnectorServer connectorServer;
+    private JMXConnectionPool pool;
+
+    @Before
+    public void setUp() throws Exception {
+        connectorServer = JMXConnectorServerFactory.newJMXConnectorServer(
+            new JMXServiceURL("service:jmx:rmi://localhost"), null, MBeanServerFactory.newMBeanServer());
+        connectorServer.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (pool != null) {
+            pool.close();
+        }
+        connectorServer.stop();
+    }
+
+    @Test
+    public void connectionIsReusedWhenNotUsedConcurrently() throws Exception {
+        pool = createPool(2);
+        pool.prime();
+
+        for (int i = 0; i < 3; i++) {
+            pool.execute(new CountingCallback(), false);
+        }
+
+        assertThat(pool.getOpenCount(), equalTo(1));
+        assertThat(pool.getIdleCount(), equalTo(1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void borrowWaitsForAConnectionWhenThePoolIsExhausted() throws Exception {
+        pool = createPool(1);
+        BlockingCallback blocking = new BlockingCallback();
+        Thread holder = executeInBackground(blocking);
+        assertTrue(blocking.started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        final CountingCallback waiting = new CountingCallback();
+        Thread waiter = executeInBackground(waiting);
+        waiter.join(200);
+        assertThat(waiting.calls.get(), equalTo(0));
+
+        blocking.release.countDown();
+        holder.join();
+        waiter.join();
+
+        assertThat(waiting.calls.get(), equalTo(1));
+        assertThat(pool.getOpenCount(), equalTo(1));
+    }
+
+    @Test
+    public void connectionIsDiscardedAfterAConnectionFailure() throws Exception {
+        pool = createPool(1);
+        CountingCallback failing = new CountingCallback(new IOException("Connection reset"), 1);
+
+        try {
+            pool.execute(failing, false);
+            fail("The operation failed.");
+        } catch (IOException expected) {
+            assertThat(failing.calls.get(), equalTo(1));
+        }
+
+        assertThat(pool.getOpenCount(), equalTo(0));
+        pool.execute(new CountingCallback(), false);
+        assertThat(pool.getOpenCount(), equalTo(1));
+    }
+
+    @Test
+    public void connectionIsKeptAfterAnOperationFailure() throws Exception {
+        pool = createPool(1);
+        CountingCallback failing = new CountingCallback(new IllegalArgumentException("Bad operation"), 1);
+
+        try {
+            pool.execute(failing, true);
+            fail("The operation failed.");
+        } catch (IllegalArgumentException expected) {
+            assertThat(failing.calls.get(), equalTo(1));
+        }
+
+        assertThat(pool.getOpenCount(), equalTo(1));
+        assertThat(pool.getIdleCount(), equalTo(1));
+    }
+
+    @Test
+    public void operationIsRetriedOnceWithANewConnection() throws Exception {
+        pool = createPool(1);
+        CountingCallback failingOnce = new CountingCallback(new IOException("Connection reset"), 1);
+
+        assertThat(pool.execute(failingOnce, true), equalTo(2));
+        assertThat(pool.getOpenCount(), equalTo(1));
+
+        CountingCallback failingTwice = new CountingCallback(new IOException("Connection reset"), 2);
+        try {
+            pool.execute(failingTwice, true);
+            fail("The operation failed with both connections.");
+        } catch (IOException expected) {
+            assertThat(failingTwice.calls.get(), equalTo(2));
+        }
+        assertThat(pool.getOpenCount(), equalTo(0));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void connectionsInUseAreClosedWhenReturnedAfterClose() throws Exception {
+        pool = createPool(1);
+        BlockingCallback blocking = new BlockingCallback();
+        Thread holder = executeInBackground(blocking);
+        assertTrue(blocking.started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        pool.close();
+
+        assertThat(pool.getOpenCount(), equalTo(1));
+        try {
+            pool.execute(new CountingCallback(), false);
+            fail("The pool is closed.");
+        } catch (IOException expected) {
+            // The pool rejects new operations.
+        }
+        blocking.release.countDown();
+        holder.join();
+        assertThat(pool.getOpenCount(), equalTo(0));
+        assertThat(pool.getIdleCount(), equalTo(0));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void failedConnectionAttemptsDoNotExhaustThePool() throws Exception {
+        JMXServiceURL address = connectorServer.getAddress();
+        connectorServer.stop();
+        pool = new JMXConnectionPool(address, null, getClass().getClassLoader(), 1);
+
+        for (int i = 0; i < 3; i++) {
+            try {
+                pool.execute(new CountingCallback(), false);
+                fail("The MBean Server is not available.");
+            } catch (IOException expected) {
+                assertThat(pool.getOpenCount(), equalTo(0));
+            }
+        }
+    }
+
+    private JMXConnectionPool createPool(int maxSize) {
+        return new JMXConnectionPool(connectorServer.getAddress(), null, getClass().getClassLoader(), maxSize);
+    }
+
+    private Thread executeInBackground(final JMXConnectionPool.ConnectionCallback<?> callback) {
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    pool.execute(callback, false);
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        };
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Counts its calls, and fails the first calls with the configured exception.
+     */
+    private static class CountingCallback implements JMXConnectionPool.ConnectionCallback<Integer> {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final Exception failure;
+        private final int failures;
+
+        CountingCallback() {
+            this(null, 0);
+        }
+
+        CountingCallback(Exception failure, int failures) {
+            this.failure = failure;
+            this.failures = failures;
+        }
+
+        public Integer doWithConnection(MBeanServerConnection connection) throws Exception {
+            int call = calls.incrementAndGet();
+            connection.getMBeanCount();
+            if (call <= failures) {
+                throw failure;
+            }
+            return call;
+        }
+    }
+
+    /**
+     * Holds its connection until released.
+     */
+    private static class BlockingCallback implements JMXConnectionPool.ConnectionCallback<Void> {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        public Void doWithConnection(MBeanServerConnection connection) throws Exception {
+            connection.getMBeanCount();
+            started.countDown();
+            release.await(TIMEOUT, TimeUnit.MILLISECONDS);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.nio.channels.FileLock;
+import java.util.Properties;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Verifies the properties, the holders and the lock of a lease directory.
+ */
+public class LeaseDirectoryTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private LeaseDirectory leaseDirectory;
+
+    @Before
+    public void setUp() throws Exception {
+        leaseDirectory = new LeaseDirectory(new File(folder.getRoot(), "lease"));
+        // The directory is created along with the lock.
+        leaseDirectory.unlock(leaseDirectory.lock());
+    }
+
+    @Test
+    public void missingLeaseIsNull() throws Exception {
+        assertThat(leaseDirectory.read(), nullValue());
+    }
+
+    @Test
+    public void leaseIsWrittenAndRead() throws Exception {
+        Properties lease = new Properties();
+        lease.setProperty(LeaseDirectory.PROPERTY_ADMIN_URL, "t3://localhost:7001");
+        leaseDirectory.write(lease);
+
+        assertThat(leaseDirectory.read(), equalTo(lease));
+    }
+
+    @Test
+    public void liveHoldersAreCounted() throws Exception {
+        leaseDirectory.createHolder("1");
+        leaseDirectory.createHolder("1");
+
+        assertThat(leaseDirectory.countLiveHolders(), equalTo(2));
+    }
+
+    @Test
+    public void expiredHoldersAreRemoved() throws Exception {
+        leaseDirectory.createHolder("1");
+        File expired = leaseDirectory.createHolder("2");
+        expired.setLastModified(System.currentTimeMillis() - 2 * LeaseDirectory.HOLDER_EXPIRY_MILLIS);
+
+        assertThat(leaseDirectory.countLiveHolders(), equalTo(1));
+        assertThat(expired.exists(), equalTo(false));
+    }
+
+    @Test
+    public void deleteRemovesLeaseAndHolders() throws Exception {
+        leaseDirectory.write(new Properties());
+        leaseDirectory.createHolder("1");
+
+        leaseDirectory.delete();
+
+        assertThat(leaseDirectory.read(), nullValue());
+        assertThat(leaseDirectory.countLiveHolders(), equalTo(0));
+    }
+
+    @Test
+    public void lockCanBeAcquiredAgainOnceReleased() throws Exception {
+        FileLock lock = leaseDirectory.lock();
+        assertThat(lock.isValid(), equalTo(true));
+        leaseDirectory.unlock(lock);
+
+        assertThat(lock.isValid(), equalTo(false));
+        leaseDirectory.unlock(leaseDirectory.lock());
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.util.Properties;
+
+import org.jboss.arquillian.container.spi.client.container.LifecycleException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Verifies that a warm server is started by the first holder of the lease, shared with later holders, and stopped
+ * when the last holder releases it.
+ */
+public class ServerLeaseTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File leasesDirectory;
+    private File domainDirectory;
+    private CommonManagedWebLogicConfiguration configuration;
+    private FakeServerControl serverControl;
+
+    @Before
+    public void setUp() throws Exception {
+        leasesDirectory = folder.newFolder("leases");
+        domainDirectory = folder.newFolder("domain");
+        configuration = new CommonManagedWebLogicConfiguration();
+        configuration.setDomainDirectory(domainDirectory.getPath());
+        configuration.setAdminUrl("t3://localhost:7001");
+        configuration.setKeepWarm(true);
+        // Stops the server as soon as it is released, instead of launching a reaper process.
+        configuration.setKeepWarmIdleTimeout(0);
+        serverControl = new FakeServerControl(configuration, domainDirectory.getCanonicalPath());
+    }
+
+    @Test
+    public void firstHolderStartsTheServer() throws Exception {
+        ServerLease lease = new ServerLease(configuration, serverControl, leasesDirectory);
+        lease.acquire();
+
+        assertThat(serverControl.starts, equalTo(1));
+        Properties properties = leaseDirectory().read();
+        assertThat(properties, notNullValue());
+        assertThat(properties.getProperty(LeaseDirectory.PROPERTY_ADMIN_URL), equalTo("t3://localhost:7001"));
+        assertThat(properties.getProperty(LeaseDirectory.PROPERTY_DOMAIN_DIRECTORY),
+            equalTo(domainDirectory.getCanonicalPath()));
+        lease.release();
+    }
+
+    @Test
+    public void laterHoldersAttachAndLastHolderStopsTheServer() throws Exception {
+        ServerLease first = new ServerLease(configuration, serverControl, leasesDirectory);
+        ServerLease second = new ServerLease(configuration, serverControl, leasesDirectory);
+        first.acquire();
+        second.acquire();
+
+        assertThat(serverControl.starts, equalTo(1));
+
+        first.release();
+        assertThat(serverControl.stops, equalTo(0));
+
+        second.release();
+        assertThat(serverControl.stops, equalTo(1));
+        assertThat(leaseDirectory().read(), nullValue());
+    }
+
+    @Test
+    public void expiredHoldersDoNotKeepTheServerRunning() throws Exception {
+        ServerLease lease = new ServerLease(configuration, serverControl, leasesDirectory);
+        lease.acquire();
+        // A holder left behind by a JVM that terminated abnormally.
+        leaseDirectory().createHolder("0")
+            .setLastModified(System.currentTimeMillis() - 2 * LeaseDirectory.HOLDER_EXPIRY_MILLIS);
+
+        lease.release();
+
+        assertThat(serverControl.stops, equalTo(1));
+    }
+
+    @Test
+    public void leaseOfStoppedServerIsReplaced() throws Exception {
+        ServerLease first = new ServerLease(configuration, serverControl, leasesDirectory);
+        first.acquire();
+        // The server was stopped without releasing the lease.
+        serverControl.running = false;
+
+        ServerLease second = new ServerLease(configuration, serverControl, leasesDirectory);
+        second.acquire();
+
+        assertThat(serverControl.starts, equalTo(2));
+        second.release();
+        assertThat(serverControl.stops, equalTo(1));
+    }
+
+    @Test
+    public void serverStartedOutsideTheLeaseIsRejected() throws Exception {
+        serverControl.running = true;
+        ServerLease lease = new ServerLease(configuration, serverControl, leasesDirectory);
+
+        try {
+            lease.acquire();
+            fail("The server was not started by a container in keep-warm mode.");
+        } catch (LifecycleException expected) {
+            assertThat(serverControl.starts, equalTo(0));
+        }
+    }
+
+    @Test
+    public void serverStartedOutsideTheLeaseIsNotStopped() throws Exception {
+        serverControl.running = true;
+        configuration.setAllowConnectingToRunningServer(true);
+        ServerLease lease = new ServerLease(configuration, serverControl, leasesDirectory);
+        lease.acquire();
+        lease.release();
+
+        assertThat(serverControl.starts, equalTo(0));
+        assertThat(serverControl.stops, equalTo(0));
+    }
+
+    @Test
+    public void serverOfAnotherDomainIsRejected() throws Exception {
+        new ServerLease(configuration, serverControl, leasesDirectory).acquire();
+        serverControl.domainRootDirectory = folder.newFolder("other").getCanonicalPath();
+
+        try {
+            new ServerLease(configuration, serverControl, leasesDirectory).acquire();
+            fail("The running server serves another domain.");
+        } catch (LifecycleException expected) {
+            assertThat(serverControl.starts, equalTo(1));
+        }
+    }
+
+    private LeaseDirectory leaseDirectory() {
+        File[] leases = leasesDirectory.listFiles();
+        assertThat(leases.length, equalTo(1));
+        return new LeaseDirectory(leases[0]);
+    }
+
+    private static class FakeServerControl extends WebLogicServerControl {
+        private boolean running;
+        private String domainRootDirectory;
+        private int starts;
+        private int stops;
+
+        FakeServerControl(CommonManagedWebLogicConfiguration configuration, String domainRootDirectory) {
+            super(configuration);
+            this.domainRootDirectory = domainRootDirectory;
+        }
+
+        @Override
+        public void startServer() {
+            running = true;
+            starts++;
+        }
+
+        @Override
+        public void stopServer() {
+            running = false;
+            stops++;
+        }
+
+        @Override
+        public boolean isServerRunning() {
+            return running;
+        }
+
+        @Override
+        public String getDomainRootDirectory() {
+            return domainRootDirectory;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Verifies the tracking of the server lifecycle from sample WebLogic console output.
+ */
+public class ServerLogMonitorTest {
+
+    private static final String STARTING =
+        "<Oct 17, 2026 10:15:30 AM UTC> <Notice> <WebLogicServer> <BEA-000365> <Server state changed to STARTING.>";
+    private static final String RUNNING =
+        "<Oct 17, 2026 10:15:32 AM UTC> <Notice> <WebLogicServer> <BEA-000365> <Server state changed to RUNNING.>";
+    private static final String STARTED =
+        "<Oct 17, 2026 10:15:32 AM UTC> <Notice> <WebLogicServer> <BEA-000360> <The server started in RUNNING mode.>";
+    private static final String SERVER_FAILED =
+        "<Oct 17, 2026 10:15:31 AM UTC> <Critical> <WebLogicServer> <BEA-000362> <Server failed. Reason: "
+            + "There are 1 nested errors>";
+    private static final String EMERGENCY =
+        "<Oct 17, 2026 10:15:31 AM UTC> <Emergency> <Security> <BEA-090034> <Not listening for connections.>";
+    private static final String WARNING =
+        "<Oct 17, 2026 10:15:31 AM UTC> <Warning> <Server> <BEA-002611> <The hostname maps to multiple addresses.>";
+
+    private static final long TIMEOUT = 10000;
+    private static final long SHORT_TIMEOUT = 50;
+
+    private final ServerLogMonitor monitor = new ServerLogMonitor();
+
+    @Test
+    public void stateChangesArePublished() throws Exception {
+        monitor.onLine(STARTING);
+        assertThat(monitor.getState(), equalTo("STARTING"));
+        assertThat(monitor.awaitState(SHORT_TIMEOUT, ServerLogMonitor.STATE_RUNNING), equalTo(false));
+
+        monitor.onLine(RUNNING);
+        assertThat(monitor.awaitState(SHORT_TIMEOUT, ServerLogMonitor.STATE_RUNNING), equalTo(true));
+        assertThat(monitor.getFailure(), nullValue());
+    }
+
+    @Test
+    public void serverStartedMessageReportsRunning() throws Exception {
+        monitor.onLine(STARTED);
+
+        assertThat(monitor.awaitState(SHORT_TIMEOUT, ServerLogMonitor.STATE_RUNNING), equalTo(true));
+    }
+
+    @Test
+    public void fatalMessageIsRecorded() throws Exception {
+        monitor.onLine(STARTING);
+        monitor.onLine(SERVER_FAILED);
+        monitor.onLine(EMERGENCY);
+
+        assertThat(monitor.getFailure(), equalTo(SERVER_FAILED));
+        assertThat(monitor.awaitState(TIMEOUT, ServerLogMonitor.STATE_RUNNING), equalTo(false));
+    }
+
+    @Test
+    public void emergencyMessageIsRecorded() throws Exception {
+        monitor.onLine(EMERGENCY);
+
+        assertThat(monitor.getFailure(), equalTo(EMERGENCY));
+    }
+
+    @Test
+    public void otherLinesAreIgnored() throws Exception {
+        monitor.onLine(WARNING);
+        monitor.onLine("Starting WLS with line:");
+        monitor.onLine("<Server state changed to RUNNING.>");
+
+        assertThat(monitor.getState(), nullValue());
+        assertThat(monitor.getFailure(), nullValue());
+    }
+
+    @Test
+    public void waitingThreadIsWokenByFailure() throws Exception {
+        long start = System.currentTimeMillis();
+        feedLater(SERVER_FAILED);
+
+        assertThat(monitor.awaitState(TIMEOUT, ServerLogMonitor.STATE_RUNNING), equalTo(false));
+        assertTrue(System.currentTimeMillis() - start < TIMEOUT);
+        assertThat(monitor.getFailure(), equalTo(SERVER_FAILED));
+    }
+
+    @Test
+    public void waitingThreadIsWokenByState() throws Exception {
+        feedLater(RUNNING);
+
+        assertThat(monitor.awaitState(TIMEOUT, ServerLogMonitor.STATE_RUNNING), equalTo(true));
+    }
+
+    @Test
+    public void waitingThreadIsWokenByEnd() throws Exception {
+        long start = System.currentTimeMillis();
+        new Thread() {
+            @Override
+            public void run() {
+                pause();
+                monitor.onEnd();
+            }
+        }.start();
+
+        assertThat(monitor.awaitState(TIMEOUT, ServerLogMonitor.STATE_RUNNING), equalTo(false));
+        assertTrue(System.currentTimeMillis() - start < TIMEOUT);
+        assertThat(monitor.isEnded(), equalTo(true));
+    }
+
+    private void feedLater(final String line) {
+        new Thread() {
+            @Override
+            public void run() {
+                pause();
+                monitor.onLine(line);
+            }
+        }.start();
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(SHORT_TIMEOUT);
+        } catch (InterruptedException interruptedEx) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Verifies that the truststore properties are set while held, restored when released, and held for a single truststore
+ * at a time.
+ */
+public class TrustStorePropertiesTest {
+
+    private String originalTrustStore;
+    private String originalTrustStorePassword;
+
+    @Before
+    public void setUp() {
+        originalTrustStore = System.getProperty("javax.net.ssl.trustStore");
+        originalTrustStorePassword = System.getProperty("javax.net.ssl.trustStorePassword");
+        System.setProperty("javax.net.ssl.trustStore", "original.jks");
+        System.clearProperty("javax.net.ssl.trustStorePassword");
+    }
+
+    @After
+    public void tearDown() {
+        restore("javax.net.ssl.trustStore", originalTrustStore);
+        restore("javax.net.ssl.trustStorePassword", originalTrustStorePassword);
+    }
+
+    @Test
+    public void noPropertiesWithoutConfiguredTrust() {
+        assertThat(TrustStoreProperties.forConfiguration(new CommonWebLogicConfiguration()), nullValue());
+    }
+
+    @Test
+    public void propertiesAreSetWhileHeldAndRestoredWhenReleased() throws Exception {
+        TrustStoreProperties properties = TrustStoreProperties.forConfiguration(configuration("first.jks", "secret"));
+
+        properties.acquire();
+        properties.acquire();
+        assertThat(System.getProperty("javax.net.ssl.trustStore"), equalTo("first.jks"));
+        assertThat(System.getProperty("javax.net.ssl.trustStorePassword"), equalTo("secret"));
+        properties.release();
+        assertThat(System.getProperty("javax.net.ssl.trustStore"), equalTo("first.jks"));
+        properties.release();
+
+        assertThat(System.getProperty("javax.net.ssl.trustStore"), equalTo("original.jks"));
+        assertThat(System.getProperty("javax.net.ssl.trustStorePassword"), nullValue());
+    }
+
+    @Test
+    public void differentTrustStoreWaitsUntilReleased() throws Exception {
+        TrustStoreProperties first = TrustStoreProperties.forConfiguration(configuration("first.jks", null));
+        final TrustStoreProperties second = TrustStoreProperties.forConfiguration(configuration("second.jks", null));
+        final CountDownLatch acquired = new CountDownLatch(1);
+        final AtomicReference<String> seen = new AtomicReference<String>();
+
+        first.acquire();
+        Thread other = new Thread(new Runnable() {
+            public void run() {
+                try {
+                    second.acquire();
+                    seen.set(System.getProperty("javax.net.ssl.trustStore"));
+                    acquired.countDown();
+                    second.release();
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        });
+        other.start();
+
+        assertThat(acquired.await(200, TimeUnit.MILLISECONDS), equalTo(false));
+        assertThat(System.getProperty("javax.net.ssl.trustStore"), equalTo("first.jks"));
+        first.release();
+        assertThat(acquired.await(5, TimeUnit.SECONDS), equalTo(true));
+        other.join();
+
+        assertThat(seen.get(), equalTo("second.jks"));
+        assertThat(System.getProperty("javax.net.ssl.trustStore"), equalTo("original.jks"));
+    }
+
+    private static CommonWebLogicConfiguration configuration(String trustStore, String password) {
+        CommonWebLogicConfiguration configuration = new CommonWebLogicConfiguration();
+        configuration.setUseCustomTrust(true);
+        configuration.setTrustStoreLocation(trustStore);
+        configuration.setTrustStorePassword(password);
+        return configuration;
+    }
+
+    private static void restore(String key, String value) {
+        if (value == null) {
+            System.clearProperty(key);
+        } else {
+            System.setProperty(key, value);
+        }
+    }
+}
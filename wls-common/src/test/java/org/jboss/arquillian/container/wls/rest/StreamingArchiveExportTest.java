@@ -0,0 +1,86 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls.rest;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.jboss.arquillian.container.spi.client.container.DeploymentException;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+
+/**
+ * Verifies that a streamed archive is read completely, and that a failed export fails the reader instead of ending
+ * the stream.
+ */
+public class StreamingArchiveExportTest {
+
+    @Test
+    public void exportedArchiveIsReadCompletely() throws Exception {
+        StreamingArchiveExport export = new StreamingArchiveExport(ShrinkWrap.create(JavaArchive.class, "test.jar")
+            .add(new StringAsset("a"), "a.txt"));
+
+        ZipInputStream zip = new ZipInputStream(export.getInputStream());
+        boolean found = false;
+        for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+            found |= entry.getName().equals("a.txt");
+        }
+        export.close();
+
+        assertThat(found, equalTo(true));
+        assertThat(export.isFailureReported(), equalTo(false));
+    }
+
+    @Test
+    public void failedExportFailsTheReader() throws Exception {
+        StreamingArchiveExport export = new StreamingArchiveExport(ShrinkWrap.create(JavaArchive.class, "test.jar")
+            .add(new StringAsset("a"), "a.txt")
+            .add(new FailingAsset(), "b.txt"));
+
+        try {
+            InputStream stream = export.getInputStream();
+            byte[] buffer = new byte[8192];
+            while (stream.read(buffer) != -1) {
+                // Reads the stream, as the upload does.
+            }
+            fail("The export failed, but the stream ended normally.");
+        } catch (IOException expected) {
+            assertThat(export.isFailureReported(), equalTo(true));
+        }
+        try {
+            export.close();
+            fail("The export failed.");
+        } catch (DeploymentException expected) {
+            // The failure of the export is reported again on close.
+        }
+    }
+
+    private static class FailingAsset implements Asset {
+        public InputStream openStream() {
+            throw new IllegalStateException("The content is not available.");
+        }
+    }
+}
@@ -0,0 +1,543 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls.fake;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanConstructorInfo;
+import javax.management.MBeanException;
+import javax.management.MBeanInfo;
+import javax.management.MBeanNotificationInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+
+/**
+ * An in-process stand-in for the Domain Runtime MBean Server of a WebLogic domain. The MBeans are registered under the
+ * object names, and with the attributes and operations, that the container adapters use on WebLogic Server:
+ * <ul>
+ * <li>the DomainRuntimeService, with the ServerRuntimes, DomainConfiguration and DomainRuntime attributes,</li>
+ * <li>the DeploymentManager of the DomainRuntime, with the deploy, lookupAppDeploymentRuntime,
+ * purgeCompletedDeploymentProgressObjects and removeDeploymentProgressObject operations,</li>
+ * <li>the AppDeployment and AppDeploymentRuntime of every application, and the deployment progress objects of the
+ * deployment operations,</li>
+ * <li>the ServerRuntime of every server, with the ApplicationRuntime, WebAppComponentRuntime and ServletRuntime MBeans
+ * of every application.</li>
+ * </ul>
+ * A single server is the deployment target <code>AdminServer</code>, while multiple servers are the members of the
+ * cluster <code>Cluster</code>, which is the deployment target.
+ * <p>
+ * Every MBean invocation can be delayed by a fixed latency, to model the round-trip to a remote admin server, and
+ * deployment operations can be made to take a fixed time to complete.
+ */
+public class FakeWebLogicDomain {
+
+    public static final String DOMAIN = "com.bea";
+
+    static final String STATE_RUNNING = "STATE_RUNNING";
+    static final String STATE_COMPLETED = "STATE_COMPLETED";
+
+    private final MBeanServer mbeanServer = MBeanServerFactory.newMBeanServer();
+    private final ObjectName domainRuntimeService;
+    private final ObjectName domainConfiguration;
+    private final String target;
+    private final ObjectName targetMBean;
+    private final String[] serverNames;
+    private final ObjectName[] serverRuntimes;
+    private final String rootDirectory;
+
+    /**
+     * The MBeans registered for every application, by application name.
+     */
+    private final Map<String, List<ObjectName>> applications = new LinkedHashMap<String, List<ObjectName>>();
+
+    /**
+     * The retained deployment progress objects.
+     */
+    private final Map<ObjectName, ProgressObject> progressObjects = new LinkedHashMap<ObjectName, ProgressObject>();
+
+    private int progressObjectSequence = 0;
+    private String[] servletNames = {"ArquillianServletRunner"};
+    private volatile long invocationLatency = 0;
+    private volatile long deploymentLatency = 0;
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    /**
+     * @param servers
+     *     The number of running servers that the applications are deployed to
+     */
+    public FakeWebLogicDomain(int servers) throws JMException {
+        if (servers < 1) {
+            throw new IllegalArgumentException("The domain must have at least one server.");
+        }
+        rootDirectory = new File(System.getProperty("java.io.tmpdir"), "fake-weblogic-domain").getAbsolutePath();
+        domainRuntimeService = new ObjectName(DOMAIN + ":Name=DomainRuntimeService,"
+            + "Type=weblogic.management.mbeanservers.domainruntime.DomainRuntimeServiceMBean");
+
+        CompositeType healthStateType;
+        try {
+            healthStateType = new CompositeType("HealthState", "The health state of a server",
+                new String[] {"State"}, new String[] {"The health state"}, new OpenType<?>[] {SimpleType.INTEGER});
+        } catch (OpenDataException openDataEx) {
+            throw new IllegalStateException(openDataEx);
+        }
+
+        serverNames = new String[servers];
+        serverRuntimes = new ObjectName[servers];
+        ObjectName[] serverConfigurations = new ObjectName[servers];
+        for (int i = 0; i < servers; i++) {
+            serverNames[i] = servers == 1 ? "AdminServer" : "ManagedServer-" + (i + 1);
+            serverConfigurations[i] = register(DOMAIN + ":Type=Server,Name=" + serverNames[i]);
+            try {
+                serverRuntimes[i] = register(DOMAIN + ":Type=ServerRuntime,Name=" + serverNames[i],
+                    "State", "RUNNING",
+                    "HealthState", new CompositeDataSupport(healthStateType, new String[] {"State"}, new Object[] {0}),
+                    "ApplicationRuntimes", new ObjectName[0],
+                    "URL", "http://127.0.0.1:" + (7001 + i));
+            } catch (OpenDataException openDataEx) {
+                throw new IllegalStateException(openDataEx);
+            }
+        }
+
+        if (servers == 1) {
+            target = serverNames[0];
+            targetMBean = serverConfigurations[0];
+        } else {
+            target = "Cluster";
+            targetMBean = register(DOMAIN + ":Type=Cluster,Name=Cluster", "Servers", serverConfigurations);
+        }
+
+        domainConfiguration = register(DOMAIN + ":Type=Domain,Name=domain",
+            "AppDeployments", new ObjectName[0],
+            "RootDirectory", rootDirectory);
+        FakeMBean deploymentManagerMBean = new FakeMBean() {
+            @Override
+            protected Object invoke(String operation, Object[] params) throws Exception {
+                if (operation.equals("deploy")) {
+                    return deploy((String) params[0]);
+                } else if (operation.equals("lookupAppDeploymentRuntime")) {
+                    return lookupAppDeploymentRuntime((String) params[0]);
+                } else if (operation.equals("purgeCompletedDeploymentProgressObjects")) {
+                    purgeCompletedDeploymentProgressObjects();
+                    return null;
+                } else if (operation.equals("removeDeploymentProgressObject")) {
+                    removeDeploymentProgressObject((String) params[0]);
+                    return null;
+                }
+                return super.invoke(operation, params);
+            }
+        };
+        ObjectName deploymentManager = register(DOMAIN + ":Type=DeploymentManager,Name=DeploymentManager",
+            deploymentManagerMBean);
+        ObjectName domainRuntime = register(DOMAIN + ":Type=DomainRuntime,Name=domain",
+            "DeploymentManager", deploymentManager);
+        register(domainRuntimeService.toString(),
+            "ServerRuntimes", serverRuntimes,
+            "DomainConfiguration", domainConfiguration,
+            "DomainRuntime", domainRuntime);
+    }
+
+    public MBeanServer getMBeanServer() {
+        return mbeanServer;
+    }
+
+    public ObjectName getDomainRuntimeService() {
+        return domainRuntimeService;
+    }
+
+    /**
+     * @return The name of the server or cluster that the applications are deployed to.
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    public String[] getServerNames() {
+        return serverNames.clone();
+    }
+
+    public String getRootDirectory() {
+        return rootDirectory;
+    }
+
+    /**
+     * @param millis
+     *     The time by which every MBean invocation is delayed (default = 0)
+     */
+    public FakeWebLogicDomain setInvocationLatency(long millis) {
+        this.invocationLatency = millis;
+        return this;
+    }
+
+    /**
+     * @param millis
+     *     The time taken by deployment operations to complete (default = 0)
+     */
+    public FakeWebLogicDomain setDeploymentLatency(long millis) {
+        this.deploymentLatency = millis;
+        return this;
+    }
+
+    public long getDeploymentLatency() {
+        return deploymentLatency;
+    }
+
+    /**
+     * @param servletNames
+     *     The servlets of every deployed application (default = ArquillianServletRunner)
+     */
+    public synchronized FakeWebLogicDomain setServletNames(String... servletNames) {
+        this.servletNames = servletNames.clone();
+        return this;
+    }
+
+    public synchronized String[] getServletNames() {
+        return servletNames.clone();
+    }
+
+    /**
+     * @return The number of MBean invocations made so far.
+     */
+    public int getInvocationCount() {
+        return invocations.get();
+    }
+
+    public synchronized Set<String> getApplicationNames() {
+        return new TreeSet<String>(applications.keySet());
+    }
+
+    public synchronized boolean isDeployed(String applicationName) {
+        return applications.containsKey(applicationName);
+    }
+
+    /**
+     * @return The number of deployment progress objects retained by the Deployment Manager.
+     */
+    public synchronized int getDeploymentProgressObjectCount() {
+        return progressObjects.size();
+    }
+
+    /**
+     * Deploys an application to the target, replacing an application of the same name.
+     *
+     * @return The progress object of the deployment
+     */
+    public synchronized ObjectName deploy(String applicationName) throws JMException {
+        if (applications.containsKey(applicationName)) {
+            unregisterApplication(applicationName);
+        }
+        List<ObjectName> mbeans = new ArrayList<ObjectName>();
+        for (int i = 0; i < serverRuntimes.length; i++) {
+            String serverName = serverNames[i];
+            String runtimeKeys = ",ServerRuntime=" + serverName + ",ApplicationRuntime=" + applicationName;
+            List<ObjectName> servletRuntimes = new ArrayList<ObjectName>();
+            for (String servletName : servletNames) {
+                servletRuntimes.add(register(DOMAIN + ":Type=ServletRuntime,Name=" + servletName + runtimeKeys,
+                    "ServletName", servletName,
+                    "ContextPath", "/" + applicationName));
+            }
+            ObjectName webAppComponentRuntime = register(DOMAIN + ":Type=WebAppComponentRuntime,Name="
+                    + applicationName + runtimeKeys,
+                "Servlets", servletRuntimes.toArray(new ObjectName[0]));
+            ObjectName applicationRuntime = register(DOMAIN + ":Type=ApplicationRuntime,Name=" + applicationName
+                    + ",ServerRuntime=" + serverName,
+                "ComponentRuntimes", new ObjectName[] {webAppComponentRuntime});
+            mbeans.addAll(servletRuntimes);
+            mbeans.add(webAppComponentRuntime);
+            mbeans.add(applicationRuntime);
+        }
+
+        final String name = applicationName;
+        FakeMBean appDeploymentRuntimeMBean = new FakeMBean() {
+            @Override
+            protected Object invoke(String operation, Object[] params) throws Exception {
+                if (operation.equals("undeploy")) {
+                    return undeploy(name);
+                } else if (operation.equals("redeploy")) {
+                    return deploy(name);
+                }
+                return super.invoke(operation, params);
+            }
+        };
+        appDeploymentRuntimeMBean.attributes.put("Name", applicationName);
+        mbeans.add(register(DOMAIN + ":Type=AppDeploymentRuntime,Name=" + applicationName,
+            appDeploymentRuntimeMBean));
+        mbeans.add(register(DOMAIN + ":Type=AppDeployment,Name=" + applicationName,
+            "Targets", new ObjectName[] {targetMBean}));
+        applications.put(applicationName, mbeans);
+        updateApplicationReferences();
+        return createProgressObject(applicationName);
+    }
+
+    /**
+     * Undeploys an application.
+     *
+     * @return The progress object of the undeployment
+     *
+     * @throws IllegalArgumentException
+     *     When the application is not deployed
+     */
+    public synchronized ObjectName undeploy(String applicationName) throws JMException {
+        if (!applications.containsKey(applicationName)) {
+            throw new IllegalArgumentException("The application " + applicationName + " is not deployed.");
+        }
+        unregisterApplication(applicationName);
+        updateApplicationReferences();
+        return createProgressObject(applicationName);
+    }
+
+    /**
+     * Removes all completed deployment progress objects.
+     */
+    public synchronized void purgeCompletedDeploymentProgressObjects() throws JMException {
+        Iterator<Map.Entry<ObjectName, ProgressObject>> iterator = progressObjects.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<ObjectName, ProgressObject> progressObject = iterator.next();
+            if (progressObject.getValue().getState().equals(STATE_COMPLETED)) {
+                mbeanServer.unregisterMBean(progressObject.getKey());
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes the deployment progress objects of an application.
+     */
+    public synchronized void removeDeploymentProgressObject(String applicationName) throws JMException {
+        Iterator<Map.Entry<ObjectName, ProgressObject>> iterator = progressObjects.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<ObjectName, ProgressObject> progressObject = iterator.next();
+            if (progressObject.getValue().applicationName.equals(applicationName)) {
+                mbeanServer.unregisterMBean(progressObject.getKey());
+                iterator.remove();
+            }
+        }
+    }
+
+    private synchronized ObjectName lookupAppDeploymentRuntime(String applicationName) throws JMException {
+        if (!applications.containsKey(applicationName)) {
+            return null;
+        }
+        return new ObjectName(DOMAIN + ":Type=AppDeploymentRuntime,Name=" + applicationName);
+    }
+
+    private ObjectName createProgressObject(String applicationName) throws JMException {
+        final ProgressObject progress =
+            new ProgressObject(applicationName, System.currentTimeMillis() + deploymentLatency);
+        FakeMBean progressObjectMBean = new FakeMBean() {
+            @Override
+            protected Object read(String attribute) throws AttributeNotFoundException {
+                if (attribute.equals("State")) {
+                    return progress.getState();
+                }
+                return super.read(attribute);
+            }
+        };
+        progressObjectMBean.attributes.put("ApplicationName", applicationName);
+        progressObjectMBean.attributes.put("FailedTargets", new String[0]);
+        ObjectName progressObject = register(DOMAIN + ":Type=DeploymentProgressObject,Name=" + applicationName
+            + "-" + (++progressObjectSequence), progressObjectMBean);
+        progressObjects.put(progressObject, progress);
+        return progressObject;
+    }
+
+    private void unregisterApplication(String applicationName) throws JMException {
+        for (ObjectName mbean : applications.remove(applicationName)) {
+            mbeanServer.unregisterMBean(mbean);
+        }
+    }
+
+    /**
+     * Updates the attributes that refer to the MBeans of the deployed applications.
+     */
+    private void updateApplicationReferences() throws JMException {
+        List<ObjectName> appDeployments = new ArrayList<ObjectName>();
+        for (String applicationName : applications.keySet()) {
+            appDeployments.add(new ObjectName(DOMAIN + ":Type=AppDeployment,Name=" + applicationName));
+        }
+        mbeanServer.setAttribute(domainConfiguration,
+            new Attribute("AppDeployments", appDeployments.toArray(new ObjectName[0])));
+        for (int i = 0; i < serverRuntimes.length; i++) {
+            List<ObjectName> applicationRuntimes = new ArrayList<ObjectName>();
+            for (String applicationName : applications.keySet()) {
+                applicationRuntimes.add(new ObjectName(DOMAIN + ":Type=ApplicationRuntime,Name=" + applicationName
+                    + ",ServerRuntime=" + serverNames[i]));
+            }
+            mbeanServer.setAttribute(serverRuntimes[i],
+                new Attribute("ApplicationRuntimes", applicationRuntimes.toArray(new ObjectName[0])));
+        }
+    }
+
+    private ObjectName register(String name, Object... attributes) throws JMException {
+        FakeMBean mbean = new FakeMBean();
+        for (int i = 0; i < attributes.length; i += 2) {
+            mbean.attributes.put((String) attributes[i], attributes[i + 1]);
+        }
+        return register(name, mbean);
+    }
+
+    private ObjectName register(String name, FakeMBean mbean) throws JMException {
+        ObjectName objectName = new ObjectName(name);
+        mbeanServer.registerMBean(mbean, objectName);
+        return objectName;
+    }
+
+    /**
+     * An MBean with a set of attributes, whose operations are implemented by subclasses. Every invocation is delayed
+     * by the invocation latency of the domain.
+     */
+    private class FakeMBean implements DynamicMBean {
+
+        final Map<String, Object> attributes = new HashMap<String, Object>();
+
+        protected Object read(String attribute) throws AttributeNotFoundException {
+            synchronized (attributes) {
+                if (!attributes.containsKey(attribute)) {
+                    throw new AttributeNotFoundException(attribute);
+                }
+                return attributes.get(attribute);
+            }
+        }
+
+        protected Object invoke(String operation, Object[] params) throws Exception {
+            if (operation.equals("getURL")) {
+                try {
+                    return read("URL");
+                } catch (AttributeNotFoundException notFoundEx) {
+                    // Only ServerRuntime MBeans have a URL.
+                }
+            }
+            throw new NoSuchMethodException(operation);
+        }
+
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            delay();
+            return read(attribute);
+        }
+
+        public void setAttribute(Attribute attribute) {
+            synchronized (attributes) {
+                attributes.put(attribute.getName(), attribute.getValue());
+            }
+        }
+
+        public AttributeList getAttributes(String[] names) {
+            delay();
+            AttributeList list = new AttributeList();
+            for (String name : names) {
+                try {
+                    list.add(new Attribute(name, read(name)));
+                } catch (AttributeNotFoundException notFoundEx) {
+                    // Attributes that cannot be read are left out of the list, as by WebLogic Server.
+                }
+            }
+            return list;
+        }
+
+        public AttributeList setAttributes(AttributeList list) {
+            for (Object attribute : list) {
+                setAttribute((Attribute) attribute);
+            }
+            return list;
+        }
+
+        public Object invoke(String actionName, Object[] params, String[] signature)
+            throws MBeanException, ReflectionException {
+            delay();
+            try {
+                return invoke(actionName, params == null ? new Object[0] : params);
+            } catch (NoSuchMethodException noSuchMethodEx) {
+                throw new ReflectionException(noSuchMethodEx, "Unknown operation " + actionName + " with signature "
+                    + Arrays.toString(signature));
+            } catch (Exception ex) {
+                throw new MBeanException(ex);
+            }
+        }
+
+        public MBeanInfo getMBeanInfo() {
+            List<MBeanAttributeInfo> attributeInfos = new ArrayList<MBeanAttributeInfo>();
+            synchronized (attributes) {
+                for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+                    attributeInfos.add(new MBeanAttributeInfo(attribute.getKey(),
+                        attribute.getValue() == null ? Object.class.getName()
+                            : attribute.getValue().getClass().getName(),
+                        attribute.getKey(), true, true, false));
+                }
+            }
+            return new MBeanInfo(getClass().getName(), "A fake WebLogic MBean",
+                attributeInfos.toArray(new MBeanAttributeInfo[0]), new MBeanConstructorInfo[0],
+                new MBeanOperationInfo[0], new MBeanNotificationInfo[0]);
+        }
+
+        private void delay() {
+            invocations.incrementAndGet();
+            sleep(invocationLatency);
+        }
+    }
+
+    /**
+     * A deployment operation, that completes once the deployment latency has elapsed.
+     */
+    private static class ProgressObject {
+
+        private final String applicationName;
+        private final long completionTime;
+
+        ProgressObject(String applicationName, long completionTime) {
+            this.applicationName = applicationName;
+            this.completionTime = completionTime;
+        }
+
+        String getState() {
+            return System.currentTimeMillis() < completionTime ? STATE_RUNNING : STATE_COMPLETED;
+        }
+    }
+
+    static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException interruptEx) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,446 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls.fake;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.rmi.NoSuchObjectException;
+import java.rmi.registry.LocateRegistry;
+import java.rmi.registry.Registry;
+import java.rmi.server.UnicastRemoteObject;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.management.remote.JMXConnectorServer;
+import javax.management.remote.JMXConnectorServerFactory;
+import javax.management.remote.JMXServiceURL;
+import javax.naming.Context;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A local stand-in for a WebLogic admin server, that serves a {@link FakeWebLogicDomain}. The stand-in serves the
+ * resources of the REST management API that the REST container adapters use:
+ * <ul>
+ * <li><code>/management/wls/latest/deployments/application</code>, to deploy, look up and undeploy applications,</li>
+ * <li><code>/management/tenant-monitoring/servers/</code>, to obtain the state of the servers,</li>
+ * <li><code>/management/weblogic/latest/domainConfig</code>, to obtain the root directory of the domain,</li>
+ * <li><code>/management/weblogic/latest/domainRuntime/deploymentManager/purgeCompletedDeploymentProgressObjects</code>,
+ * to purge the deployment progress objects.</li>
+ * </ul>
+ * The MBean server of the domain is exposed through the standard RMI connector, under the JNDI name of the Domain
+ * Runtime MBean Server, so that the JMX container adapters can connect with the <code>rmi</code> JMX protocol, once the
+ * {@link #getJndiProperties() JNDI properties} of the stand-in are set as system properties.
+ * <p>
+ * No WebLogic Server classes are used, and uploaded archives are read and discarded. Every HTTP request can be delayed
+ * by a fixed latency, to model the round-trip to a remote admin server.
+ */
+public class FakeWebLogicServer {
+
+    private static final Logger logger = Logger.getLogger(FakeWebLogicServer.class.getName());
+
+    static final String APPLICATIONS_URI = "/management/wls/latest/deployments/application";
+    static final String APPLICATION_ID_URI = APPLICATIONS_URI + "/id/";
+    static final String MONITORING_URI = "/management/tenant-monitoring/servers/";
+    static final String DOMAIN_CONFIG_URI = "/management/weblogic/latest/domainConfig";
+    static final String PURGE_PROGRESS_OBJECTS_URI =
+        "/management/weblogic/latest/domainRuntime/deploymentManager/purgeCompletedDeploymentProgressObjects";
+
+    static final String DOMAIN_RUNTIME_JNDI_NAME = "weblogic.management.mbeanservers.domainruntime";
+
+    private static final String APPLICATION_JSON = "application/json";
+
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    /**
+     * The number of bytes of an upload that are retained to read the deployment model from.
+     */
+    private static final int MODEL_BUFFER_SIZE = 64 * 1024;
+
+    private final FakeWebLogicDomain domain;
+    private final String host;
+    private HttpServer httpServer;
+    private ExecutorService executor;
+    private Registry registry;
+    private JMXConnectorServer jmxConnectorServer;
+    private int jmxPort;
+
+    private volatile long requestLatency = 0;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger purges = new AtomicInteger();
+    private final AtomicLong uploadedBytes = new AtomicLong();
+
+    public FakeWebLogicServer(FakeWebLogicDomain domain) {
+        this.domain = domain;
+        this.host = InetAddress.getLoopbackAddress().getHostAddress();
+    }
+
+    /**
+     * @param millis
+     *     The time by which every HTTP request is delayed (default = 0)
+     */
+    public FakeWebLogicServer setRequestLatency(long millis) {
+        this.requestLatency = millis;
+        return this;
+    }
+
+    /**
+     * Starts serving the REST management API and the Domain Runtime MBean Server, on free ports of the loopback
+     * interface.
+     *
+     * @throws IOException
+     *     When the servers cannot be started.
+     */
+    public synchronized void start() throws IOException {
+        if (httpServer != null) {
+            return;
+        }
+        executor = Executors.newCachedThreadPool(new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "fake-weblogic-http-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        // The response headers and body are written separately. Without TCP_NODELAY, the body would be held back
+        // until the client acknowledges the headers, which adds the delayed acknowledgement time to every request.
+        if (System.getProperty(NODELAY_PROPERTY) == null) {
+            System.setProperty(NODELAY_PROPERTY, "true");
+        }
+        httpServer = HttpServer.create(new InetSocketAddress(host, 0), 0);
+        httpServer.setExecutor(executor);
+        httpServer.createContext("/management", new ManagementHandler());
+        httpServer.start();
+
+        try {
+            jmxPort = findFreePort();
+            registry = LocateRegistry.createRegistry(jmxPort);
+            JMXServiceURL serviceURL = new JMXServiceURL("service:jmx:rmi:///jndi/rmi://" + host + ":" + jmxPort + "/"
+                + DOMAIN_RUNTIME_JNDI_NAME);
+            jmxConnectorServer =
+                JMXConnectorServerFactory.newJMXConnectorServer(serviceURL, null, domain.getMBeanServer());
+            jmxConnectorServer.start();
+        } catch (IOException ioEx) {
+            stop();
+            throw ioEx;
+        }
+        logger.log(Level.FINE, "Serving the REST management API at {0}, and JMX at port {1}",
+            new Object[] {getAdminUrl(), jmxPort});
+    }
+
+    /**
+     * Stops serving the REST management API and the Domain Runtime MBean Server.
+     */
+    public synchronized void stop() {
+        if (jmxConnectorServer != null) {
+            try {
+                jmxConnectorServer.stop();
+            } catch (IOException ioEx) {
+                logger.log(Level.FINE, "Failed to stop the JMX connector server.", ioEx);
+            }
+            jmxConnectorServer = null;
+        }
+        if (registry != null) {
+            try {
+                UnicastRemoteObject.unexportObject(registry, true);
+            } catch (NoSuchObjectException notExportedEx) {
+                // Already unexported
+            }
+            registry = null;
+        }
+        if (httpServer != null) {
+            httpServer.stop(0);
+            httpServer = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    public FakeWebLogicDomain getDomain() {
+        return domain;
+    }
+
+    /**
+     * @return The URL of the REST management API, to be used as the admin URL of the container configuration.
+     */
+    public String getAdminUrl() {
+        return "http://" + host + ":" + httpServer.getAddress().getPort();
+    }
+
+    public String getJmxHost() {
+        return host;
+    }
+
+    /**
+     * @return The port of the RMI registry, to be used as the JMX port of the container configuration.
+     */
+    public int getJmxPort() {
+        return jmxPort;
+    }
+
+    /**
+     * @return The JNDI properties with which the Domain Runtime MBean Server is looked up through the <code>rmi</code>
+     * JMX protocol. These must be set as system properties, since the JMX client does not pass them.
+     */
+    public Properties getJndiProperties() {
+        Properties properties = new Properties();
+        properties.setProperty(Context.INITIAL_CONTEXT_FACTORY, "com.sun.jndi.rmi.registry.RegistryContextFactory");
+        properties.setProperty(Context.PROVIDER_URL, "rmi://" + host + ":" + jmxPort);
+        return properties;
+    }
+
+    /**
+     * @return The number of HTTP requests served so far.
+     */
+    public int getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * @return The number of purges of the deployment progress objects requested so far.
+     */
+    public int getPurgeCount() {
+        return purges.get();
+    }
+
+    /**
+     * @return The number of bytes uploaded in deployment requests so far.
+     */
+    public long getUploadedBytes() {
+        return uploadedBytes.get();
+    }
+
+    private static int findFreePort() throws IOException {
+        ServerSocket socket = new ServerSocket(0);
+        try {
+            return socket.getLocalPort();
+        } finally {
+            socket.close();
+        }
+    }
+
+    /**
+     * Serves the resources of the REST management API.
+     */
+    private class ManagementHandler implements HttpHandler {
+
+        public void handle(HttpExchange exchange) throws IOException {
+            requests.incrementAndGet();
+            FakeWebLogicDomain.sleep(requestLatency);
+            try {
+                String method = exchange.getRequestMethod();
+                String path = exchange.getRequestURI().getPath();
+                if (path.equals(APPLICATIONS_URI) && method.equals("POST")) {
+                    deploy(exchange);
+                } else if (path.startsWith(APPLICATION_ID_URI) && method.equals("GET")) {
+                    getApplication(exchange, path.substring(APPLICATION_ID_URI.length()));
+                } else if (path.startsWith(APPLICATION_ID_URI) && method.equals("DELETE")) {
+                    undeploy(exchange, path.substring(APPLICATION_ID_URI.length()));
+                } else if (path.startsWith(MONITORING_URI) && method.equals("GET")) {
+                    getServer(exchange, path.substring(MONITORING_URI.length()));
+                } else if (path.equals(DOMAIN_CONFIG_URI) && method.equals("GET")) {
+                    respond(exchange, 200, Json.createObjectBuilder()
+                        .add("rootDirectory", domain.getRootDirectory()).build());
+                } else if (path.equals(PURGE_PROGRESS_OBJECTS_URI) && method.equals("POST")) {
+                    drain(exchange.getRequestBody(), null);
+                    domain.purgeCompletedDeploymentProgressObjects();
+                    purges.incrementAndGet();
+                    respond(exchange, 200, Json.createObjectBuilder().build());
+                } else {
+                    respond(exchange, 404, failure("Not found: " + method + " " + path));
+                }
+            } catch (Exception ex) {
+                logger.log(Level.WARNING, "Failed to serve " + exchange.getRequestURI(), ex);
+                respond(exchange, 500, failure(String.valueOf(ex.getMessage())));
+            } finally {
+                exchange.close();
+            }
+        }
+
+        /**
+         * Reads the name and target of the application from the JSON model part of the multipart upload, and
+         * deploys the application once the deployment latency has elapsed.
+         */
+        private void deploy(HttpExchange exchange) throws Exception {
+            ByteArrayOutputStream head = new ByteArrayOutputStream();
+            long length = drain(exchange.getRequestBody(), head);
+            uploadedBytes.addAndGet(length);
+
+            JsonObject model = readModel(head.toString("ISO-8859-1"));
+            if (model == null || !model.containsKey("name")) {
+                respond(exchange, 400, failure("The deployment model is missing."));
+                return;
+            }
+            String name = model.getString("name");
+            if (model.containsKey("targets")) {
+                String target = model.getJsonArray("targets").getString(0);
+                if (!target.equals(domain.getTarget())) {
+                    respond(exchange, 400, failure("The target " + target + " does not exist."));
+                    return;
+                }
+            }
+
+            domain.deploy(name);
+            // The REST management API responds once the deployment has completed.
+            FakeWebLogicDomain.sleep(domain.getDeploymentLatency());
+
+            exchange.getResponseHeaders().set("Location", getAdminUrl() + APPLICATION_ID_URI + name);
+            respond(exchange, 201, Json.createObjectBuilder()
+                .add("messages", Json.createArrayBuilder().add(Json.createObjectBuilder()
+                    .add("severity", "SUCCESS")
+                    .add("message", "Deployed the application '" + name + "'.")))
+                .build());
+        }
+
+        private void getApplication(HttpExchange exchange, String name) throws IOException {
+            if (!domain.isDeployed(name)) {
+                respond(exchange, 404, failure("The application " + name + " is not deployed."));
+                return;
+            }
+            JsonArrayBuilder servlets = Json.createArrayBuilder();
+            for (String servletName : domain.getServletNames()) {
+                servlets.add(Json.createObjectBuilder()
+                    .add("servletName", servletName)
+                    .add("contextPath", "/" + name));
+            }
+            respond(exchange, 200, Json.createObjectBuilder()
+                .add("item", Json.createObjectBuilder()
+                    .add("name", name)
+                    .add("type", "application")
+                    .add("state", "active")
+                    .add("targets", Json.createArrayBuilder().add(domain.getTarget()))
+                    .add("servlets", servlets))
+                .build());
+        }
+
+        private void undeploy(HttpExchange exchange, String name) throws Exception {
+            if (!domain.isDeployed(name)) {
+                respond(exchange, 404, failure("The application " + name + " is not deployed."));
+                return;
+            }
+            domain.undeploy(name);
+            FakeWebLogicDomain.sleep(domain.getDeploymentLatency());
+            respond(exchange, 200, Json.createObjectBuilder()
+                .add("messages", Json.createArrayBuilder().add(Json.createObjectBuilder()
+                    .add("severity", "SUCCESS")
+                    .add("message", "Undeployed the application '" + name + "'.")))
+                .build());
+        }
+
+        private void getServer(HttpExchange exchange, String name) throws IOException {
+            for (String serverName : domain.getServerNames()) {
+                if (serverName.equals(name)) {
+                    respond(exchange, 200, Json.createObjectBuilder()
+                        .add("body", Json.createObjectBuilder()
+                            .add("item", Json.createObjectBuilder()
+                                .add("name", name)
+                                .add("state", "running")
+                                .add("health", "HEALTH_OK")))
+                        .add("messages", Json.createArrayBuilder())
+                        .build());
+                    return;
+                }
+            }
+            respond(exchange, 404, failure("The server " + name + " does not exist."));
+        }
+    }
+
+    /**
+     * Reads the JSON model part from the head of a multipart request body.
+     *
+     * @return The model, or <code>null</code> if the body has no model part.
+     */
+    private static JsonObject readModel(String body) {
+        int part = body.indexOf("name=\"model\"");
+        if (part == -1) {
+            return null;
+        }
+        int start = body.indexOf("\r\n\r\n", part);
+        int end = start == -1 ? -1 : body.indexOf("\r\n--", start + 4);
+        if (end == -1) {
+            return null;
+        }
+        JsonReader reader = Json.createReader(new StringReader(body.substring(start + 4, end)));
+        try {
+            return reader.readObject();
+        } catch (RuntimeException parseEx) {
+            return null;
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Reads a request body to its end, retaining its head.
+     *
+     * @return The length of the body.
+     */
+    private static long drain(InputStream in, ByteArrayOutputStream head) throws IOException {
+        byte[] buffer = new byte[8192];
+        long length = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            if (head != null && head.size() < MODEL_BUFFER_SIZE) {
+                head.write(buffer, 0, Math.min(read, MODEL_BUFFER_SIZE - head.size()));
+            }
+            length += read;
+        }
+        return length;
+    }
+
+    private static JsonObject failure(String message) {
+        return Json.createObjectBuilder()
+            .add("item", Json.createObjectBuilder()
+                .add("status", "FAIL")
+                .add("error", message))
+            .build();
+    }
+
+    private static void respond(HttpExchange exchange, int status, JsonObject entity) throws IOException {
+        byte[] body = entity.toString().getBytes("UTF-8");
+        exchange.getResponseHeaders().set("Content-Type", APPLICATION_JSON);
+        exchange.sendResponseHeaders(status, body.length);
+        OutputStream out = exchange.getResponseBody();
+        try {
+            out.write(body);
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat Middleware LLC, and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.arquillian.container.wls.fake;
+
+import java.io.File;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import org.jboss.arquillian.container.spi.client.protocol.metadata.HTTPContext;
+import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
+import org.jboss.arquillian.container.wls.CommonWebLogicConfiguration;
+import org.jboss.arquillian.container.wls.WebLogicJMXClient;
+import org.jboss.arquillian.container.wls.rest.RESTUtils;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies that the REST and JMX clients of the container adapters can deploy to the stand-in server.
+ */
+public class FakeWebLogicServerTest {
+
+    private static final Logger log = Logger.getLogger(FakeWebLogicServerTest.class.getName());
+
+    private FakeWebLogicServer server;
+    private Properties originalSystemProperties;
+
+    @After
+    public void stopServer() {
+        if (server != null) {
+            server.stop();
+        }
+        if (originalSystemProperties != null) {
+            System.setProperties(originalSystemProperties);
+        }
+    }
+
+    @Test
+    public void shouldDeployAndUndeployThroughREST() throws Exception {
+        server = startServer(1);
+        CommonWebLogicConfiguration configuration = createConfiguration();
+        WebArchive archive = ShrinkWrap.create(WebArchive.class, "test.war")
+            .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        assertTrue(RESTUtils.isServerRunning(configuration, log));
+
+        ProtocolMetaData metadata = RESTUtils.deploy(configuration, log, archive);
+        HTTPContext context = metadata.getContexts(HTTPContext.class).iterator().next();
+        assertThat(context.getServletByName("ArquillianServletRunner").getContextRoot(), equalTo("/test"));
+        assertTrue(server.getDomain().isDeployed("test"));
+        assertTrue(server.getUploadedBytes() > 0);
+
+        RESTUtils.undeploy(configuration, log, archive);
+        assertFalse(server.getDomain().isDeployed("test"));
+
+        RESTUtils.closeProgressPurger(configuration);
+        assertThat(server.getPurgeCount(), equalTo(1));
+        assertThat(server.getDomain().getDeploymentProgressObjectCount(), equalTo(0));
+    }
+
+    @Test
+    public void shouldDeployAndUndeployThroughJMX() throws Exception {
+        server = startServer(3);
+        server.getDomain().setDeploymentLatency(100);
+        originalSystemProperties = (Properties) System.getProperties().clone();
+        System.getProperties().putAll(server.getJndiProperties());
+
+        CommonWebLogicConfiguration configuration = createConfiguration();
+        configuration.setJmxProtocol("rmi");
+        configuration.setJmxHost(server.getJmxHost());
+        configuration.setJmxPort(server.getJmxPort());
+        configuration.setJmxClientJarPath(new File("target", "wljmxclient.jar").getAbsolutePath());
+
+        WebLogicJMXClient client = new WebLogicJMXClient(configuration);
+        try {
+            assertTrue(client.isDeploymentManagerAvailable());
+
+            ProtocolMetaData metadata = client.deploy("test", new File("target", "test.war"), "Cluster");
+            assertThat(metadata.getContexts(HTTPContext.class).size(), equalTo(3));
+            assertTrue(client.getLastDeploymentProgressLatency() >= 100);
+
+            client.undeploy("test");
+            client.verifyUndeployment("test");
+        } finally {
+            client.close();
+        }
+        assertThat(server.getDomain().getDeploymentProgressObjectCount(), equalTo(0));
+    }
+
+    @Test
+    public void shouldDelayRequests() throws Exception {
+        server = startServer(1);
+        server.setRequestLatency(200);
+        CommonWebLogicConfiguration configuration = createConfiguration();
+
+        long start = System.currentTimeMillis();
+        assertTrue(RESTUtils.isServerRunning(configuration, log));
+        assertTrue(System.currentTimeMillis() - start >= 200);
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    private static FakeWebLogicServer startServer(int servers) throws Exception {
+        FakeWebLogicServer server = new FakeWebLogicServer(new FakeWebLogicDomain(servers));
+        server.start();
+        return server;
+    }
+
+    private CommonWebLogicConfiguration createConfiguration() {
+        CommonWebLogicConfiguration configuration = new CommonWebLogicConfiguration();
+        configuration.setAdminUrl(server.getAdminUrl());
+        configuration.setAdminUserName("weblogic");
+        configuration.setAdminPassword("welcome1");
+        configuration.setTarget(server.getDomain().getTarget());
+        return configuration;
+    }
+}
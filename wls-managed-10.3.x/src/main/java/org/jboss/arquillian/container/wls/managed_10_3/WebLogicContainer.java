@@ -16,6 +16,9 @@
  */
 package org.jboss.arquillian.container.wls.managed_10_3;
 
+import java.util.List;
+import java.util.concurrent.Future;
+
 import org.jboss.arquillian.container.spi.client.container.DeployableContainer;
 import org.jboss.arquillian.container.spi.client.container.DeploymentException;
 import org.jboss.arquillian.container.spi.client.container.LifecycleException;
@@ -23,6 +26,7 @@ import org.jboss.arquillian.container.spi.client.protocol.ProtocolDescription;
 import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
 import org.jboss.arquillian.container.wls.ManagedContainer;
 import org.jboss.arquillian.container.wls.managed_10_3.WebLogicManagedConfiguration;
+import org.jboss.arquillian.container.wls.ConcurrentlyDeployableContainer;
 import org.jboss.shrinkwrap.api.Archive;
 import org.jboss.shrinkwrap.descriptor.api.Descriptor;
 
@@ -31,7 +35,8 @@ import org.jboss.shrinkwrap.descriptor.api.Descriptor;
  *
  * @author Vineet Reynolds
  */
-public class WebLogicContainer implements DeployableContainer<WebLogicManagedConfiguration> {
+public class WebLogicContainer implements DeployableContainer<WebLogicManagedConfiguration>,
+    ConcurrentlyDeployableContainer {
 
     private WebLogicManagedConfiguration configuration;
     private ManagedContainer managedContainer;
@@ -64,6 +69,18 @@ public class WebLogicContainer implements DeployableContainer<WebLogicManagedCon
         return managedContainer.deploy(archive);
     }
 
+    public void deployConcurrently(List<Archive<?>> archives) {
+        managedContainer.deployConcurrently(archives);
+    }
+
+    public void discardConcurrentDeployments() {
+        managedContainer.discardConcurrentDeployments();
+    }
+
+    public Future<ProtocolMetaData> deployAsync(Archive<?> archive) {
+        return managedContainer.deployAsync(archive);
+    }
+
     public void undeploy(Archive<?> archive) throws DeploymentException {
         managedContainer.undeploy(archive);
     }
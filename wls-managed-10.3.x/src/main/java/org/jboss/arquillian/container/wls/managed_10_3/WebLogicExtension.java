@@ -18,6 +18,7 @@ package org.jboss.arquillian.container.wls.managed_10_3;
 
 import org.jboss.arquillian.container.spi.client.container.DeployableContainer;
 import org.jboss.arquillian.container.test.spi.client.deployment.ProtocolArchiveProcessor;
+import org.jboss.arquillian.container.wls.ConcurrentDeploymentObserver;
 import org.jboss.arquillian.core.spi.LoadableExtension;
 
 /**
@@ -29,6 +30,7 @@ public class WebLogicExtension implements LoadableExtension {
 
     public void register(ExtensionBuilder builder) {
         builder.service(DeployableContainer.class, WebLogicContainer.class)
+            .observer(ConcurrentDeploymentObserver.class)
             .service(ProtocolArchiveProcessor.class, WebLogicCDIProcessor.class);
     }
 }
@@ -16,12 +16,16 @@
  */
 package org.jboss.arquillian.container.wls.managed_12_1_2;
 
+import java.util.List;
+import java.util.concurrent.Future;
+
 import org.jboss.arquillian.container.spi.client.container.DeployableContainer;
 import org.jboss.arquillian.container.spi.client.container.DeploymentException;
 import org.jboss.arquillian.container.spi.client.container.LifecycleException;
 import org.jboss.arquillian.container.spi.client.protocol.ProtocolDescription;
 import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
 import org.jboss.arquillian.container.wls.jmx.FullJMXManagedContainer;
+import org.jboss.arquillian.container.wls.ConcurrentlyDeployableContainer;
 import org.jboss.shrinkwrap.api.Archive;
 import org.jboss.shrinkwrap.descriptor.api.Descriptor;
 
@@ -30,7 +34,8 @@ import org.jboss.shrinkwrap.descriptor.api.Descriptor;
  *
  * @author Vineet Reynolds
  */
-public class WebLogicContainer implements DeployableContainer<WebLogicManagedConfiguration> {
+public class WebLogicContainer implements DeployableContainer<WebLogicManagedConfiguration>,
+    ConcurrentlyDeployableContainer {
 
     private WebLogicManagedConfiguration configuration;
     private FullJMXManagedContainer managedContainer;
@@ -66,6 +71,19 @@ public class WebLogicContainer implements DeployableContainer<WebLogicManagedCon
         return managedContainer.deploy(archive);
     }
 
+    @Override
+    public void deployConcurrently(List<Archive<?>> archives) {
+        managedContainer.deployConcurrently(archives);
+    }
+
+    public void discardConcurrentDeployments() {
+        managedContainer.discardConcurrentDeployments();
+    }
+
+    public Future<ProtocolMetaData> deployAsync(Archive<?> archive) {
+        return managedContainer.deployAsync(archive);
+    }
+
     @Override
     public void undeploy(Archive<?> archive) throws DeploymentException {
         managedContainer.undeploy(archive);
@@ -17,6 +17,7 @@
 package org.jboss.arquillian.container.wls.managed_12_1_2;
 
 import org.jboss.arquillian.container.spi.client.container.DeployableContainer;
+import org.jboss.arquillian.container.wls.ConcurrentDeploymentObserver;
 import org.jboss.arquillian.core.spi.LoadableExtension;
 
 /**
@@ -28,6 +29,7 @@ public class WebLogicExtension implements LoadableExtension {
 
     @Override
     public void register(ExtensionBuilder builder) {
-        builder.service(DeployableContainer.class, WebLogicContainer.class);
+        builder.service(DeployableContainer.class, WebLogicContainer.class)
+            .observer(ConcurrentDeploymentObserver.class);
     }
 }
@@ -3,19 +3,28 @@ package org.jboss.arquillian.container.wls.managed.rest;
 import org.jboss.arquillian.container.spi.client.container.DeploymentException;
 import org.jboss.arquillian.container.spi.client.container.LifecycleException;
 import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
+import org.jboss.arquillian.container.wls.ConcurrentDeployer;
+import org.jboss.arquillian.container.wls.ConcurrentlyDeployableContainer;
+import org.jboss.arquillian.container.wls.HTTPContextSelectionStrategies;
+import org.jboss.arquillian.container.wls.HTTPContextSelectionStrategy;
+import org.jboss.arquillian.container.wls.ServerLease;
 import org.jboss.arquillian.container.wls.WebLogicManagedContainer;
+import org.jboss.arquillian.container.wls.rest.PooledRESTClient;
 import org.jboss.arquillian.container.wls.rest.RESTUtils;
 import org.jboss.arquillian.container.wls.WebLogicServerControl;
 import org.jboss.shrinkwrap.api.Archive;
 
 import javax.ws.rs.client.Client;
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * @author <a href="mailto:phil.zampino@oracle.com">Phil Zampino</a>
  */
-public class ManagedContainer implements WebLogicManagedContainer {
+public class ManagedContainer implements WebLogicManagedContainer, ConcurrentlyDeployableContainer {
 
     private static final Logger LOGGER = Logger.getLogger(ManagedContainer.class.getName());
 
@@ -27,20 +36,61 @@ public class ManagedContainer implements WebLogicManagedContainer {
 
     private WebLogicServerControl serverControl;
 
+    private PooledRESTClient restClient;
+
+    private ServerLease serverLease;
+
+    private ConcurrentDeployer concurrentDeployer;
+
+    private HTTPContextSelectionStrategy contextSelectionStrategy;
+
+    private final ConcurrentDeployer.Deployment<File> deployment = new ConcurrentDeployer.Deployment<File>() {
+        public File export(Archive<?> archive) {
+            return RESTUtils.export(config, archive);
+        }
+
+        public ProtocolMetaData activate(Archive<?> archive, File deploymentArchive) throws DeploymentException {
+            return RESTUtils.deploy(restClient.getClient(), config, LOGGER, archive, deploymentArchive,
+                contextSelectionStrategy);
+        }
+
+        public void undeploy(Archive<?> archive) throws DeploymentException {
+            ManagedContainer.this.undeploy(archive);
+        }
+    };
+
     public ManagedContainer(WebLogicManagedConfiguration configuration) {
         config = configuration;
+        concurrentDeployer = new ConcurrentDeployer(configuration.getDeploymentConcurrency());
+        contextSelectionStrategy = HTTPContextSelectionStrategies.create(configuration.getHttpContextSelection());
     }
 
     @Override
     public void start() throws LifecycleException {
-        serverControl = new WebLogicServerControl(config);
-        serverControl.startServer();
+        restClient = new PooledRESTClient(config, LOGGER);
+        serverControl = new WebLogicServerControl(config, restClient);
+        if (config.isKeepWarm()) {
+            serverLease = new ServerLease(config, serverControl);
+            serverLease.acquire();
+        } else {
+            serverControl.startServer();
+        }
     }
 
     @Override
     public void stop() throws LifecycleException {
         // stopUsingREST();
-        serverControl.stopServer();
+        concurrentDeployer.close();
+        RESTUtils.closeProgressPurger(config);
+        try {
+            if (serverLease != null) {
+                serverLease.release();
+            } else {
+                serverControl.stopServer();
+            }
+        } finally {
+            restClient.close();
+        }
     }
 
     private void stopUsingREST() {
@@ -71,9 +121,35 @@ public class ManagedContainer implements WebLogicManagedContainer {
      *
      * @throws org.jboss.arquillian.container.spi.client.container.DeploymentException
      */
-    @SuppressWarnings("resource")
     public ProtocolMetaData deploy(Archive<?> archive) throws DeploymentException {
-        return RESTUtils.deploy(config, LOGGER, archive);
+        return concurrentDeployer.deploy(archive, deployment);
+    }
+
+    /**
+     * Starts deploying the archives concurrently. The results are obtained through {@link #deploy(Archive)}.
+     *
+     * @param archives
+     *     The independent archives to deploy
+     */
+    public void deployConcurrently(List<Archive<?>> archives) {
+        concurrentDeployer.submit(archives, deployment);
+    }
+
+    /**
+     * Undeploys the archives started concurrently whose results were never obtained.
+     */
+    public void discardConcurrentDeployments() {
+        concurrentDeployer.discardPending();
+    }
+
+    /**
+     * Starts deploying an archive in the background, without blocking the calling thread.
+     *
+     * @param archive
+     *     The archive to deploy
+     */
+    public Future<ProtocolMetaData> deployAsync(Archive<?> archive) {
+        return concurrentDeployer.submit(archive, deployment);
     }
 
     /**
@@ -85,6 +161,6 @@ public class ManagedContainer implements WebLogicManagedContainer {
      * @throws org.jboss.arquillian.container.spi.client.container.DeploymentException
      */
     public void undeploy(Archive<?> archive) throws DeploymentException {
-        RESTUtils.undeploy(config, LOGGER, archive);
+        RESTUtils.undeploy(restClient.getClient(), config, archive);
     }
 }
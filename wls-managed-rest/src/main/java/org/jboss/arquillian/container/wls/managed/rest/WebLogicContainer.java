@@ -16,6 +16,9 @@
  */
 package org.jboss.arquillian.container.wls.managed.rest;
 
+import java.util.List;
+import java.util.concurrent.Future;
+
 import org.jboss.arquillian.container.spi.client.container.DeployableContainer;
 import org.jboss.arquillian.container.spi.client.container.DeploymentException;
 import org.jboss.arquillian.container.spi.client.container.LifecycleException;
@@ -23,6 +26,7 @@ import org.jboss.arquillian.container.spi.client.protocol.ProtocolDescription;
 import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
 //import org.jboss.arquillian.container.wls.jmx.ManagedContainer;
 import org.jboss.arquillian.container.wls.managed.rest.ManagedContainer;
+import org.jboss.arquillian.container.wls.ConcurrentlyDeployableContainer;
 import org.jboss.shrinkwrap.api.Archive;
 import org.jboss.shrinkwrap.descriptor.api.Descriptor;
 
@@ -31,7 +35,8 @@ import org.jboss.shrinkwrap.descriptor.api.Descriptor;
  *
  * @author Vineet Reynolds
  */
-public class WebLogicContainer implements DeployableContainer<WebLogicManagedConfiguration> {
+public class WebLogicContainer implements DeployableContainer<WebLogicManagedConfiguration>,
+    ConcurrentlyDeployableContainer {
 
     private WebLogicManagedConfiguration configuration;
     private ManagedContainer managedContainer;
@@ -67,6 +72,19 @@ public class WebLogicContainer implements DeployableContainer<WebLogicManagedCon
         return managedContainer.deploy(archive);
     }
 
+    @Override
+    public void deployConcurrently(List<Archive<?>> archives) {
+        managedContainer.deployConcurrently(archives);
+    }
+
+    public void discardConcurrentDeployments() {
+        managedContainer.discardConcurrentDeployments();
+    }
+
+    public Future<ProtocolMetaData> deployAsync(Archive<?> archive) {
+        return managedContainer.deployAsync(archive);
+    }
+
     @Override
     public void undeploy(Archive<?> archive) throws DeploymentException {
         managedContainer.undeploy(archive);
@@ -16,12 +16,16 @@
  */
 package org.jboss.arquillian.container.wls.remote_10_3;
 
+import java.util.List;
+import java.util.concurrent.Future;
+
 import org.jboss.arquillian.container.spi.client.container.DeployableContainer;
 import org.jboss.arquillian.container.spi.client.container.DeploymentException;
 import org.jboss.arquillian.container.spi.client.container.LifecycleException;
 import org.jboss.arquillian.container.spi.client.protocol.ProtocolDescription;
 import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
 import org.jboss.arquillian.container.wls.RemoteContainer;
+import org.jboss.arquillian.container.wls.ConcurrentlyDeployableContainer;
 import org.jboss.shrinkwrap.api.Archive;
 import org.jboss.shrinkwrap.descriptor.api.Descriptor;
 
@@ -30,7 +34,8 @@ import org.jboss.shrinkwrap.descriptor.api.Descriptor;
  *
  * @author Vineet Reynolds
  */
-public class WebLogicContainer implements DeployableContainer<WebLogicRemoteConfiguration> {
+public class WebLogicContainer implements DeployableContainer<WebLogicRemoteConfiguration>,
+    ConcurrentlyDeployableContainer {
 
     private WebLogicRemoteConfiguration configuration;
     private RemoteContainer remoteContainer;
@@ -63,6 +68,18 @@ public class WebLogicContainer implements DeployableContainer<WebLogicRemoteConf
         return remoteContainer.deploy(archive);
     }
 
+    public void deployConcurrently(List<Archive<?>> archives) {
+        remoteContainer.deployConcurrently(archives);
+    }
+
+    public void discardConcurrentDeployments() {
+        remoteContainer.discardConcurrentDeployments();
+    }
+
+    public Future<ProtocolMetaData> deployAsync(Archive<?> archive) {
+        return remoteContainer.deployAsync(archive);
+    }
+
     public void undeploy(Archive<?> archive) throws DeploymentException {
         remoteContainer.undeploy(archive);
     }
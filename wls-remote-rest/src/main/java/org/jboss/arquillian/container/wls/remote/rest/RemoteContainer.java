@@ -16,12 +16,21 @@
  */
 package org.jboss.arquillian.container.wls.remote.rest;
 
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.jboss.arquillian.container.spi.client.container.DeploymentException;
+import org.jboss.arquillian.container.spi.client.container.LifecycleException;
 import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
+import org.jboss.arquillian.container.wls.ConcurrentDeployer;
+import org.jboss.arquillian.container.wls.ConcurrentlyDeployableContainer;
+import org.jboss.arquillian.container.wls.HTTPContextSelectionStrategies;
+import org.jboss.arquillian.container.wls.HTTPContextSelectionStrategy;
 import org.jboss.arquillian.container.wls.WebLogicRemoteContainer;
+import org.jboss.arquillian.container.wls.rest.PooledRESTClient;
 import org.jboss.arquillian.container.wls.rest.RESTUtils;
 import org.jboss.shrinkwrap.api.Archive;
 
@@ -35,7 +44,7 @@ import javax.ws.rs.client.Client;
  *
  * @author Vineet Reynolds
  */
-public class RemoteContainer implements WebLogicRemoteContainer {
+public class RemoteContainer implements WebLogicRemoteContainer, ConcurrentlyDeployableContainer {
     private static final Logger LOGGER = Logger.getLogger(RemoteContainer.class.getName());
 
     static {
@@ -44,8 +53,54 @@ public class RemoteContainer implements WebLogicRemoteContainer {
 
     protected WebLogicRemoteConfiguration config;
 
+    private PooledRESTClient restClient;
+
+    private ConcurrentDeployer concurrentDeployer;
+
+    private HTTPContextSelectionStrategy contextSelectionStrategy;
+
+    private final ConcurrentDeployer.Deployment<File> deployment = new ConcurrentDeployer.Deployment<File>() {
+        public File export(Archive<?> archive) {
+            return RESTUtils.export(config, archive);
+        }
+
+        public ProtocolMetaData activate(Archive<?> archive, File deploymentArchive) throws DeploymentException {
+            return RESTUtils.deploy(restClient.getClient(), config, LOGGER, archive, deploymentArchive,
+                contextSelectionStrategy);
+        }
+
+        public void undeploy(Archive<?> archive) throws DeploymentException {
+            RemoteContainer.this.undeploy(archive);
+        }
+    };
+
     public RemoteContainer(WebLogicRemoteConfiguration configuration) {
         config = configuration;
+        concurrentDeployer = new ConcurrentDeployer(configuration.getDeploymentConcurrency());
+        contextSelectionStrategy = HTTPContextSelectionStrategies.create(configuration.getHttpContextSelection());
+    }
+
+    /**
+     * Creates the REST client that is used for all deployments made through this container.
+     *
+     * @throws LifecycleException
+     */
+    public void start() throws LifecycleException {
+        restClient = new PooledRESTClient(config, LOGGER);
+    }
+
+    /**
+     * Closes the REST client and the connections held by it.
+     *
+     * @throws LifecycleException
+     */
+    public void stop() throws LifecycleException {
+        concurrentDeployer.close();
+        RESTUtils.closeProgressPurger(config);
+        if (restClient != null) {
+            restClient.close();
+            restClient = null;
+        }
     }
 
     /**
@@ -58,9 +113,35 @@ public class RemoteContainer implements WebLogicRemoteContainer {
      *
      * @throws org.jboss.arquillian.container.spi.client.container.DeploymentException
      */
-    @SuppressWarnings("resource")
     public ProtocolMetaData deploy(Archive<?> archive) throws DeploymentException {
-        return RESTUtils.deploy(config, LOGGER, archive);
+        return concurrentDeployer.deploy(archive, deployment);
+    }
+
+    /**
+     * Starts deploying the archives concurrently. The results are obtained through {@link #deploy(Archive)}.
+     *
+     * @param archives
+     *     The independent archives to deploy
+     */
+    public void deployConcurrently(List<Archive<?>> archives) {
+        concurrentDeployer.submit(archives, deployment);
+    }
+
+    /**
+     * Undeploys the archives started concurrently whose results were never obtained.
+     */
+    public void discardConcurrentDeployments() {
+        concurrentDeployer.discardPending();
+    }
+
+    /**
+     * Starts deploying an archive in the background, without blocking the calling thread.
+     *
+     * @param archive
+     *     The archive to deploy
+     */
+    public Future<ProtocolMetaData> deployAsync(Archive<?> archive) {
+        return concurrentDeployer.submit(archive, deployment);
     }
 
     /**
@@ -72,6 +153,6 @@ public class RemoteContainer implements WebLogicRemoteContainer {
      * @throws org.jboss.arquillian.container.spi.client.container.DeploymentException
      */
     public void undeploy(Archive<?> archive) throws DeploymentException {
-        RESTUtils.undeploy(config, LOGGER, archive);
+        RESTUtils.undeploy(restClient.getClient(), config, archive);
     }
 }
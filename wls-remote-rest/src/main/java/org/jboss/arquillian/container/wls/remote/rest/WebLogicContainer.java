@@ -16,12 +16,15 @@
  */
 package org.jboss.arquillian.container.wls.remote.rest;
 
+import java.util.List;
+import java.util.concurrent.Future;
+
 import org.jboss.arquillian.container.spi.client.container.DeployableContainer;
 import org.jboss.arquillian.container.spi.client.container.DeploymentException;
 import org.jboss.arquillian.container.spi.client.container.LifecycleException;
 import org.jboss.arquillian.container.spi.client.protocol.ProtocolDescription;
 import org.jboss.arquillian.container.spi.client.protocol.metadata.ProtocolMetaData;
-import org.jboss.arquillian.container.wls.WebLogicRemoteContainer;
+import org.jboss.arquillian.container.wls.ConcurrentlyDeployableContainer;
 import org.jboss.shrinkwrap.api.Archive;
 import org.jboss.shrinkwrap.descriptor.api.Descriptor;
 
@@ -30,11 +33,12 @@ import org.jboss.shrinkwrap.descriptor.api.Descriptor;
  *
  * @author Vineet Reynolds
  */
-public class WebLogicContainer implements DeployableContainer<WebLogicRemoteConfiguration> {
+public class WebLogicContainer implements DeployableContainer<WebLogicRemoteConfiguration>,
+    ConcurrentlyDeployableContainer {
 
     private WebLogicRemoteConfiguration configuration;
 
-    private WebLogicRemoteContainer remoteContainer;
+    private RemoteContainer remoteContainer;
 
     public Class<WebLogicRemoteConfiguration> getConfigurationClass() {
         return WebLogicRemoteConfiguration.class;
@@ -46,9 +50,11 @@ public class WebLogicContainer implements DeployableContainer<WebLogicRemoteConf
     }
 
     public void start() throws LifecycleException {
+        remoteContainer.start();
     }
 
     public void stop() throws LifecycleException {
+        remoteContainer.stop();
     }
 
     public ProtocolDescription getDefaultProtocol() {
@@ -59,6 +65,18 @@ public class WebLogicContainer implements DeployableContainer<WebLogicRemoteConf
         return remoteContainer.deploy(archive);
     }
 
+    public void deployConcurrently(List<Archive<?>> archives) {
+        remoteContainer.deployConcurrently(archives);
+    }
+
+    public void discardConcurrentDeployments() {
+        remoteContainer.discardConcurrentDeployments();
+    }
+
+    public Future<ProtocolMetaData> deployAsync(Archive<?> archive) {
+        return remoteContainer.deployAsync(archive);
+    }
+
     public void undeploy(Archive<?> archive) throws DeploymentException {
         remoteContainer.undeploy(archive);
     }